@@ -0,0 +1,31 @@
+package com.variavel.gamificationservice.achievement;
+
+import java.util.List;
+
+// Catálogo de conquistas, medalhas e desafios diários
+public final class AchievementCatalog {
+
+    public static final List<AchievementRule> RULES = List.of(
+            // Conquistas
+            new AchievementRule("FIRST_PREDICTION", "Estreante", "Tenha o primeiro palpite pontuado", Medal.BRONZE, Counter.PREDICTIONS_SCORED, 1),
+            new AchievementRule("PREDICTIONS_50", "Palpiteiro", "Tenha 50 palpites pontuados", Medal.SILVER, Counter.PREDICTIONS_SCORED, 50),
+            new AchievementRule("PREDICTIONS_500", "Veterano", "Tenha 500 palpites pontuados", Medal.GOLD, Counter.PREDICTIONS_SCORED, 500),
+            new AchievementRule("CORRECT_OUTCOMES_10", "Bom de bola", "Acerte o resultado de 10 partidas", Medal.BRONZE, Counter.CORRECT_OUTCOMES, 10),
+            new AchievementRule("CORRECT_OUTCOMES_100", "Analista", "Acerte o resultado de 100 partidas", Medal.SILVER, Counter.CORRECT_OUTCOMES, 100),
+            new AchievementRule("FIRST_EXACT_SCORE", "Na mosca", "Acerte um placar exato", Medal.BRONZE, Counter.EXACT_SCORES, 1),
+            new AchievementRule("EXACT_SCORES_10", "Vidente", "Acerte 10 placares exatos", Medal.SILVER, Counter.EXACT_SCORES, 10),
+            new AchievementRule("EXACT_SCORES_50", "Oráculo", "Acerte 50 placares exatos", Medal.GOLD, Counter.EXACT_SCORES, 50),
+            new AchievementRule("FIXTURES_VIEWED_100", "Torcedor assíduo", "Acompanhe 100 partidas", Medal.BRONZE, Counter.FIXTURES_VIEWED, 100),
+            new AchievementRule("FIRST_COMMENT", "Comentarista", "Publique o primeiro comentário", Medal.BRONZE, Counter.COMMENTS_POSTED, 1),
+            new AchievementRule("COMMENTS_100", "Resenha", "Publique 100 comentários", Medal.SILVER, Counter.COMMENTS_POSTED, 100),
+
+            // Desafios diários
+            new AchievementRule("DAILY_PREDICTIONS_3", "Rodada cheia", "Tenha 3 palpites pontuados hoje", null, Counter.DAILY_PREDICTIONS_SCORED, 3),
+            new AchievementRule("DAILY_CORRECT_OUTCOMES_2", "Dia inspirado", "Acerte o resultado de 2 partidas hoje", null, Counter.DAILY_CORRECT_OUTCOMES, 2),
+            new AchievementRule("DAILY_FIXTURES_VIEWED_5", "Maratona", "Acompanhe 5 partidas hoje", null, Counter.DAILY_FIXTURES_VIEWED, 5),
+            new AchievementRule("DAILY_COMMENTS_3", "Resenha do dia", "Publique 3 comentários hoje", null, Counter.DAILY_COMMENTS_POSTED, 3)
+    );
+
+    private AchievementCatalog() {
+    }
+}
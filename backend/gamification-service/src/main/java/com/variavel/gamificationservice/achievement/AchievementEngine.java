@@ -0,0 +1,183 @@
+package com.variavel.gamificationservice.achievement;
+
+import com.variavel.gamificationservice.util.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Motor incremental de conquistas. As regras são compiladas uma vez: para cada tipo de evento, os contadores
+// que ele incrementa; para cada contador, as regras ordenadas pelo limite. Um evento só toca os contadores
+// que dependem dele e, para cada um, busca por bisseção as regras cujo limite foi cruzado (antes < limite <= depois),
+// sem reavaliar o histórico do usuário. Contadores ficam em mapas primitivos long -> int por contador.
+//
+// Um contador que volta atrás (recarga de um checkpoint anterior a uma queda) pode cruzar o mesmo limite de
+// novo: a concessão é idempotente no banco (chave única por usuário, conquista e período).
+public class AchievementEngine {
+
+    private static final Counter[] COUNTERS = Counter.values();
+
+    private final Counter[][] countersByEvent = new Counter[AchievementEventType.values().length][];
+    private final AchievementRule[][] rulesByCounter = new AchievementRule[COUNTERS.length][];
+    private final int[][] thresholdsByCounter = new int[COUNTERS.length][];
+
+    private final LongIntHashMap[] values = new LongIntHashMap[COUNTERS.length];
+    // Usuários com o contador alterado desde o último checkpoint (o valor do mapa não é usado)
+    private final LongIntHashMap[] dirty = new LongIntHashMap[COUNTERS.length];
+    // Valores diários do dia anterior ainda não gravados quando o dia virou (ou de um checkpoint que falhou)
+    private CounterCheckpoint pending = new CounterCheckpoint(0);
+    private int currentDay;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public AchievementEngine(Collection<AchievementRule> rules, int expectedUsers, int today) {
+        Map<AchievementEventType, List<Counter>> byEvent = new EnumMap<>(AchievementEventType.class);
+        for (Counter counter : COUNTERS) {
+            byEvent.computeIfAbsent(counter.source(), type -> new ArrayList<>()).add(counter);
+        }
+        for (AchievementEventType type : AchievementEventType.values()) {
+            countersByEvent[type.ordinal()] = byEvent.getOrDefault(type, List.of()).toArray(new Counter[0]);
+        }
+        for (Counter counter : COUNTERS) {
+            AchievementRule[] sorted = rules.stream()
+                    .filter(rule -> rule.counter() == counter)
+                    .sorted(Comparator.comparingInt(AchievementRule::threshold))
+                    .toArray(AchievementRule[]::new);
+            rulesByCounter[counter.ordinal()] = sorted;
+            thresholdsByCounter[counter.ordinal()] = Arrays.stream(sorted).mapToInt(AchievementRule::threshold).toArray();
+            values[counter.ordinal()] = new LongIntHashMap(counter.daily() ? expectedUsers / 8 : expectedUsers);
+            dirty[counter.ordinal()] = new LongIntHashMap();
+        }
+        this.currentDay = today;
+    }
+
+    // Registra um evento e retorna as conquistas atingidas por ele (normalmente nenhuma)
+    public List<Award> record(long userId, AchievementEventType type, int points, int today) {
+        List<Award> awards = new ArrayList<>(0);
+        lock.lock();
+        try {
+            rollDay(today);
+            apply(userId, type, points, awards);
+        } finally {
+            lock.unlock();
+        }
+        return awards;
+    }
+
+    // Versão em lote (ex: palpites de uma partida recém-pontuada): uma única aquisição do lock
+    public List<Award> record(long[] userIds, int[] points, int count, AchievementEventType type, int today) {
+        List<Award> awards = new ArrayList<>();
+        lock.lock();
+        try {
+            rollDay(today);
+            for (int i = 0; i < count; i++) {
+                apply(userIds[i], type, points[i], awards);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return awards;
+    }
+
+    public int get(long userId, Counter counter, int today) {
+        lock.lock();
+        try {
+            rollDay(today);
+            return values[counter.ordinal()].get(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Carga inicial a partir do último checkpoint (só os contadores acumulados e os do dia corrente)
+    public void load(long userId, Counter counter, int value) {
+        lock.lock();
+        try {
+            values[counter.ordinal()].put(userId, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CounterCheckpoint drainDirty(int today) {
+        lock.lock();
+        try {
+            rollDay(today);
+            CounterCheckpoint checkpoint = pending;
+            pending = new CounterCheckpoint(0);
+            for (Counter counter : COUNTERS) {
+                collectDirty(counter, checkpoint);
+            }
+            return checkpoint;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Checkpoint que não pôde ser gravado: volta para a fila. Os valores são absolutos e gravados em ordem,
+    // então um valor mais novo do mesmo contador, drenado depois, prevalece.
+    public void restore(CounterCheckpoint checkpoint) {
+        lock.lock();
+        try {
+            CounterCheckpoint merged = new CounterCheckpoint(checkpoint.size + pending.size);
+            merged.addAll(checkpoint);
+            merged.addAll(pending);
+            pending = merged;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(long userId, AchievementEventType type, int points, List<Award> awards) {
+        for (Counter counter : countersByEvent[type.ordinal()]) {
+            if (!counter.counts(points)) {
+                continue;
+            }
+            int c = counter.ordinal();
+            int after = values[c].addTo(userId, 1);
+            dirty[c].put(userId, 0);
+            int[] thresholds = thresholdsByCounter[c];
+            // Incremento de 1: as regras cruzadas são exatamente as de limite igual ao novo valor
+            int index = Arrays.binarySearch(thresholds, after);
+            if (index < 0) {
+                continue;
+            }
+            while (index > 0 && thresholds[index - 1] == after) {
+                index--; // Várias regras com o mesmo limite
+            }
+            for (; index < thresholds.length && thresholds[index] == after; index++) {
+                awards.add(new Award(userId, rulesByCounter[c][index], counter.daily() ? currentDay : 0));
+            }
+        }
+    }
+
+    // Na virada do dia os contadores diários zeram; os valores ainda não gravados vão para 'pending' com o dia antigo
+    private void rollDay(int today) {
+        if (today <= currentDay) {
+            return;
+        }
+        for (Counter counter : COUNTERS) {
+            if (counter.daily()) {
+                collectDirty(counter, pending);
+                values[counter.ordinal()].clear();
+            }
+        }
+        currentDay = today;
+    }
+
+    private void collectDirty(Counter counter, CounterCheckpoint target) {
+        LongIntHashMap changed = dirty[counter.ordinal()];
+        if (changed.size() == 0) {
+            return;
+        }
+        LongIntHashMap current = values[counter.ordinal()];
+        int periodDay = counter.daily() ? currentDay : 0;
+        changed.forEach((userId, ignored) -> target.add(userId, counter, periodDay, current.get(userId)));
+        changed.clear();
+    }
+}
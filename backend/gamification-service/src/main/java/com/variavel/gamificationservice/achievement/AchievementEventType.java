@@ -0,0 +1,19 @@
+package com.variavel.gamificationservice.achievement;
+
+// Eventos que alimentam os contadores das conquistas
+public enum AchievementEventType {
+    PREDICTION_SCORED(false), // Palpite pontuado pela primeira vez (points informa a pontuação); só a pontuação gera
+    FIXTURE_VIEWED(true),
+    COMMENT_POSTED(true);
+
+    private final boolean clientReported;
+
+    AchievementEventType(boolean clientReported) {
+        this.clientReported = clientReported;
+    }
+
+    // Pode ser registrado pelo cliente em POST /api/v1/achievements/events
+    public boolean clientReported() {
+        return clientReported;
+    }
+}
@@ -0,0 +1,10 @@
+package com.variavel.gamificationservice.achievement;
+
+// Regra de conquista: concedida quando o contador atinge o limite. Regras de contadores diários são
+// desafios diários (podem ser concluídos uma vez por dia) e não dão medalha.
+public record AchievementRule(String code, String name, String description, Medal medal, Counter counter, int threshold) {
+
+    public boolean daily() {
+        return counter.daily();
+    }
+}
@@ -0,0 +1,5 @@
+package com.variavel.gamificationservice.achievement;
+
+// Conquista atingida por um usuário. periodDay = 0 para conquistas; o dia (epoch day, UTC) para desafios diários.
+public record Award(long userId, AchievementRule rule, int periodDay) {
+}
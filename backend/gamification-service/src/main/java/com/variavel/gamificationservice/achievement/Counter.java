@@ -0,0 +1,42 @@
+package com.variavel.gamificationservice.achievement;
+
+import com.variavel.gamificationservice.scoring.PredictionScorer;
+
+import java.util.function.IntPredicate;
+
+// Contadores por usuário de que as regras dependem. Cada contador é incrementado por um tipo de evento,
+// opcionalmente filtrado pela pontuação do palpite; os diários zeram na virada do dia (UTC).
+public enum Counter {
+    PREDICTIONS_SCORED(AchievementEventType.PREDICTION_SCORED, false, points -> true),
+    CORRECT_OUTCOMES(AchievementEventType.PREDICTION_SCORED, false, points -> points > 0),
+    EXACT_SCORES(AchievementEventType.PREDICTION_SCORED, false, points -> points == PredictionScorer.EXACT_SCORE_POINTS),
+    FIXTURES_VIEWED(AchievementEventType.FIXTURE_VIEWED, false, points -> true),
+    COMMENTS_POSTED(AchievementEventType.COMMENT_POSTED, false, points -> true),
+
+    DAILY_PREDICTIONS_SCORED(AchievementEventType.PREDICTION_SCORED, true, points -> true),
+    DAILY_CORRECT_OUTCOMES(AchievementEventType.PREDICTION_SCORED, true, points -> points > 0),
+    DAILY_FIXTURES_VIEWED(AchievementEventType.FIXTURE_VIEWED, true, points -> true),
+    DAILY_COMMENTS_POSTED(AchievementEventType.COMMENT_POSTED, true, points -> true);
+
+    private final AchievementEventType source;
+    private final boolean daily;
+    private final IntPredicate condition;
+
+    Counter(AchievementEventType source, boolean daily, IntPredicate condition) {
+        this.source = source;
+        this.daily = daily;
+        this.condition = condition;
+    }
+
+    public AchievementEventType source() {
+        return source;
+    }
+
+    public boolean daily() {
+        return daily;
+    }
+
+    public boolean counts(int points) {
+        return condition.test(points);
+    }
+}
@@ -0,0 +1,42 @@
+package com.variavel.gamificationservice.achievement;
+
+import java.util.Arrays;
+
+// Valores de contadores alterados desde o último checkpoint, em arrays paralelos
+public final class CounterCheckpoint {
+
+    public long[] userIds;
+    public Counter[] counters;
+    public int[] periodDays;
+    public int[] values;
+    public int size;
+
+    public CounterCheckpoint(int capacity) {
+        int initial = Math.max(16, capacity);
+        this.userIds = new long[initial];
+        this.counters = new Counter[initial];
+        this.periodDays = new int[initial];
+        this.values = new int[initial];
+    }
+
+    public void add(long userId, Counter counter, int periodDay, int value) {
+        if (size == userIds.length) {
+            int capacity = size << 1;
+            userIds = Arrays.copyOf(userIds, capacity);
+            counters = Arrays.copyOf(counters, capacity);
+            periodDays = Arrays.copyOf(periodDays, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        userIds[size] = userId;
+        counters[size] = counter;
+        periodDays[size] = periodDay;
+        values[size] = value;
+        size++;
+    }
+
+    public void addAll(CounterCheckpoint other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.userIds[i], other.counters[i], other.periodDays[i], other.values[i]);
+        }
+    }
+}
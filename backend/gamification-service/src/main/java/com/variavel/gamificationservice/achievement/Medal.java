@@ -0,0 +1,7 @@
+package com.variavel.gamificationservice.achievement;
+
+public enum Medal {
+    BRONZE,
+    SILVER,
+    GOLD
+}
@@ -0,0 +1,30 @@
+package com.variavel.gamificationservice.api;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Component
+public class UserServiceClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(2);
+
+    private final WebClient webClient;
+
+    public UserServiceClient(@Value("${services.user.base-url}") String baseUrl,
+                             WebClient.Builder webClientBuilder) {
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    }
+
+    // IDs dos amigos do usuário, numa única chamada (o user-service responde a partir do grafo em memória)
+    public Mono<long[]> getFriendIds(long userId) {
+        return webClient.get()
+                .uri("/api/v1/users/{id}/friends", userId)
+                .retrieve()
+                .bodyToMono(long[].class)
+                .timeout(REQUEST_TIMEOUT);
+    }
+}
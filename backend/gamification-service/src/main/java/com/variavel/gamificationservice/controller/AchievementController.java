@@ -0,0 +1,46 @@
+package com.variavel.gamificationservice.controller;
+
+import com.variavel.gamificationservice.dto.AchievementDto;
+import com.variavel.gamificationservice.dto.AchievementEventDto;
+import com.variavel.gamificationservice.dto.DailyChallengeDto;
+import com.variavel.gamificationservice.dto.UserAchievementDto;
+import com.variavel.gamificationservice.service.AchievementService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/achievements")
+@RequiredArgsConstructor
+public class AchievementController {
+
+    private final AchievementService achievementService;
+
+    @GetMapping("/catalog")
+    public ResponseEntity<List<AchievementDto>> getCatalog() {
+        return ResponseEntity.ok(achievementService.getCatalog());
+    }
+
+    // Registra um evento do usuário e retorna as conquistas concedidas por ele. PREDICTION_SCORED não é aceito
+    // aqui: só a pontuação dos palpites gera esse evento, uma vez por palpite.
+    @PostMapping("/events")
+    public ResponseEntity<List<UserAchievementDto>> recordEvent(@Valid @RequestBody AchievementEventDto event) {
+        if (!event.getType().clientReported()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(achievementService.recordEvent(event.getUserId(), event.getType()));
+    }
+
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<List<UserAchievementDto>> getUserAchievements(@PathVariable Long userId) {
+        return ResponseEntity.ok(achievementService.getUserAchievements(userId));
+    }
+
+    @GetMapping("/users/{userId}/daily-challenges")
+    public ResponseEntity<List<DailyChallengeDto>> getDailyChallenges(@PathVariable Long userId) {
+        return ResponseEntity.ok(achievementService.getDailyChallenges(userId));
+    }
+}
@@ -0,0 +1,44 @@
+package com.variavel.gamificationservice.controller;
+
+import com.variavel.gamificationservice.api.UserServiceClient;
+import com.variavel.gamificationservice.dto.LeaderboardEntryDto;
+import com.variavel.gamificationservice.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+    private final UserServiceClient userServiceClient;
+
+    @GetMapping("/top")
+    public ResponseEntity<List<LeaderboardEntryDto>> getTop(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(leaderboardService.getTop(limit));
+    }
+
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<LeaderboardEntryDto> getUserEntry(@PathVariable Long userId) {
+        return leaderboardService.getUserEntry(userId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/users/{userId}/around")
+    public ResponseEntity<List<LeaderboardEntryDto>> getAround(@PathVariable Long userId,
+                                                               @RequestParam(defaultValue = "5") int radius) {
+        return ResponseEntity.ok(leaderboardService.getAround(userId, radius));
+    }
+
+    // Ranking entre amigos: 'rank' é a posição entre os amigos e 'globalRank' a posição no ranking geral
+    @GetMapping("/users/{userId}/friends")
+    public ResponseEntity<List<LeaderboardEntryDto>> getFriendsRanking(@PathVariable Long userId) {
+        long[] friendIds = userServiceClient.getFriendIds(userId).block();
+        return ResponseEntity.ok(leaderboardService.getFriendsRanking(userId, friendIds != null ? friendIds : new long[0]));
+    }
+}
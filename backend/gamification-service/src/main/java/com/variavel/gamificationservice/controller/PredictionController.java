@@ -0,0 +1,43 @@
+package com.variavel.gamificationservice.controller;
+
+import com.variavel.gamificationservice.dto.PredictionDto;
+import com.variavel.gamificationservice.dto.PredictionRequestDto;
+import com.variavel.gamificationservice.service.PredictionIntakeService;
+import com.variavel.gamificationservice.service.PredictionIntakeService.IntakeResult;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/predictions")
+@RequiredArgsConstructor
+public class PredictionController {
+
+    private final PredictionIntakeService predictionIntakeService;
+
+    // Registra (ou altera) o palpite. 202: aceito e gravado no log local; a escrita no banco é assíncrona.
+    @PostMapping
+    public ResponseEntity<Void> submitPrediction(@Valid @RequestBody PredictionRequestDto request,
+                                                 @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        IntakeResult result = predictionIntakeService.submit(request, idempotencyKey);
+        return switch (result) {
+            case ACCEPTED, DUPLICATE -> ResponseEntity.accepted().build();
+            // Outra requisição com a mesma chave ainda não terminou: o cliente repete e recebe o resultado dela
+            case IN_PROGRESS -> ResponseEntity.status(HttpStatus.CONFLICT).header(HttpHeaders.RETRY_AFTER, "1").build();
+            case FIXTURE_NOT_FOUND -> ResponseEntity.notFound().build();
+            case FIXTURE_CLOSED -> ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+            case SATURATED -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build();
+            case UNAVAILABLE -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+        };
+    }
+
+    @GetMapping("/users/{userId}/fixtures/{fixtureId}")
+    public ResponseEntity<PredictionDto> getPrediction(@PathVariable Long userId, @PathVariable Long fixtureId) {
+        return predictionIntakeService.getPrediction(userId, fixtureId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
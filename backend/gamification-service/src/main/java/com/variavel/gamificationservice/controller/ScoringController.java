@@ -0,0 +1,24 @@
+package com.variavel.gamificationservice.controller;
+
+import com.variavel.gamificationservice.dto.FixtureResultDto;
+import com.variavel.gamificationservice.dto.ScoringReportDto;
+import com.variavel.gamificationservice.service.PredictionScoringService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/scoring")
+@RequiredArgsConstructor
+public class ScoringController {
+
+    private final PredictionScoringService predictionScoringService;
+
+    // Dispara a pontuação dos palpites de uma partida encerrada. Pode ser repetido com segurança.
+    @PostMapping("/fixtures/finished")
+    public ResponseEntity<ScoringReportDto> fixtureFinished(@Valid @RequestBody FixtureResultDto result) {
+        ScoringReportDto report = predictionScoringService.scoreFixture(result.getFixtureId(), result.getHomeGoals(), result.getAwayGoals());
+        return ResponseEntity.ok(report);
+    }
+}
@@ -0,0 +1,40 @@
+package com.variavel.gamificationservice.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.Instant;
+
+// Palpite de placar. A escrita em massa (intake e pontuação) é feita via JDBC em lote; a entidade atende leituras.
+@Entity
+@Table(name = "predictions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Prediction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId; // ID do usuário (user-service)
+
+    @Column(nullable = false)
+    private Long fixtureId; // ID interno da partida no sports-data-service
+
+    @Column(nullable = false)
+    private Integer homeGoals;
+
+    @Column(nullable = false)
+    private Integer awayGoals;
+
+    private Integer points; // Null até a partida ser pontuada
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant scoredAt;
+}
@@ -0,0 +1,16 @@
+package com.variavel.gamificationservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AchievementDto {
+    private String code;
+    private String name;
+    private String description;
+    private String medal; // BRONZE, SILVER, GOLD; null nos desafios diários
+    private Boolean daily; // Desafio diário (pode ser concluído uma vez por dia)
+    private String counter;
+    private Integer threshold;
+}
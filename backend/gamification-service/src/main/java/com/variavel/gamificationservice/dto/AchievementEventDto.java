@@ -0,0 +1,18 @@
+package com.variavel.gamificationservice.dto;
+
+import com.variavel.gamificationservice.achievement.AchievementEventType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AchievementEventDto {
+    @NotNull
+    private Long userId;
+
+    @NotNull
+    private AchievementEventType type; // Só os tipos registrados pelo cliente (FIXTURE_VIEWED, COMMENT_POSTED)
+}
@@ -0,0 +1,15 @@
+package com.variavel.gamificationservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class DailyChallengeDto {
+    private String code;
+    private String name;
+    private String description;
+    private Integer progress; // Valor do contador hoje
+    private Integer target;
+    private Boolean completed;
+}
@@ -0,0 +1,31 @@
+package com.variavel.gamificationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Evento do feed de partidas do sports-data-service (mesmo formato do FixtureEventDto de lá)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureEventDto {
+    public static final String FINISHED = "FINISHED"; // Partida encerrada (ou placar final corrigido)
+
+    private Long sequence; // Offset no feed
+    private String type; // CREATED, UPDATED ou FINISHED
+    private Instant occurredAt;
+
+    private Long fixtureId;
+    private Integer apiId;
+    private Long leagueId;
+    private Integer season;
+    private Long homeTeamId;
+    private Long awayTeamId;
+    private Instant date;
+    private String status;
+    private Integer elapsed;
+    private Integer homeGoals;
+    private Integer awayGoals;
+}
@@ -0,0 +1,26 @@
+package com.variavel.gamificationservice.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+// Sinal de "partida encerrada" com o placar final, no formato do Fixture do sports-data-service
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureResultDto {
+    @NotNull
+    private Long fixtureId; // ID interno da partida no sports-data-service
+
+    private String status; // Ex: "Match Finished"
+
+    @NotNull
+    @Min(0)
+    private Integer homeGoals;
+
+    @NotNull
+    @Min(0)
+    private Integer awayGoals;
+}
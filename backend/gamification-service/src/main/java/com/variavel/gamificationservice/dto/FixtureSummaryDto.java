@@ -0,0 +1,17 @@
+package com.variavel.gamificationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Campos do FixtureDto do sports-data-service usados aqui (os demais são ignorados na desserialização)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureSummaryDto {
+    private Long id;
+    private Instant date; // Início da partida (UTC)
+    private String status;
+}
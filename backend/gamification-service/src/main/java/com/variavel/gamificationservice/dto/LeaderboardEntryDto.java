@@ -0,0 +1,13 @@
+package com.variavel.gamificationservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LeaderboardEntryDto {
+    private Long userId; // ID do usuário (user-service)
+    private Integer score; // Pontuação acumulada
+    private Integer rank; // Posição no ranking (1 = primeiro)
+    private Integer globalRank; // Só no ranking entre amigos: posição no ranking geral (null sem pontuação)
+}
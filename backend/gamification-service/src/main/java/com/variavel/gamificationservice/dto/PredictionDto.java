@@ -0,0 +1,17 @@
+package com.variavel.gamificationservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class PredictionDto {
+    private Long userId;
+    private Long fixtureId;
+    private Integer homeGoals;
+    private Integer awayGoals;
+    private Integer points; // Null enquanto a partida não foi pontuada
+    private Instant createdAt;
+}
@@ -0,0 +1,29 @@
+package com.variavel.gamificationservice.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PredictionRequestDto {
+    @NotNull
+    private Long userId;
+
+    @NotNull
+    private Long fixtureId; // ID interno da partida no sports-data-service
+
+    @NotNull
+    @Min(0)
+    @Max(99)
+    private Integer homeGoals;
+
+    @NotNull
+    @Min(0)
+    @Max(99)
+    private Integer awayGoals;
+}
@@ -0,0 +1,16 @@
+package com.variavel.gamificationservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ScoringReportDto {
+    private Long fixtureId; // ID interno da partida no sports-data-service
+    private Integer homeGoals; // Placar final usado na pontuação
+    private Integer awayGoals;
+    private Integer predictionsRead; // Palpites lidos da partida
+    private Integer predictionsUpdated; // Palpites cujos pontos mudaram nesta execução (0 num reprocessamento)
+    private Long pointsAwarded; // Soma das diferenças aplicadas ao ranking
+    private Long elapsedMillis;
+}
@@ -0,0 +1,18 @@
+package com.variavel.gamificationservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class UserAchievementDto {
+    private Long userId;
+    private String code;
+    private String name;
+    private String medal;
+    private LocalDate day; // Dia do desafio concluído; null para conquistas
+    private Instant awardedAt;
+}
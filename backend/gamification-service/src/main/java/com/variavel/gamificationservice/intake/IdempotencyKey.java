@@ -0,0 +1,25 @@
+package com.variavel.gamificationservice.intake;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// Chave de idempotência de um palpite, no escopo do usuário: a mesma chave enviada por usuários diferentes são
+// chaves diferentes. Guarda os 128 primeiros bits do SHA-256 da chave do cliente, com tamanho fixo no
+// write-ahead log e na tabela prediction_idempotency_keys, qualquer que seja o tamanho da chave original.
+public record IdempotencyKey(long userId, long hashHigh, long hashLow) {
+
+    public static IdempotencyKey of(long userId, String key) {
+        try {
+            ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8)));
+            return new IdempotencyKey(userId, digest.getLong(), digest.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public byte[] hashBytes() {
+        return ByteBuffer.allocate(Long.BYTES * 2).putLong(hashHigh).putLong(hashLow).array();
+    }
+}
@@ -0,0 +1,29 @@
+package com.variavel.gamificationservice.intake;
+
+import java.util.concurrent.CompletableFuture;
+
+// Palpite aceito aguardando gravação. 'durable' completa quando o registro está no write-ahead log (fsync).
+public final class PendingPrediction {
+
+    public final long userId;
+    public final long fixtureId;
+    public final int homeGoals;
+    public final int awayGoals;
+    public final long createdAtMillis;
+    public final IdempotencyKey idempotencyKey; // null se o cliente não enviou Idempotency-Key
+    private final CompletableFuture<Void> durable = new CompletableFuture<>();
+
+    public PendingPrediction(long userId, long fixtureId, int homeGoals, int awayGoals, long createdAtMillis,
+                             IdempotencyKey idempotencyKey) {
+        this.userId = userId;
+        this.fixtureId = fixtureId;
+        this.homeGoals = homeGoals;
+        this.awayGoals = awayGoals;
+        this.createdAtMillis = createdAtMillis;
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public CompletableFuture<Void> durable() {
+        return durable;
+    }
+}
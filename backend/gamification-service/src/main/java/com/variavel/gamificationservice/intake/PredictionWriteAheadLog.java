@@ -0,0 +1,107 @@
+package com.variavel.gamificationservice.intake;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+// Write-ahead log local dos palpites aceitos e ainda não gravados no MySQL.
+// Registros de tamanho fixo com CRC32; um registro incompleto no fim do arquivo (queda no meio da escrita)
+// é descartado na leitura. Usado por uma única thread (o flusher do PredictionIntakeService).
+public class PredictionWriteAheadLog implements AutoCloseable {
+
+    // userId, fixtureId, createdAt, placar e chave de idempotência (0/0 = sem chave)
+    private static final int PAYLOAD_BYTES = Long.BYTES * 5 + Integer.BYTES * 2;
+    private static final int RECORD_BYTES = PAYLOAD_BYTES + Integer.BYTES; // + CRC32
+
+    private final FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_BYTES * 1024);
+
+    public PredictionWriteAheadLog(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+    }
+
+    // Acrescenta os registros e força a gravação em disco (um único fsync por lote)
+    public void append(List<PendingPrediction> batch) throws IOException {
+        int needed = batch.size() * RECORD_BYTES;
+        if (buffer.capacity() < needed) {
+            buffer = ByteBuffer.allocateDirect(needed);
+        }
+        buffer.clear();
+        CRC32 crc = new CRC32();
+        for (PendingPrediction prediction : batch) {
+            int start = buffer.position();
+            IdempotencyKey key = prediction.idempotencyKey;
+            buffer.putLong(prediction.userId)
+                    .putLong(prediction.fixtureId)
+                    .putLong(prediction.createdAtMillis)
+                    .putInt(prediction.homeGoals)
+                    .putInt(prediction.awayGoals)
+                    .putLong(key != null ? key.hashHigh() : 0L)
+                    .putLong(key != null ? key.hashLow() : 0L);
+            crc.reset();
+            crc.update(buffer.duplicate().position(start).limit(start + PAYLOAD_BYTES));
+            buffer.putInt((int) crc.getValue());
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    // Registros válidos presentes no log (usado na recuperação ao iniciar)
+    public List<PendingPrediction> readAll() throws IOException {
+        List<PendingPrediction> records = new ArrayList<>();
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+        CRC32 crc = new CRC32();
+        long position = 0;
+        long size = channel.size();
+        while (position + RECORD_BYTES <= size) {
+            record.clear();
+            while (record.hasRemaining()) {
+                if (channel.read(record, position + record.position()) < 0) {
+                    break;
+                }
+            }
+            record.flip();
+            crc.reset();
+            crc.update(record.array(), 0, PAYLOAD_BYTES);
+            if ((int) crc.getValue() != record.getInt(PAYLOAD_BYTES)) {
+                break; // Escrita interrompida: o restante do arquivo não é confiável
+            }
+            long userId = record.getLong();
+            long fixtureId = record.getLong();
+            long createdAtMillis = record.getLong();
+            int homeGoals = record.getInt();
+            int awayGoals = record.getInt();
+            long hashHigh = record.getLong();
+            long hashLow = record.getLong();
+            IdempotencyKey key = hashHigh != 0L || hashLow != 0L ? new IdempotencyKey(userId, hashHigh, hashLow) : null;
+            records.add(new PendingPrediction(userId, fixtureId, homeGoals, awayGoals, createdAtMillis, key));
+            position += RECORD_BYTES;
+        }
+        return records;
+    }
+
+    // Descarta o conteúdo depois que todos os registros foram gravados no banco
+    public void truncate() throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
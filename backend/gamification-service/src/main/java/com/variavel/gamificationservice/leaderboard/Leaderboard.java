@@ -0,0 +1,138 @@
+package com.variavel.gamificationservice.leaderboard;
+
+import com.variavel.gamificationservice.util.LongObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Ranking em memória: atualizações de pontuação, posição de um usuário, top N e "vizinhos" em O(log n).
+// Leituras concorrentes compartilham o read lock; atualizações (em rajadas, vindas da pontuação) usam o write lock.
+public class Leaderboard {
+
+    private final RankedSkipList ranking = new RankedSkipList();
+    private final LongObjectHashMap<RankedSkipList.Node> nodesByUser;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public Leaderboard(int expectedUsers) {
+        this.nodesByUser = new LongObjectHashMap<>(expectedUsers);
+        ranking.clear();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Soma (ou subtrai) pontos de vários usuários sob um único write lock (rajadas vindas da pontuação de uma
+    // partida), criando no ranking quem ainda não estava
+    public void addPoints(long[] userIds, int[] deltas, int count) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                RankedSkipList.Node node = nodesByUser.get(userIds[i]);
+                updateLocked(userIds[i], node, node != null ? node.score + deltas[i] : deltas[i]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public RankedUser find(long userId) {
+        lock.readLock().lock();
+        try {
+            RankedSkipList.Node node = nodesByUser.get(userId);
+            return node != null ? new RankedUser(userId, node.score, ranking.rankOf(node)) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<RankedUser> top(int limit) {
+        lock.readLock().lock();
+        try {
+            return collect(ranking.first(), 1, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 'radius' posições acima e abaixo do usuário (vazio se ele não estiver no ranking)
+    public List<RankedUser> around(long userId, int radius) {
+        lock.readLock().lock();
+        try {
+            RankedSkipList.Node node = nodesByUser.get(userId);
+            if (node == null) {
+                return List.of();
+            }
+            int startRank = Math.max(1, ranking.rankOf(node) - radius);
+            return collect(ranking.nodeAt(startRank), startRank, 2 * radius + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Posições de vários usuários de uma vez, sob um único lock, ordenadas pelo ranking.
+    // Usuários que ainda não pontuaram são ignorados.
+    public List<RankedUser> findAll(long[] userIds) {
+        List<RankedUser> result = new ArrayList<>(userIds.length);
+        lock.readLock().lock();
+        try {
+            for (long userId : userIds) {
+                RankedSkipList.Node node = nodesByUser.get(userId);
+                if (node != null) {
+                    result.add(new RankedUser(userId, node.score, ranking.rankOf(node)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        result.sort((a, b) -> Integer.compare(a.rank(), b.rank()));
+        return result;
+    }
+
+    // Substitui todo o conteúdo. As entradas precisam vir ordenadas por pontuação decrescente e userId crescente,
+    // o que permite montar a skip list por append, sem buscas.
+    public void load(long[] userIds, int[] scores, int count) {
+        lock.writeLock().lock();
+        try {
+            ranking.clear();
+            nodesByUser.clear();
+            for (int i = 0; i < count; i++) {
+                RankedSkipList.Node node = ranking.newNode(userIds[i], scores[i]);
+                ranking.append(node);
+                nodesByUser.put(userIds[i], node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void updateLocked(long userId, RankedSkipList.Node node, int newScore) {
+        if (node == null) {
+            node = ranking.newNode(userId, newScore);
+            nodesByUser.put(userId, node);
+        } else if (node.score == newScore) {
+            return;
+        } else {
+            ranking.remove(node);
+            node.score = newScore;
+        }
+        ranking.insert(node);
+    }
+
+    private List<RankedUser> collect(RankedSkipList.Node from, int fromRank, int limit) {
+        List<RankedUser> result = new ArrayList<>(Math.min(limit, 1024));
+        RankedSkipList.Node node = from;
+        int rank = fromRank;
+        while (node != null && result.size() < limit) {
+            result.add(new RankedUser(node.userId, node.score, rank++));
+            node = node.next[0];
+        }
+        return result;
+    }
+}
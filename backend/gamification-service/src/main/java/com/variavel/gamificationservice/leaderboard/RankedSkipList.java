@@ -0,0 +1,197 @@
+package com.variavel.gamificationservice.leaderboard;
+
+import java.util.SplittableRandom;
+
+// Skip list indexável (mesma ideia do sorted set do Redis): cada ponteiro guarda quantos nós ele "pula" (span),
+// o que permite calcular a posição de um nó e buscar o n-ésimo em O(log n).
+// Ordem: pontuação decrescente e, no empate, userId crescente. Não é thread-safe (ver Leaderboard).
+class RankedSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final int LEVEL_PROBABILITY_MASK = 3; // Promove um nível com probabilidade 1/4
+
+    static final class Node {
+        final long userId;
+        int score;
+        final Node[] next;
+        final int[] span;
+
+        Node(long userId, int score, int level) {
+            this.userId = userId;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+
+        int level() {
+            return next.length;
+        }
+    }
+
+    private final SplittableRandom random = new SplittableRandom();
+    private final Node head = new Node(Long.MIN_VALUE, Integer.MAX_VALUE, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    // Apoio para o carregamento em massa (append) de entradas já ordenadas
+    private final Node[] tail = new Node[MAX_LEVEL];
+    private final int[] tailRank = new int[MAX_LEVEL];
+
+    int size() {
+        return size;
+    }
+
+    Node first() {
+        return head.next[0];
+    }
+
+    Node newNode(long userId, int score) {
+        return new Node(userId, score, randomLevel());
+    }
+
+    // Insere um nó (novo ou previamente removido) na posição correspondente à sua pontuação atual
+    void insert(Node node) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && compare(x.next[i], node.score, node.userId) < 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        int nodeLevel = node.level();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    // Remove o nó; a pontuação do nó deve ser a mesma usada na inserção
+    boolean remove(Node node) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], node.score, node.userId) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        if (update[0].next[0] != node) {
+            return false;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].span[i] += node.span[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    // Posição (1 = primeiro) do nó, ou 0 se ele não estiver na lista
+    int rankOf(Node node) {
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], node.score, node.userId) <= 0) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x == node) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    // Nó na posição informada (1 = primeiro), ou null fora do intervalo
+    Node nodeAt(int rank) {
+        if (rank < 1 || rank > size) {
+            return null;
+        }
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    // Esvazia a lista e prepara o append em O(1) amortizado por entrada (recarga a partir de leaderboard_scores)
+    void clear() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.span[i] = 0;
+            tail[i] = head;
+            tailRank[i] = 0;
+        }
+        level = 1;
+        size = 0;
+    }
+
+    // Adiciona no fim; só é válido logo após clear() e com entradas chegando já na ordem do ranking
+    void append(Node node) {
+        int position = size + 1;
+        int nodeLevel = node.level();
+        if (nodeLevel > level) {
+            level = nodeLevel;
+        }
+        for (int i = 0; i < nodeLevel; i++) {
+            tail[i].next[i] = node;
+            tail[i].span[i] = position - tailRank[i];
+            node.next[i] = null;
+            node.span[i] = 0;
+            tail[i] = node;
+            tailRank[i] = position;
+        }
+        // Ponteiros nulos guardam a distância até o fim da lista, como no insert
+        for (int i = nodeLevel; i < MAX_LEVEL; i++) {
+            tail[i].span[i] = position - tailRank[i];
+        }
+        size = position;
+    }
+
+    private int compare(Node node, int score, long userId) {
+        if (node.score != score) {
+            return node.score > score ? -1 : 1;
+        }
+        return Long.compare(node.userId, userId);
+    }
+
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && (random.nextInt() & LEVEL_PROBABILITY_MASK) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+}
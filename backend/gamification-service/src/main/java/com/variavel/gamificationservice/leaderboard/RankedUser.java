@@ -0,0 +1,5 @@
+package com.variavel.gamificationservice.leaderboard;
+
+// Usuário com sua pontuação e posição (1 = primeiro) no momento da consulta
+public record RankedUser(long userId, int score, int rank) {
+}
@@ -0,0 +1,12 @@
+package com.variavel.gamificationservice.repository;
+
+import com.variavel.gamificationservice.domain.Prediction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PredictionRepository extends JpaRepository<Prediction, Long> {
+    Optional<Prediction> findByUserIdAndFixtureId(Long userId, Long fixtureId);
+}
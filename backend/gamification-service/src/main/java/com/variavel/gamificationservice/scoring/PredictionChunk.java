@@ -0,0 +1,43 @@
+package com.variavel.gamificationservice.scoring;
+
+// Bloco de palpites de uma partida em arrays paralelos (sem um objeto por palpite)
+public final class PredictionChunk {
+
+    public static final int UNSCORED = -1; // Palpite ainda sem pontos (points IS NULL)
+
+    public final long[] ids;
+    public final long[] userIds;
+    public final int[] homeGoals;
+    public final int[] awayGoals;
+    public final int[] previousPoints;
+    public final int[] newPoints;
+    public int size;
+
+    public PredictionChunk(int capacity) {
+        this.ids = new long[capacity];
+        this.userIds = new long[capacity];
+        this.homeGoals = new int[capacity];
+        this.awayGoals = new int[capacity];
+        this.previousPoints = new int[capacity];
+        this.newPoints = new int[capacity];
+    }
+
+    public long lastId() {
+        return ids[size - 1];
+    }
+
+    public void score(int actualHome, int actualAway) {
+        for (int i = 0; i < size; i++) {
+            newPoints[i] = PredictionScorer.score(homeGoals[i], awayGoals[i], actualHome, actualAway);
+        }
+    }
+
+    // Pontos que entram no ranking se a linha for atualizada: diferença em relação ao que já tinha sido dado
+    public int delta(int i) {
+        return newPoints[i] - (previousPoints[i] == UNSCORED ? 0 : previousPoints[i]);
+    }
+
+    public boolean changed(int i) {
+        return previousPoints[i] != newPoints[i];
+    }
+}
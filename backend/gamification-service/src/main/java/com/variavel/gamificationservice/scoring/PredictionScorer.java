@@ -0,0 +1,24 @@
+package com.variavel.gamificationservice.scoring;
+
+// Regras de pontuação de um palpite de placar
+public final class PredictionScorer {
+
+    public static final int EXACT_SCORE_POINTS = 10; // Placar exato
+    public static final int OUTCOME_AND_DIFFERENCE_POINTS = 7; // Vencedor (ou empate) e saldo de gols certos
+    public static final int OUTCOME_POINTS = 5; // Apenas o vencedor (ou empate) certo
+
+    private PredictionScorer() {
+    }
+
+    public static int score(int predictedHome, int predictedAway, int actualHome, int actualAway) {
+        if (predictedHome == actualHome && predictedAway == actualAway) {
+            return EXACT_SCORE_POINTS;
+        }
+        int predictedDiff = predictedHome - predictedAway;
+        int actualDiff = actualHome - actualAway;
+        if (Integer.signum(predictedDiff) != Integer.signum(actualDiff)) {
+            return 0;
+        }
+        return predictedDiff == actualDiff ? OUTCOME_AND_DIFFERENCE_POINTS : OUTCOME_POINTS;
+    }
+}
@@ -0,0 +1,268 @@
+package com.variavel.gamificationservice.service;
+
+import com.variavel.gamificationservice.achievement.AchievementCatalog;
+import com.variavel.gamificationservice.achievement.AchievementEngine;
+import com.variavel.gamificationservice.achievement.AchievementEventType;
+import com.variavel.gamificationservice.achievement.AchievementRule;
+import com.variavel.gamificationservice.achievement.Award;
+import com.variavel.gamificationservice.achievement.Counter;
+import com.variavel.gamificationservice.achievement.CounterCheckpoint;
+import com.variavel.gamificationservice.dto.AchievementDto;
+import com.variavel.gamificationservice.dto.DailyChallengeDto;
+import com.variavel.gamificationservice.dto.UserAchievementDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Conquistas, medalhas e desafios diários. Os contadores vivem em memória (AchievementEngine) e são gravados em
+// checkpoints periódicos em achievement_counters; as concessões vão direto para user_achievements, com INSERT IGNORE
+// sobre a chave única (usuário, conquista, período) para que cada conquista seja concedida uma única vez.
+@Service
+public class AchievementService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AchievementService.class);
+
+    private static final String AWARD_SQL = "INSERT IGNORE INTO user_achievements (user_id, code, period_day, awarded_at) VALUES (?, ?, ?, ?)";
+    private static final String UPSERT_COUNTER_SQL = "INSERT INTO achievement_counters (user_id, counter, period_day, counter_value, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE counter_value = VALUES(counter_value), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AchievementEngine engine;
+    private final Map<String, AchievementRule> rulesByCode;
+    private final int checkpointBatchSize;
+    private final int dailyRetentionDays;
+    // Concessões que não puderam ser gravadas: o contador já passou do limite, então são refeitas no próximo checkpoint
+    private final ConcurrentLinkedQueue<Award> pendingAwards = new ConcurrentLinkedQueue<>();
+
+    public AchievementService(JdbcTemplate jdbcTemplate,
+                              @Value("${leaderboard.expected-users:1000000}") int expectedUsers,
+                              @Value("${achievements.checkpoint-batch-size:1000}") int checkpointBatchSize,
+                              @Value("${achievements.daily-retention-days:7}") int dailyRetentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.engine = new AchievementEngine(AchievementCatalog.RULES, expectedUsers, today());
+        this.rulesByCode = AchievementCatalog.RULES.stream().collect(Collectors.toMap(AchievementRule::code, Function.identity()));
+        this.checkpointBatchSize = checkpointBatchSize;
+        this.dailyRetentionDays = dailyRetentionDays;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    // --- Eventos ---
+    // Eventos informados pelo cliente (visualizações, comentários); os palpites pontuados vêm de onPredictionsScored
+    public List<UserAchievementDto> recordEvent(long userId, AchievementEventType type) {
+        if (!type.clientReported()) {
+            throw new IllegalArgumentException("Event type not accepted from clients: " + type);
+        }
+        return grant(engine.record(userId, type, 0, today()));
+    }
+
+    // Chamado pela pontuação depois do commit, só com os palpites pontuados pela primeira vez
+    public void onPredictionsScored(long[] userIds, int[] points, int count) {
+        if (count == 0) {
+            return;
+        }
+        grant(engine.record(userIds, points, count, AchievementEventType.PREDICTION_SCORED, today()));
+    }
+
+    // --- Consultas ---
+    public List<AchievementDto> getCatalog() {
+        return AchievementCatalog.RULES.stream()
+                .map(rule -> AchievementDto.builder()
+                        .code(rule.code())
+                        .name(rule.name())
+                        .description(rule.description())
+                        .medal(rule.medal() != null ? rule.medal().name() : null)
+                        .daily(rule.daily())
+                        .counter(rule.counter().name())
+                        .threshold(rule.threshold())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public List<UserAchievementDto> getUserAchievements(long userId) {
+        return jdbcTemplate.query("SELECT code, period_day, awarded_at FROM user_achievements WHERE user_id = ? ORDER BY awarded_at DESC",
+                        (rs, rowNum) -> {
+                            AchievementRule rule = rulesByCode.get(rs.getString(1));
+                            return rule == null ? null : mapToDto(userId, rule, rs.getInt(2), rs.getTimestamp(3).toInstant());
+                        }, userId)
+                .stream()
+                .filter(dto -> dto != null) // Conquistas que saíram do catálogo
+                .collect(Collectors.toList());
+    }
+
+    public List<DailyChallengeDto> getDailyChallenges(long userId) {
+        int today = today();
+        return AchievementCatalog.RULES.stream()
+                .filter(AchievementRule::daily)
+                .map(rule -> {
+                    int progress = engine.get(userId, rule.counter(), today);
+                    return DailyChallengeDto.builder()
+                            .code(rule.code())
+                            .name(rule.name())
+                            .description(rule.description())
+                            .progress(Math.min(progress, rule.threshold()))
+                            .target(rule.threshold())
+                            .completed(progress >= rule.threshold())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    // --- Concessão ---
+    private List<UserAchievementDto> grant(List<Award> awards) {
+        if (awards.isEmpty()) {
+            return List.of();
+        }
+        List<UserAchievementDto> granted = new ArrayList<>(awards.size());
+        Instant now = Instant.now();
+        for (Award award : awards) {
+            try {
+                // 0 linhas: já concedida antes (ex: contador recarregado de um checkpoint anterior a uma queda)
+                if (jdbcTemplate.update(AWARD_SQL, award.userId(), award.rule().code(), award.periodDay(), Timestamp.from(now)) == 1) {
+                    log.info("Conquista {} concedida ao usuário {}.", award.rule().code(), award.userId());
+                    granted.add(mapToDto(award.userId(), award.rule(), award.periodDay(), now));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Erro ao conceder a conquista {} ao usuário {}, nova tentativa no próximo checkpoint: {}",
+                        award.rule().code(), award.userId(), e.getMessage());
+                pendingAwards.add(award);
+            }
+        }
+        return granted;
+    }
+
+    // --- Checkpoint e recarga ---
+    @Scheduled(fixedDelayString = "${achievements.checkpoint-interval-ms:30000}")
+    public void scheduledCheckpoint() {
+        try {
+            checkpoint();
+        } catch (Exception e) {
+            log.error("Erro ao gravar checkpoint dos contadores de conquistas: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        scheduledCheckpoint();
+    }
+
+    public int checkpoint() {
+        List<Award> retry = new ArrayList<>();
+        for (Award award; (award = pendingAwards.poll()) != null; ) {
+            retry.add(award);
+        }
+        grant(retry);
+
+        CounterCheckpoint changed = engine.drainDirty(today());
+        if (changed.size == 0) {
+            return 0;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        try {
+            for (int from = 0; from < changed.size; from += checkpointBatchSize) {
+                int offset = from;
+                int batchSize = Math.min(checkpointBatchSize, changed.size - from);
+                jdbcTemplate.batchUpdate(UPSERT_COUNTER_SQL, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        int k = offset + i;
+                        ps.setLong(1, changed.userIds[k]);
+                        ps.setString(2, changed.counters[k].name());
+                        ps.setInt(3, changed.periodDays[k]);
+                        ps.setInt(4, changed.values[k]);
+                        ps.setTimestamp(5, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batchSize;
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            engine.restore(changed); // Tenta de novo no próximo ciclo (o upsert é idempotente)
+            throw e;
+        }
+        log.debug("Checkpoint dos contadores de conquistas gravado: {} contadores alterados.", changed.size);
+        return changed.size;
+    }
+
+    // Remove os contadores diários antigos (o histórico de desafios concluídos fica em user_achievements)
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeOldDailyCounters() {
+        int before = today() - dailyRetentionDays;
+        int deleted;
+        int total = 0;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM achievement_counters WHERE period_day > 0 AND period_day < ? LIMIT 10000", before);
+            total += deleted;
+        } while (deleted > 0);
+        if (total > 0) {
+            log.info("{} contadores diários antigos removidos.", total);
+        }
+    }
+
+    public void reload() {
+        long start = System.nanoTime();
+        int[] count = {0};
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT user_id, counter, counter_value FROM achievement_counters WHERE period_day IN (0, ?)");
+            ps.setInt(1, today());
+            ps.setFetchSize(Integer.MIN_VALUE); // Streaming no driver do MySQL
+            return ps;
+        }, rs -> {
+            Counter counter = counterOrNull(rs.getString(2));
+            if (counter != null) {
+                engine.load(rs.getLong(1), counter, rs.getInt(3));
+                count[0]++;
+            }
+        });
+        log.info("Contadores de conquistas carregados: {} em {} ms.", count[0], (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static Counter counterOrNull(String name) {
+        try {
+            return Counter.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null; // Contador que não existe mais
+        }
+    }
+
+    private static int today() {
+        return (int) LocalDate.now(ZoneOffset.UTC).toEpochDay();
+    }
+
+    private UserAchievementDto mapToDto(long userId, AchievementRule rule, int periodDay, Instant awardedAt) {
+        return UserAchievementDto.builder()
+                .userId(userId)
+                .code(rule.code())
+                .name(rule.name())
+                .medal(rule.medal() != null ? rule.medal().name() : null)
+                .day(periodDay > 0 ? LocalDate.ofEpochDay(periodDay) : null)
+                .awardedAt(awardedAt)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.variavel.gamificationservice.service;
+
+import com.variavel.gamificationservice.dto.FixtureEventDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+// Consome o feed SSE de eventos de partidas do sports-data-service a partir do último offset processado.
+// Entrega "pelo menos uma vez": o offset só é gravado depois do processamento, e a pontuação é idempotente,
+// então reprocessar um evento após uma queda não conta pontos em dobro.
+@Service
+public class FixtureEventConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(FixtureEventConsumer.class);
+
+    private static final String CONSUMER_NAME = "gamification-fixture-events";
+    private static final ParameterizedTypeReference<ServerSentEvent<FixtureEventDto>> EVENT_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    private final WebClient webClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final PredictionScoringService predictionScoringService;
+    private final FixtureKickoffService fixtureKickoffService;
+    private final boolean enabled;
+    private Disposable subscription;
+
+    public FixtureEventConsumer(WebClient.Builder webClientBuilder,
+                                JdbcTemplate jdbcTemplate,
+                                PredictionScoringService predictionScoringService,
+                                FixtureKickoffService fixtureKickoffService,
+                                @Value("${services.sports-data.base-url}") String sportsDataBaseUrl,
+                                @Value("${fixture-events.consumer.enabled:true}") boolean enabled) {
+        this.webClient = webClientBuilder.baseUrl(sportsDataBaseUrl).build();
+        this.jdbcTemplate = jdbcTemplate;
+        this.predictionScoringService = predictionScoringService;
+        this.fixtureKickoffService = fixtureKickoffService;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Consumo do feed de eventos de partidas desabilitado.");
+            return;
+        }
+        // A cada (re)conexão o offset é relido do banco, então uma queda no meio do stream retoma do ponto certo
+        subscription = Flux.defer(() -> connect(loadOffset()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("Feed de eventos de partidas indisponível, reconectando: {}", signal.failure().getMessage())))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private Flux<Void> connect(long offset) {
+        log.info("Conectando ao feed de eventos de partidas a partir do offset {}...", offset);
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/sports/fixture-events").queryParam("after", offset).build())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(EVENT_TYPE)
+                .filter(sse -> sse.data() != null) // Ignora os comentários de keep-alive
+                // Processamento em ordem, fora do event loop (a pontuação faz I/O bloqueante no banco)
+                .concatMap(sse -> Mono.fromRunnable(() -> process(sse.data())).subscribeOn(Schedulers.boundedElastic()).then())
+                // O servidor não encerra o stream; se encerrar, tratamos como queda para reconectar
+                .concatWith(Mono.<Void>error(new IllegalStateException("Fixture event stream completed")));
+    }
+
+    private void process(FixtureEventDto event) {
+        fixtureKickoffService.onFixtureEvent(event);
+        if (FixtureEventDto.FINISHED.equals(event.getType()) && event.getHomeGoals() != null && event.getAwayGoals() != null) {
+            predictionScoringService.scoreFixture(event.getFixtureId(), event.getHomeGoals(), event.getAwayGoals());
+        }
+        saveOffset(event.getSequence());
+    }
+
+    private long loadOffset() {
+        List<Long> offsets = jdbcTemplate.queryForList("SELECT last_sequence FROM consumer_offsets WHERE consumer_name = ?", Long.class, CONSUMER_NAME);
+        return offsets.isEmpty() ? 0L : offsets.get(0);
+    }
+
+    private void saveOffset(long sequence) {
+        jdbcTemplate.update("INSERT INTO consumer_offsets (consumer_name, last_sequence, updated_at) VALUES (?, ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE last_sequence = VALUES(last_sequence), updated_at = VALUES(updated_at)",
+                CONSUMER_NAME, sequence, Timestamp.from(Instant.now()));
+    }
+}
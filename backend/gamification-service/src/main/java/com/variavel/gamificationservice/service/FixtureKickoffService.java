@@ -0,0 +1,89 @@
+package com.variavel.gamificationservice.service;
+
+import com.variavel.gamificationservice.dto.FixtureEventDto;
+import com.variavel.gamificationservice.dto.FixtureSummaryDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Horário de início e status das partidas, consultados no sports-data-service e mantidos em cache.
+// O feed de eventos de partidas atualiza o cache quando o horário ou o status mudam, então na véspera de um jogo
+// grande as validações de palpites não geram uma chamada ao sports-data-service por requisição.
+@Service
+public class FixtureKickoffService {
+
+    private static final Logger log = LoggerFactory.getLogger(FixtureKickoffService.class);
+
+    // Status em que ainda se aceita palpite
+    private static final Set<String> OPEN_STATUSES = Set.of("Not Started", "Time To Be Defined");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(2);
+
+    public record Kickoff(Instant date, String status, long cachedAtMillis) {
+        public boolean acceptsPredictions(Instant now, Duration cutoff) {
+            return date != null && OPEN_STATUSES.contains(status) && now.isBefore(date.minus(cutoff));
+        }
+    }
+
+    private final WebClient webClient;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<Long, Kickoff> cache = new ConcurrentHashMap<>();
+
+    public FixtureKickoffService(WebClient.Builder webClientBuilder,
+                                 @Value("${services.sports-data.base-url}") String sportsDataBaseUrl,
+                                 @Value("${predictions.intake.kickoff-cache-ttl-seconds:60}") long ttlSeconds) {
+        this.webClient = webClientBuilder.baseUrl(sportsDataBaseUrl).build();
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public Optional<Kickoff> getKickoff(long fixtureId) {
+        long now = System.currentTimeMillis();
+        Kickoff cached = cache.get(fixtureId);
+        if (cached != null && now - cached.cachedAtMillis() < ttlMillis) {
+            return Optional.of(cached);
+        }
+        try {
+            FixtureSummaryDto fixture = webClient.get()
+                    .uri("/api/v1/sports/fixtures/{id}", fixtureId)
+                    .retrieve()
+                    .bodyToMono(FixtureSummaryDto.class)
+                    .block(REQUEST_TIMEOUT);
+            if (fixture == null) {
+                return Optional.empty();
+            }
+            Kickoff kickoff = new Kickoff(fixture.getDate(), fixture.getStatus(), now);
+            cache.put(fixtureId, kickoff);
+            return Optional.of(kickoff);
+        } catch (WebClientResponseException.NotFound e) {
+            return Optional.empty();
+        } catch (RuntimeException e) {
+            // sports-data-service indisponível: vale o último valor conhecido, mesmo expirado
+            log.warn("Falha ao consultar a partida {} no sports-data-service: {}", fixtureId, e.getMessage());
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            throw e;
+        }
+    }
+
+    // Chamado pelo consumidor do feed de eventos de partidas
+    public void onFixtureEvent(FixtureEventDto event) {
+        cache.put(event.getFixtureId(), new Kickoff(event.getDate(), event.getStatus(), System.currentTimeMillis()));
+    }
+
+    // Remove do cache partidas que já começaram há mais de um dia
+    @Scheduled(fixedDelay = 3_600_000)
+    public void evictPastFixtures() {
+        Instant limit = Instant.now().minus(Duration.ofDays(1));
+        cache.values().removeIf(kickoff -> kickoff.date() == null || kickoff.date().isBefore(limit));
+    }
+}
@@ -0,0 +1,140 @@
+package com.variavel.gamificationservice.service;
+
+import com.variavel.gamificationservice.dto.LeaderboardEntryDto;
+import com.variavel.gamificationservice.leaderboard.Leaderboard;
+import com.variavel.gamificationservice.leaderboard.RankedUser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// Mantém o ranking global em memória (Leaderboard). A tabela leaderboard_scores tem um único escritor, a pontuação
+// (PredictionScoringService), que soma os pontos na mesma transação que grava os palpites; o ranking em memória
+// recebe os mesmos deltas depois do commit. Na inicialização o ranking é recarregado da tabela, já ordenado.
+@Service
+public class LeaderboardService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Leaderboard leaderboard;
+    private final int maxPageSize;
+
+    public LeaderboardService(JdbcTemplate jdbcTemplate,
+                              @Value("${leaderboard.expected-users:1000000}") int expectedUsers,
+                              @Value("${leaderboard.max-page-size:200}") int maxPageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaderboard = new Leaderboard(expectedUsers);
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    // --- Consultas ---
+    public List<LeaderboardEntryDto> getTop(int limit) {
+        return toDtos(leaderboard.top(clamp(limit)));
+    }
+
+    public Optional<LeaderboardEntryDto> getUserEntry(long userId) {
+        return Optional.ofNullable(leaderboard.find(userId)).map(this::mapToDto);
+    }
+
+    public List<LeaderboardEntryDto> getAround(long userId, int radius) {
+        return toDtos(leaderboard.around(userId, clamp(radius)));
+    }
+
+    // Ranking do usuário e seus amigos: uma única passada pelo ranking em memória com todos os IDs.
+    // Amigos ainda sem pontuação entram no fim, com 0 pontos.
+    public List<LeaderboardEntryDto> getFriendsRanking(long userId, long[] friendIds) {
+        long[] userIds = Arrays.copyOf(friendIds, friendIds.length + 1);
+        userIds[friendIds.length] = userId;
+        List<RankedUser> ranked = leaderboard.findAll(userIds);
+
+        List<LeaderboardEntryDto> entries = new ArrayList<>(userIds.length);
+        long[] rankedIds = new long[ranked.size()];
+        for (RankedUser user : ranked) {
+            rankedIds[entries.size()] = user.userId();
+            entries.add(LeaderboardEntryDto.builder()
+                    .userId(user.userId())
+                    .score(user.score())
+                    .rank(entries.size() + 1)
+                    .globalRank(user.rank())
+                    .build());
+        }
+        Arrays.sort(rankedIds);
+        Arrays.sort(userIds);
+        for (int i = 0; i < userIds.length; i++) {
+            boolean duplicate = i > 0 && userIds[i] == userIds[i - 1];
+            if (!duplicate && Arrays.binarySearch(rankedIds, userIds[i]) < 0) {
+                entries.add(LeaderboardEntryDto.builder()
+                        .userId(userIds[i])
+                        .score(0)
+                        .rank(entries.size() + 1)
+                        .build());
+            }
+        }
+        return entries;
+    }
+
+    // --- Atualizações (só depois do commit em leaderboard_scores) ---
+    public void addPoints(long[] userIds, int[] deltas, int count) {
+        leaderboard.addPoints(userIds, deltas, count);
+    }
+
+    // --- Recarga ---
+    public void reload() {
+        long start = System.nanoTime();
+        long[][] userIds = {new long[1 << 16]};
+        int[][] scores = {new int[1 << 16]};
+        int[] count = {0};
+        // Índice (score DESC, user_id) entrega as linhas já na ordem do ranking; fetchSize MIN_VALUE faz o
+        // driver do MySQL trazer o resultado em streaming, sem materializar milhões de linhas de uma vez
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT user_id, score FROM leaderboard_scores ORDER BY score DESC, user_id ASC");
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, rs -> {
+            int i = count[0];
+            if (i == userIds[0].length) {
+                userIds[0] = Arrays.copyOf(userIds[0], i << 1);
+                scores[0] = Arrays.copyOf(scores[0], i << 1);
+            }
+            userIds[0][i] = rs.getLong(1);
+            scores[0][i] = rs.getInt(2);
+            count[0] = i + 1;
+        });
+        leaderboard.load(userIds[0], scores[0], count[0]);
+        log.info("Ranking carregado: {} usuários em {} ms.", count[0], (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private int clamp(int value) {
+        return Math.max(0, Math.min(value, maxPageSize));
+    }
+
+    private List<LeaderboardEntryDto> toDtos(List<RankedUser> users) {
+        return users.stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    private LeaderboardEntryDto mapToDto(RankedUser user) {
+        return LeaderboardEntryDto.builder()
+                .userId(user.userId())
+                .score(user.score())
+                .rank(user.rank())
+                .build();
+    }
+}
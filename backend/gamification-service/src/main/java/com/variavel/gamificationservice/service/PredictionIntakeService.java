@@ -0,0 +1,374 @@
+package com.variavel.gamificationservice.service;
+
+import com.variavel.gamificationservice.dto.PredictionDto;
+import com.variavel.gamificationservice.dto.PredictionRequestDto;
+import com.variavel.gamificationservice.intake.IdempotencyKey;
+import com.variavel.gamificationservice.intake.PendingPrediction;
+import com.variavel.gamificationservice.intake.PredictionWriteAheadLog;
+import com.variavel.gamificationservice.repository.PredictionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Recebimento de palpites com gravação em micro-lotes.
+// A requisição valida o palpite, entra numa fila limitada e espera apenas o fsync do write-ahead log local;
+// uma única thread (flusher) drena a fila em lotes, grava o lote no log, confirma as requisições e então
+// faz o upsert no MySQL num único batch JDBC. Com a fila cheia a requisição é recusada (429) em vez de
+// acumular memória. Se o processo cair entre a confirmação e o commit, o log é reaplicado na inicialização.
+// A chave de idempotência (por usuário) é reservada antes de entrar na fila e vai para o log e para o banco junto
+// com o palpite, então vale também depois de um reinício e entre réplicas.
+@Service
+public class PredictionIntakeService {
+
+    private static final Logger log = LoggerFactory.getLogger(PredictionIntakeService.class);
+
+    // Só altera o palpite enquanto a partida não foi pontuada; reaplicar o mesmo registro não muda nada
+    private static final String UPSERT_SQL = "INSERT INTO predictions (user_id, fixture_id, home_goals, away_goals, created_at) "
+            + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+            + "home_goals = IF(points IS NULL, VALUES(home_goals), home_goals), "
+            + "away_goals = IF(points IS NULL, VALUES(away_goals), away_goals)";
+    private static final String INSERT_KEY_SQL = "INSERT IGNORE INTO prediction_idempotency_keys (user_id, key_hash, fixture_id, created_at) "
+            + "VALUES (?, ?, ?, ?)";
+    private static final String FIND_KEY_SQL = "SELECT COUNT(*) FROM prediction_idempotency_keys WHERE user_id = ? AND key_hash = ?";
+
+    public enum IntakeResult {
+        ACCEPTED, // Gravado no log e enfileirado para o banco
+        DUPLICATE, // Mesma chave de idempotência já aceita
+        IN_PROGRESS, // Mesma chave de idempotência numa requisição ainda em andamento (409)
+        FIXTURE_NOT_FOUND,
+        FIXTURE_CLOSED, // Partida já começou (ou vai começar dentro do prazo de corte)
+        SATURATED, // Fila cheia: o cliente deve tentar de novo (429)
+        UNAVAILABLE // Não foi possível garantir a gravação a tempo (503)
+    }
+
+    // Chave reservada por uma requisição em andamento ou já aceita
+    private enum KeyState {
+        RESERVED,
+        ACCEPTED
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PredictionRepository predictionRepository;
+    private final FixtureKickoffService fixtureKickoffService;
+    private final BlockingQueue<PendingPrediction> queue;
+    private final int maxBatchSize;
+    private final long flushIntervalMillis;
+    private final Duration ackTimeout;
+    private final Duration kickoffCutoff;
+    private final Path walPath;
+    private final Duration idempotencyRetention;
+    private final Map<IdempotencyKey, KeyState> recentIdempotencyKeys;
+
+    private PredictionWriteAheadLog writeAheadLog;
+    private Thread flusher;
+    private volatile boolean running;
+
+    public PredictionIntakeService(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   PredictionRepository predictionRepository,
+                                   FixtureKickoffService fixtureKickoffService,
+                                   @Value("${predictions.intake.queue-capacity:50000}") int queueCapacity,
+                                   @Value("${predictions.intake.max-batch-size:1000}") int maxBatchSize,
+                                   @Value("${predictions.intake.flush-interval-ms:5}") long flushIntervalMillis,
+                                   @Value("${predictions.intake.ack-timeout-ms:2000}") long ackTimeoutMillis,
+                                   @Value("${predictions.intake.kickoff-cutoff-seconds:0}") long kickoffCutoffSeconds,
+                                   @Value("${predictions.intake.wal-path:./data/predictions.wal}") String walPath,
+                                   @Value("${predictions.intake.idempotency-cache-size:200000}") int idempotencyCacheSize,
+                                   @Value("${predictions.intake.idempotency-retention-hours:24}") long idempotencyRetentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.predictionRepository = predictionRepository;
+        this.fixtureKickoffService = fixtureKickoffService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.ackTimeout = Duration.ofMillis(ackTimeoutMillis);
+        this.kickoffCutoff = Duration.ofSeconds(kickoffCutoffSeconds);
+        this.walPath = Path.of(walPath);
+        this.idempotencyRetention = Duration.ofHours(idempotencyRetentionHours);
+        // LRU limitado das chaves recentes desta instância; as que saem dele são consultadas no banco
+        this.recentIdempotencyKeys = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IdempotencyKey, KeyState> eldest) {
+                return size() > idempotencyCacheSize;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        writeAheadLog = new PredictionWriteAheadLog(walPath);
+        List<PendingPrediction> recovered = writeAheadLog.readAll();
+        if (!recovered.isEmpty()) {
+            log.warn("Reaplicando {} palpites do write-ahead log que não chegaram ao banco.", recovered.size());
+        }
+        recovered.stream()
+                .filter(pending -> pending.idempotencyKey != null)
+                .forEach(pending -> recentIdempotencyKeys.put(pending.idempotencyKey, KeyState.ACCEPTED));
+        running = true;
+        flusher = new Thread(() -> flushLoop(new ArrayList<>(recovered)), "prediction-intake-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // Sem interrupt: um interrupt durante o write/force do log fecharia o canal (ClosedByInterruptException) sob um
+    // lote em andamento. O flusher vê running = false no próximo poll (timeout curto), drena a fila para o log e sai.
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        if (flusher.isAlive()) {
+            log.warn("Flusher de palpites não terminou a tempo; o write-ahead log fica aberto e será reaplicado na inicialização.");
+            return;
+        }
+        writeAheadLog.close();
+    }
+
+    public IntakeResult submit(PredictionRequestDto request, String idempotencyKey) {
+        IdempotencyKey key = idempotencyKey != null ? IdempotencyKey.of(request.getUserId(), idempotencyKey) : null;
+        if (key != null) {
+            IntakeResult known = reserveKey(key);
+            if (known != null) {
+                return known;
+            }
+        }
+        IntakeResult result = enqueue(request, key);
+        if (key != null) {
+            if (result == IntakeResult.ACCEPTED) {
+                setKeyState(key, KeyState.ACCEPTED);
+            } else {
+                releaseKey(key); // Nada foi aceito: um retry com a mesma chave volta a ser processado
+            }
+        }
+        return result;
+    }
+
+    private IntakeResult enqueue(PredictionRequestDto request, IdempotencyKey key) {
+        if (!running) {
+            return IntakeResult.UNAVAILABLE; // Encerrando: o flusher pode já ter saído
+        }
+        Optional<FixtureKickoffService.Kickoff> kickoff = fixtureKickoffService.getKickoff(request.getFixtureId());
+        if (kickoff.isEmpty()) {
+            return IntakeResult.FIXTURE_NOT_FOUND;
+        }
+        if (!kickoff.get().acceptsPredictions(Instant.now(), kickoffCutoff)) {
+            return IntakeResult.FIXTURE_CLOSED;
+        }
+
+        PendingPrediction pending = new PendingPrediction(request.getUserId(), request.getFixtureId(),
+                request.getHomeGoals(), request.getAwayGoals(), System.currentTimeMillis(), key);
+        if (!queue.offer(pending)) {
+            return IntakeResult.SATURATED;
+        }
+        try {
+            pending.durable().get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return IntakeResult.UNAVAILABLE;
+        } catch (ExecutionException | TimeoutException e) {
+            return IntakeResult.UNAVAILABLE;
+        }
+        return IntakeResult.ACCEPTED;
+    }
+
+    public Optional<PredictionDto> getPrediction(long userId, long fixtureId) {
+        return predictionRepository.findByUserIdAndFixtureId(userId, fixtureId)
+                .map(prediction -> PredictionDto.builder()
+                        .userId(prediction.getUserId())
+                        .fixtureId(prediction.getFixtureId())
+                        .homeGoals(prediction.getHomeGoals())
+                        .awayGoals(prediction.getAwayGoals())
+                        .points(prediction.getPoints())
+                        .createdAt(prediction.getCreatedAt())
+                        .build());
+    }
+
+    // Remove as chaves de idempotência mais antigas que a retenção
+    @Scheduled(cron = "0 45 * * * *")
+    public void purgeExpiredIdempotencyKeys() {
+        Timestamp before = Timestamp.from(Instant.now().minus(idempotencyRetention));
+        int deleted;
+        int total = 0;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM prediction_idempotency_keys WHERE created_at < ? LIMIT 10000", before);
+            total += deleted;
+        } while (deleted > 0);
+        if (total > 0) {
+            log.info("{} chaves de idempotência de palpites expiradas removidas.", total);
+        }
+    }
+
+    // Reserva a chave para esta requisição. Retorna null se reservou; senão o resultado a devolver ao cliente.
+    private IntakeResult reserveKey(IdempotencyKey key) {
+        synchronized (recentIdempotencyKeys) {
+            KeyState state = recentIdempotencyKeys.putIfAbsent(key, KeyState.RESERVED);
+            if (state == KeyState.ACCEPTED) {
+                return IntakeResult.DUPLICATE;
+            }
+            if (state == KeyState.RESERVED) {
+                return IntakeResult.IN_PROGRESS;
+            }
+        }
+        // Fora da memória desta instância: pode ter sido aceita antes de um reinício ou por outra réplica
+        try {
+            Integer stored = jdbcTemplate.queryForObject(FIND_KEY_SQL, Integer.class, key.userId(), key.hashBytes());
+            if (stored != null && stored > 0) {
+                setKeyState(key, KeyState.ACCEPTED);
+                return IntakeResult.DUPLICATE;
+            }
+        } catch (RuntimeException e) {
+            releaseKey(key);
+            log.warn("Erro ao consultar chave de idempotência: {}", e.getMessage());
+            return IntakeResult.UNAVAILABLE;
+        }
+        return null;
+    }
+
+    private void setKeyState(IdempotencyKey key, KeyState state) {
+        synchronized (recentIdempotencyKeys) {
+            recentIdempotencyKeys.put(key, state);
+        }
+    }
+
+    private void releaseKey(IdempotencyKey key) {
+        synchronized (recentIdempotencyKeys) {
+            recentIdempotencyKeys.remove(key, KeyState.RESERVED);
+        }
+    }
+
+    // --- Flusher (thread única) ---
+
+    // 'unsaved': registros já no log e ainda não gravados no banco (o log contém exatamente estes registros).
+    // Ao encerrar, drena o que restou na fila para o log; se o banco falhar nesse ponto, o restante vai só para o log.
+    private void flushLoop(List<PendingPrediction> unsaved) {
+        List<PendingPrediction> batch = new ArrayList<>(maxBatchSize);
+        boolean skipDatabase = false;
+        while (running || !queue.isEmpty()) {
+            try {
+                // Enquanto o banco estiver fora, para de drenar a fila: ela enche e o intake passa a responder 429
+                if (!running || unsaved.size() < maxBatchSize * 10) {
+                    PendingPrediction first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                    if (first != null) {
+                        try {
+                            batch.add(first);
+                            queue.drainTo(batch, maxBatchSize - 1);
+                            appendToLog(batch);
+                            unsaved.addAll(batch);
+                        } finally {
+                            // Se o log falhar, as requisições do lote já receberam erro (503) e não são reenviadas
+                            batch.clear();
+                        }
+                    }
+                }
+                if (!unsaved.isEmpty() && !skipDatabase) {
+                    saveToDatabase(unsaved);
+                    unsaved.clear();
+                    writeAheadLog.truncate();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Flusher de palpites interrompido; {} pendentes ficam no write-ahead log.", unsaved.size());
+                return;
+            } catch (Exception e) {
+                if (!running) {
+                    log.warn("Erro ao gravar palpites ao encerrar; os pendentes ficam no write-ahead log: {}", e.getMessage());
+                    skipDatabase = true;
+                    continue;
+                }
+                log.error("Erro ao gravar palpites ({} pendentes), tentando novamente: {}", unsaved.size(), e.getMessage(), e);
+                sleepQuietly(1000);
+            }
+        }
+    }
+
+    private void appendToLog(List<PendingPrediction> batch) {
+        try {
+            writeAheadLog.append(batch);
+        } catch (IOException e) {
+            batch.forEach(pending -> pending.durable().completeExceptionally(e));
+            throw new UncheckedIOException(e);
+        }
+        batch.forEach(pending -> pending.durable().complete(null));
+    }
+
+    // Palpites e chaves de idempotência de cada lote no mesmo commit
+    private void saveToDatabase(List<PendingPrediction> predictions) {
+        for (int from = 0; from < predictions.size(); from += maxBatchSize) {
+            List<PendingPrediction> slice = predictions.subList(from, Math.min(predictions.size(), from + maxBatchSize));
+            List<PendingPrediction> keyed = slice.stream().filter(pending -> pending.idempotencyKey != null).toList();
+            transactionTemplate.executeWithoutResult(status -> saveSlice(slice, keyed));
+        }
+    }
+
+    private void saveSlice(List<PendingPrediction> slice, List<PendingPrediction> keyed) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PendingPrediction prediction = slice.get(i);
+                ps.setLong(1, prediction.userId);
+                ps.setLong(2, prediction.fixtureId);
+                ps.setInt(3, prediction.homeGoals);
+                ps.setInt(4, prediction.awayGoals);
+                ps.setTimestamp(5, new Timestamp(prediction.createdAtMillis));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return slice.size();
+            }
+        });
+        if (keyed.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_KEY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PendingPrediction prediction = keyed.get(i);
+                ps.setLong(1, prediction.userId);
+                ps.setBytes(2, prediction.idempotencyKey.hashBytes());
+                ps.setLong(3, prediction.fixtureId);
+                ps.setTimestamp(4, new Timestamp(prediction.createdAtMillis));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return keyed.size();
+            }
+        });
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
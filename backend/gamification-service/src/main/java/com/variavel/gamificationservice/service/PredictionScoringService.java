@@ -0,0 +1,249 @@
+package com.variavel.gamificationservice.service;
+
+import com.variavel.gamificationservice.dto.ScoringReportDto;
+import com.variavel.gamificationservice.scoring.PredictionChunk;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Pontua em lote todos os palpites de uma partida encerrada.
+// Os palpites são lidos em blocos (keyset por id) e cada bloco é pontuado e gravado em paralelo, em sua própria
+// transação, por um pool de workers. A gravação é idempotente: cada linha só é atualizada se 'points' ainda tiver
+// o valor lido, e o ranking recebe apenas a diferença para o que já tinha sido dado. Reprocessar o mesmo resultado
+// não altera nada; um placar corrigido ajusta os pontos sem contar em dobro.
+// Este é o único escritor de leaderboard_scores (ver LeaderboardService): o delta entra na mesma transação dos
+// palpites, então uma queda antes de atualizar a memória não perde pontos, só adia até a recarga.
+@Service
+public class PredictionScoringService {
+
+    private static final Logger log = LoggerFactory.getLogger(PredictionScoringService.class);
+
+    private static final String SELECT_CHUNK_SQL = "SELECT id, user_id, home_goals, away_goals, points FROM predictions "
+            + "WHERE fixture_id = ? AND id > ? ORDER BY id LIMIT ?";
+    private static final String UPDATE_POINTS_SQL = "UPDATE predictions SET points = ?, scored_at = ? WHERE id = ? AND points <=> ?";
+    private static final String ADD_SCORE_SQL = "INSERT INTO leaderboard_scores (user_id, score, updated_at) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE score = score + VALUES(score), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaderboardService leaderboardService;
+    private final AchievementService achievementService;
+    private final int chunkSize;
+    private final int workers;
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<Long, Object> fixtureLocks = new ConcurrentHashMap<>();
+
+    public PredictionScoringService(JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    LeaderboardService leaderboardService,
+                                    AchievementService achievementService,
+                                    @Value("${scoring.chunk-size:5000}") int chunkSize,
+                                    @Value("${scoring.workers:0}") int workers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.leaderboardService = leaderboardService;
+        this.achievementService = achievementService;
+        this.chunkSize = chunkSize;
+        // Cada worker segura uma conexão durante a gravação: o padrão fica abaixo do pool do Hikari (10)
+        this.workers = workers > 0 ? workers : Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        this.executor = Executors.newFixedThreadPool(this.workers, runnable -> {
+            Thread thread = new Thread(runnable, "prediction-scoring");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public ScoringReportDto scoreFixture(long fixtureId, int homeGoals, int awayGoals) {
+        // Duas entregas simultâneas do mesmo resultado são serializadas; partidas diferentes rodam em paralelo
+        Object fixtureLock = fixtureLocks.computeIfAbsent(fixtureId, id -> new Object());
+        synchronized (fixtureLock) {
+            try {
+                return runPipeline(fixtureId, homeGoals, awayGoals);
+            } finally {
+                fixtureLocks.remove(fixtureId, fixtureLock);
+            }
+        }
+    }
+
+    private ScoringReportDto runPipeline(long fixtureId, int homeGoals, int awayGoals) {
+        long start = System.nanoTime();
+        log.info("Pontuando palpites da partida {} (placar final {} x {})...", fixtureId, homeGoals, awayGoals);
+
+        AtomicInteger read = new AtomicInteger();
+        AtomicInteger updated = new AtomicInteger();
+        AtomicLong pointsAwarded = new AtomicLong();
+        // Limita os blocos em memória: a leitura espera quando todos os workers estão ocupados
+        Semaphore inFlight = new Semaphore(workers * 2);
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+        long lastId = 0;
+        while (true) {
+            PredictionChunk chunk = readChunk(fixtureId, lastId);
+            if (chunk.size == 0) {
+                break;
+            }
+            read.addAndGet(chunk.size);
+            lastId = chunk.lastId();
+            inFlight.acquireUninterruptibly();
+            tasks.add(CompletableFuture.runAsync(() -> {
+                chunk.score(homeGoals, awayGoals);
+                int[] result = writeChunk(chunk);
+                updated.addAndGet(result[0]);
+                pointsAwarded.addAndGet(result[1]);
+            }, executor).whenComplete((ignored, error) -> inFlight.release()));
+            if (chunk.size < chunkSize) {
+                break;
+            }
+        }
+        // Falha de qualquer bloco propaga; os blocos já gravados não são refeitos numa nova tentativa
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Partida {} pontuada: {} palpites lidos, {} atualizados, {} pontos distribuídos em {} ms.",
+                fixtureId, read.get(), updated.get(), pointsAwarded.get(), elapsedMillis);
+        return ScoringReportDto.builder()
+                .fixtureId(fixtureId)
+                .homeGoals(homeGoals)
+                .awayGoals(awayGoals)
+                .predictionsRead(read.get())
+                .predictionsUpdated(updated.get())
+                .pointsAwarded(pointsAwarded.get())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private PredictionChunk readChunk(long fixtureId, long afterId) {
+        PredictionChunk chunk = new PredictionChunk(chunkSize);
+        jdbcTemplate.query(SELECT_CHUNK_SQL, rs -> {
+            int i = chunk.size++;
+            chunk.ids[i] = rs.getLong(1);
+            chunk.userIds[i] = rs.getLong(2);
+            chunk.homeGoals[i] = rs.getInt(3);
+            chunk.awayGoals[i] = rs.getInt(4);
+            int points = rs.getInt(5);
+            chunk.previousPoints[i] = rs.wasNull() ? PredictionChunk.UNSCORED : points;
+        }, fixtureId, afterId, chunkSize);
+        return chunk;
+    }
+
+    // Grava os pontos que mudaram e soma as diferenças em leaderboard_scores na mesma transação.
+    // Retorna {linhas atualizadas, pontos somados}.
+    private int[] writeChunk(PredictionChunk chunk) {
+        int[] changed = new int[chunk.size];
+        int changedCount = 0;
+        for (int i = 0; i < chunk.size; i++) {
+            if (chunk.changed(i)) {
+                changed[changedCount++] = i;
+            }
+        }
+        if (changedCount == 0) {
+            return new int[]{0, 0};
+        }
+
+        int toUpdate = changedCount;
+        long[] users = new long[toUpdate];
+        int[] deltas = new int[toUpdate];
+        long[] firstScoredUsers = new long[toUpdate];
+        int[] firstScoredPoints = new int[toUpdate];
+        int[] applied = transactionTemplate.execute(status -> {
+            Timestamp now = Timestamp.from(Instant.now());
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_POINTS_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int k) throws SQLException {
+                    int i = changed[k];
+                    ps.setInt(1, chunk.newPoints[i]);
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, chunk.ids[i]);
+                    if (chunk.previousPoints[i] == PredictionChunk.UNSCORED) {
+                        ps.setNull(4, Types.INTEGER);
+                    } else {
+                        ps.setInt(4, chunk.previousPoints[i]);
+                    }
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return toUpdate;
+                }
+            });
+
+            // Só entram no ranking as linhas que de fato mudaram (0 = outra execução chegou antes;
+            // com rewriteBatchedStatements o driver pode devolver SUCCESS_NO_INFO, tratado como aplicado)
+            int rows = 0;
+            int deltaCount = 0;
+            int firstScoredCount = 0;
+            long points = 0;
+            for (int k = 0; k < toUpdate; k++) {
+                if (counts[k] == 0) {
+                    continue;
+                }
+                rows++;
+                int i = changed[k];
+                if (chunk.previousPoints[i] == PredictionChunk.UNSCORED) {
+                    firstScoredUsers[firstScoredCount] = chunk.userIds[i];
+                    firstScoredPoints[firstScoredCount] = chunk.newPoints[i];
+                    firstScoredCount++;
+                }
+                int delta = chunk.delta(i);
+                if (delta != 0) {
+                    users[deltaCount] = chunk.userIds[i];
+                    deltas[deltaCount] = delta;
+                    deltaCount++;
+                    points += delta;
+                }
+            }
+            int deltaTotal = deltaCount;
+            if (deltaTotal > 0) {
+                jdbcTemplate.batchUpdate(ADD_SCORE_SQL, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int k) throws SQLException {
+                        ps.setLong(1, users[k]);
+                        ps.setInt(2, deltas[k]);
+                        ps.setTimestamp(3, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return deltaTotal;
+                    }
+                });
+            }
+            return new int[]{rows, (int) points, deltaTotal, firstScoredCount};
+        });
+
+        // Depois do commit: reflete no ranking em memória os mesmos deltas já gravados
+        leaderboardService.addPoints(users, deltas, applied[2]);
+        // Conquistas contam cada palpite uma única vez: correções de placar não geram novos eventos
+        try {
+            achievementService.onPredictionsScored(firstScoredUsers, firstScoredPoints, applied[3]);
+        } catch (RuntimeException e) {
+            log.error("Erro ao registrar conquistas dos palpites pontuados: {}", e.getMessage(), e);
+        }
+        return new int[]{applied[0], applied[1]};
+    }
+}
@@ -0,0 +1,156 @@
+package com.variavel.gamificationservice.util;
+
+import java.util.Arrays;
+
+// Mapa long -> int primitivo (endereçamento aberto, sondagem linear), usado para contadores por usuário.
+// Chave ausente vale 0. Não é thread-safe: quem usa deve sincronizar o acesso.
+public class LongIntHashMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, int value);
+    }
+
+    private long[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(long key) {
+        int slot = indexOf(key);
+        return slot >= 0 ? values[slot] : 0;
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    public void put(long key, int value) {
+        int slot = slotFor(key);
+        values[slot] = value;
+    }
+
+    // Soma 'delta' ao valor da chave (0 se ausente) e retorna o novo valor
+    public int addTo(long key, int delta) {
+        int slot = slotFor(key);
+        return values[slot] += delta;
+    }
+
+    public boolean remove(long key) {
+        int slot = indexOf(key);
+        if (slot < 0) {
+            return false;
+        }
+        shiftBack(slot);
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < used.length; i++) {
+            if (used[i]) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    // Posição da chave, inserindo-a com valor 0 se ainda não existir
+    private int slotFor(long key) {
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size + 1 > resizeAt) {
+            rehash(keys.length << 1);
+            return slotFor(key);
+        }
+        keys[slot] = key;
+        values[slot] = 0;
+        used[slot] = true;
+        size++;
+        return slot;
+    }
+
+    private int indexOf(long key) {
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Remoção sem lápides: desloca para trás as entradas seguintes do mesmo cluster
+    private void shiftBack(int slot) {
+        int last = slot;
+        int current = (slot + 1) & mask;
+        while (used[current]) {
+            int ideal = mix(keys[current]) & mask;
+            if (((current - ideal) & mask) >= ((current - last) & mask)) {
+                keys[last] = keys[current];
+                values[last] = values[current];
+                last = current;
+            }
+            current = (current + 1) & mask;
+        }
+        used[last] = false;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(newCapacity);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                used[slot] = true;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,9 @@
+-- Snapshot do ranking global mantido em memória pelo LeaderboardService.
+CREATE TABLE leaderboard_scores (
+    user_id    BIGINT      NOT NULL,
+    score      INT         NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id),
+    -- Entrega as linhas já na ordem do ranking na recarga, sem filesort
+    INDEX idx_leaderboard_scores_rank (score DESC, user_id ASC)
+) ENGINE = InnoDB;
@@ -0,0 +1,15 @@
+-- Palpites de placar dos usuários. fixture_id é o ID interno da partida no sports-data-service.
+CREATE TABLE predictions (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    fixture_id BIGINT      NOT NULL,
+    home_goals INT         NOT NULL,
+    away_goals INT         NOT NULL,
+    points     INT         NULL, -- NULL até a partida ser pontuada
+    created_at DATETIME(6) NOT NULL,
+    scored_at  DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_predictions_user_fixture UNIQUE (user_id, fixture_id),
+    -- Leitura em blocos (keyset) dos palpites de uma partida na pontuação
+    INDEX idx_predictions_fixture_id (fixture_id, id)
+) ENGINE = InnoDB;
@@ -0,0 +1,8 @@
+-- Offsets dos feeds consumidos (ex: feed de eventos de partidas do sports-data-service).
+-- O offset só avança depois que o evento foi processado: entrega "pelo menos uma vez".
+CREATE TABLE consumer_offsets (
+    consumer_name VARCHAR(64) NOT NULL,
+    last_sequence BIGINT      NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (consumer_name)
+) ENGINE = InnoDB;
@@ -0,0 +1,25 @@
+-- Contadores por usuário usados pelas regras de conquistas e desafios diários.
+-- period_day = 0 para os contadores acumulados; nos diários, o dia (epoch day, UTC) a que o valor se refere.
+-- Gravados em checkpoints periódicos: o motor de regras mantém os valores correntes em memória.
+CREATE TABLE achievement_counters (
+    user_id       BIGINT      NOT NULL,
+    counter       VARCHAR(32) NOT NULL,
+    period_day    INT         NOT NULL,
+    counter_value INT         NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id, counter, period_day),
+    -- Recarga dos contadores do dia e limpeza dos dias antigos
+    INDEX idx_achievement_counters_period (period_day)
+) ENGINE = InnoDB;
+
+-- Conquistas e desafios diários concluídos. A chave única garante que cada conquista é concedida uma única vez
+-- (por dia, no caso dos desafios), mesmo que o contador seja reprocessado após uma queda.
+CREATE TABLE user_achievements (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    code       VARCHAR(64) NOT NULL,
+    period_day INT         NOT NULL, -- 0 para conquistas; o dia (epoch day, UTC) para desafios diários
+    awarded_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_achievements_user_code_period UNIQUE (user_id, code, period_day)
+) ENGINE = InnoDB;
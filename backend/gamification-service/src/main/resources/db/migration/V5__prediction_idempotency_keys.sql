@@ -0,0 +1,12 @@
+-- Chaves de idempotência dos palpites aceitos, no escopo do usuário (hash de 128 bits da chave do cliente, ver
+-- IdempotencyKey). Gravadas no mesmo commit do palpite; valem entre reinícios e entre réplicas do intake e são
+-- removidas depois da janela de retenção.
+CREATE TABLE prediction_idempotency_keys (
+    user_id    BIGINT      NOT NULL,
+    key_hash   BINARY(16)  NOT NULL,
+    fixture_id BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id, key_hash),
+    -- Limpeza das chaves antigas
+    INDEX idx_prediction_idempotency_keys_created_at (created_at)
+) ENGINE = InnoDB;
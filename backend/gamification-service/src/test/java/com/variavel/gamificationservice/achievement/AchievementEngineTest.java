@@ -0,0 +1,125 @@
+package com.variavel.gamificationservice.achievement;
+
+import com.variavel.gamificationservice.scoring.PredictionScorer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AchievementEngineTest {
+
+    private static final int DAY = 20_000;
+    private static final long USER = 42L;
+
+    private static final AchievementRule VIEWER = new AchievementRule("VIEWER", "Viewer", "", Medal.BRONZE, Counter.FIXTURES_VIEWED, 2);
+    private static final AchievementRule DAILY_VIEWER = new AchievementRule("DAILY_VIEWER", "Daily viewer", "", null, Counter.DAILY_FIXTURES_VIEWED, 2);
+    private static final AchievementRule SHARPSHOOTER = new AchievementRule("SHARPSHOOTER", "Sharpshooter", "", Medal.GOLD, Counter.EXACT_SCORES, 1);
+
+    private AchievementEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new AchievementEngine(List.of(VIEWER, DAILY_VIEWER, SHARPSHOOTER), 64, DAY);
+    }
+
+    @Test
+    void awardsOnlyWhenTheThresholdIsReached() {
+        assertTrue(engine.record(USER, AchievementEventType.FIXTURE_VIEWED, 0, DAY).isEmpty());
+
+        List<Award> awards = engine.record(USER, AchievementEventType.FIXTURE_VIEWED, 0, DAY);
+        assertEquals(List.of(new Award(USER, VIEWER, 0), new Award(USER, DAILY_VIEWER, DAY)), awards);
+
+        assertTrue(engine.record(USER, AchievementEventType.FIXTURE_VIEWED, 0, DAY).isEmpty());
+        assertEquals(3, engine.get(USER, Counter.FIXTURES_VIEWED, DAY));
+    }
+
+    @Test
+    void batchRecordAppliesThePointsFilter() {
+        long[] users = {1L, 2L, 3L};
+        int[] points = {PredictionScorer.EXACT_SCORE_POINTS, 0, PredictionScorer.EXACT_SCORE_POINTS};
+
+        List<Award> awards = engine.record(users, points, 2, AchievementEventType.PREDICTION_SCORED, DAY); // O 3º fica de fora
+
+        assertEquals(List.of(new Award(1L, SHARPSHOOTER, 0)), awards);
+        assertEquals(1, engine.get(2L, Counter.PREDICTIONS_SCORED, DAY));
+        assertEquals(0, engine.get(2L, Counter.EXACT_SCORES, DAY));
+        assertEquals(0, engine.get(3L, Counter.PREDICTIONS_SCORED, DAY));
+    }
+
+    @Test
+    void dayRolloverResetsDailyCountersAndKeepsTheOldDayForTheCheckpoint() {
+        engine.record(USER, AchievementEventType.FIXTURE_VIEWED, 0, DAY);
+        engine.record(USER, AchievementEventType.FIXTURE_VIEWED, 0, DAY);
+
+        // Primeiro evento do dia seguinte: o diário recomeça, o acumulado continua
+        assertTrue(engine.record(USER, AchievementEventType.FIXTURE_VIEWED, 0, DAY + 1).isEmpty());
+        assertEquals(1, engine.get(USER, Counter.DAILY_FIXTURES_VIEWED, DAY + 1));
+        assertEquals(3, engine.get(USER, Counter.FIXTURES_VIEWED, DAY + 1));
+
+        List<String> entries = entries(engine.drainDirty(DAY + 1));
+        assertTrue(entries.contains("42:DAILY_FIXTURES_VIEWED:" + DAY + "=2"), entries.toString());
+        assertTrue(entries.contains("42:DAILY_FIXTURES_VIEWED:" + (DAY + 1) + "=1"), entries.toString());
+        assertTrue(entries.contains("42:FIXTURES_VIEWED:0=3"), entries.toString());
+
+        // O desafio diário pode ser concluído de novo no dia novo
+        assertEquals(List.of(new Award(USER, DAILY_VIEWER, DAY + 1)),
+                engine.record(USER, AchievementEventType.FIXTURE_VIEWED, 0, DAY + 1));
+    }
+
+    @Test
+    void drainReturnsOnlyChangesSinceTheLastCheckpoint() {
+        engine.record(USER, AchievementEventType.COMMENT_POSTED, 0, DAY);
+
+        assertEquals(List.of("42:COMMENTS_POSTED:0=1", "42:DAILY_COMMENTS_POSTED:" + DAY + "=1"),
+                sorted(entries(engine.drainDirty(DAY))));
+        assertEquals(0, engine.drainDirty(DAY).size);
+    }
+
+    @Test
+    void restoredCheckpointIsDrainedBeforeNewerValues() {
+        engine.record(USER, AchievementEventType.COMMENT_POSTED, 0, DAY);
+        CounterCheckpoint failed = engine.drainDirty(DAY);
+        engine.record(USER, AchievementEventType.COMMENT_POSTED, 0, DAY);
+
+        engine.restore(failed);
+
+        List<String> entries = entries(engine.drainDirty(DAY));
+        // Os valores antigos vêm antes: gravados em ordem, o mais novo (2) prevalece
+        assertEquals(4, entries.size());
+        assertTrue(entries.indexOf("42:COMMENTS_POSTED:0=1") < entries.indexOf("42:COMMENTS_POSTED:0=2"), entries.toString());
+        assertEquals(0, engine.drainDirty(DAY).size);
+    }
+
+    @Test
+    void restoreKeepsValuesPendingFromARollover() {
+        engine.record(USER, AchievementEventType.COMMENT_POSTED, 0, DAY);
+        CounterCheckpoint failed = engine.drainDirty(DAY);
+        engine.record(USER, AchievementEventType.COMMENT_POSTED, 0, DAY);
+        engine.get(USER, Counter.COMMENTS_POSTED, DAY + 1); // Vira o dia: o diário de DAY fica pendente
+
+        engine.restore(failed);
+
+        List<String> entries = entries(engine.drainDirty(DAY + 1));
+        assertTrue(entries.contains("42:DAILY_COMMENTS_POSTED:" + DAY + "=1"), entries.toString());
+        assertTrue(entries.contains("42:DAILY_COMMENTS_POSTED:" + DAY + "=2"), entries.toString());
+        assertTrue(entries.indexOf("42:DAILY_COMMENTS_POSTED:" + DAY + "=1") < entries.indexOf("42:DAILY_COMMENTS_POSTED:" + DAY + "=2"));
+    }
+
+    private static List<String> entries(CounterCheckpoint checkpoint) {
+        List<String> entries = new ArrayList<>(checkpoint.size);
+        for (int i = 0; i < checkpoint.size; i++) {
+            entries.add(checkpoint.userIds[i] + ":" + checkpoint.counters[i] + ":" + checkpoint.periodDays[i] + "=" + checkpoint.values[i]);
+        }
+        return entries;
+    }
+
+    private static List<String> sorted(List<String> entries) {
+        List<String> copy = new ArrayList<>(entries);
+        copy.sort(null);
+        return copy;
+    }
+}
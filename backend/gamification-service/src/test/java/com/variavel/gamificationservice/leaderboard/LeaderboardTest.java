@@ -0,0 +1,99 @@
+package com.variavel.gamificationservice.leaderboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaderboardTest {
+
+    private Leaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new Leaderboard(16);
+    }
+
+    @Test
+    void addPointsCreatesAndMovesUsers() {
+        leaderboard.addPoints(new long[]{1L, 2L, 3L}, new int[]{10, 30, 20}, 3);
+
+        assertEquals(new RankedUser(2L, 30, 1), leaderboard.find(2L));
+        assertEquals(3, leaderboard.find(1L).rank());
+
+        leaderboard.addPoints(new long[]{1L}, new int[]{25}, 1);
+        assertEquals(new RankedUser(1L, 35, 1), leaderboard.find(1L));
+        assertEquals(2, leaderboard.find(2L).rank());
+        assertEquals(3, leaderboard.size());
+        assertNull(leaderboard.find(99L));
+    }
+
+    @Test
+    void batchAccumulatesRepeatedUsersAndHonorsCount() {
+        leaderboard.addPoints(new long[]{1L, 2L, 1L, 3L}, new int[]{5, 7, 4, 9}, 3); // O 4º fica de fora (count = 3)
+
+        assertEquals(new RankedUser(1L, 9, 1), leaderboard.find(1L));
+        assertEquals(new RankedUser(2L, 7, 2), leaderboard.find(2L));
+        assertNull(leaderboard.find(3L));
+    }
+
+    @Test
+    void negativeDeltaMovesUserDown() {
+        leaderboard.load(new long[]{1L, 2L}, new int[]{30, 20}, 2);
+
+        leaderboard.addPoints(new long[]{1L}, new int[]{-15}, 1); // Correção de resultado
+
+        assertEquals(List.of(new RankedUser(2L, 20, 1), new RankedUser(1L, 15, 2)), leaderboard.top(10));
+    }
+
+    @Test
+    void tiesAreBrokenByUserId() {
+        leaderboard.addPoints(new long[]{5L, 4L, 6L}, new int[]{40, 40, 40}, 3);
+
+        assertEquals(List.of(new RankedUser(4L, 40, 1), new RankedUser(5L, 40, 2), new RankedUser(6L, 40, 3)),
+                leaderboard.top(10));
+    }
+
+    @Test
+    void topAndAroundReturnConsecutiveRanks() {
+        long[] userIds = new long[10];
+        int[] scores = new int[10];
+        for (int i = 0; i < 10; i++) {
+            userIds[i] = i + 1;
+            scores[i] = 99 - i; // Usuário n fica na posição n
+        }
+        leaderboard.load(userIds, scores, 10);
+
+        assertEquals(List.of(new RankedUser(1L, 99, 1), new RankedUser(2L, 98, 2)), leaderboard.top(2));
+        assertEquals(List.of(4L, 5L, 6L, 7L, 8L), leaderboard.around(6L, 2).stream().map(RankedUser::userId).toList());
+        // Perto do topo a janela começa na 1ª posição e mantém o tamanho
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), leaderboard.around(1L, 2).stream().map(RankedUser::userId).toList());
+        assertTrue(leaderboard.around(99L, 2).isEmpty());
+    }
+
+    @Test
+    void findAllSkipsUnknownUsersAndSortsByRank() {
+        leaderboard.load(new long[]{2L, 3L, 1L}, new int[]{30, 20, 10}, 3);
+
+        assertEquals(List.of(new RankedUser(2L, 30, 1), new RankedUser(1L, 10, 3)),
+                leaderboard.findAll(new long[]{1L, 42L, 2L}));
+    }
+
+    @Test
+    void loadReplacesContentAndAcceptsLaterUpdates() {
+        leaderboard.addPoints(new long[]{77L}, new int[]{1_000}, 1);
+        leaderboard.load(new long[]{3L, 1L, 2L}, new int[]{50, 20, 20}, 3);
+
+        assertNull(leaderboard.find(77L));
+        assertEquals(3, leaderboard.size());
+        assertEquals(new RankedUser(2L, 20, 3), leaderboard.find(2L));
+
+        leaderboard.addPoints(new long[]{2L}, new int[]{40}, 1);
+        assertEquals(List.of(new RankedUser(2L, 60, 1), new RankedUser(3L, 50, 2), new RankedUser(1L, 20, 3)),
+                leaderboard.top(10));
+    }
+}
@@ -0,0 +1,117 @@
+package com.variavel.gamificationservice.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RankedSkipListTest {
+
+    private static final Comparator<RankedSkipList.Node> RANKING_ORDER = Comparator
+            .comparingInt((RankedSkipList.Node node) -> -node.score)
+            .thenComparingLong(node -> node.userId);
+
+    @Test
+    void ordersByScoreDescendingThenUserId() {
+        RankedSkipList list = new RankedSkipList();
+        list.clear();
+        RankedSkipList.Node low = insert(list, 3L, 10);
+        RankedSkipList.Node tieB = insert(list, 2L, 50);
+        RankedSkipList.Node top = insert(list, 9L, 80);
+        RankedSkipList.Node tieA = insert(list, 1L, 50);
+
+        assertEquals(4, list.size());
+        assertSame(top, list.nodeAt(1));
+        assertSame(tieA, list.nodeAt(2));
+        assertSame(tieB, list.nodeAt(3));
+        assertSame(low, list.nodeAt(4));
+        assertEquals(3, list.rankOf(tieB));
+        assertNull(list.nodeAt(0));
+        assertNull(list.nodeAt(5));
+    }
+
+    @Test
+    void removedNodeIsNotRanked() {
+        RankedSkipList list = new RankedSkipList();
+        list.clear();
+        RankedSkipList.Node first = insert(list, 1L, 30);
+        RankedSkipList.Node second = insert(list, 2L, 20);
+
+        assertTrue(list.remove(first));
+        assertFalse(list.remove(first));
+        assertEquals(0, list.rankOf(first));
+        assertEquals(1, list.rankOf(second));
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    void ranksMatchSortedReferenceAfterRandomUpdates() {
+        SplittableRandom random = new SplittableRandom(7);
+        RankedSkipList list = new RankedSkipList();
+        list.clear();
+        List<RankedSkipList.Node> nodes = new ArrayList<>();
+        for (long userId = 1; userId <= 2_000; userId++) {
+            nodes.add(insert(list, userId, random.nextInt(500)));
+        }
+        // Mudança de pontuação: remove com a pontuação antiga e reinsere com a nova, como o Leaderboard faz
+        for (int i = 0; i < 5_000; i++) {
+            RankedSkipList.Node node = nodes.get(random.nextInt(nodes.size()));
+            assertTrue(list.remove(node));
+            node.score += random.nextInt(-20, 21);
+            list.insert(node);
+        }
+        assertMatchesReference(list, nodes);
+    }
+
+    @Test
+    void appendAfterClearBuildsAValidListForLaterInserts() {
+        SplittableRandom random = new SplittableRandom(11);
+        RankedSkipList list = new RankedSkipList();
+        list.clear();
+        List<RankedSkipList.Node> nodes = new ArrayList<>();
+        for (long userId = 1; userId <= 1_000; userId++) {
+            nodes.add(list.newNode(userId, random.nextInt(100)));
+        }
+        nodes.sort(RANKING_ORDER);
+        nodes.forEach(list::append);
+        assertMatchesReference(list, nodes);
+
+        for (long userId = 1_001; userId <= 1_200; userId++) {
+            nodes.add(insert(list, userId, random.nextInt(100)));
+        }
+        for (int i = 0; i < 300; i++) {
+            RankedSkipList.Node node = nodes.remove(random.nextInt(nodes.size()));
+            assertTrue(list.remove(node));
+        }
+        assertMatchesReference(list, nodes);
+    }
+
+    private static RankedSkipList.Node insert(RankedSkipList list, long userId, int score) {
+        RankedSkipList.Node node = list.newNode(userId, score);
+        list.insert(node);
+        return node;
+    }
+
+    private static void assertMatchesReference(RankedSkipList list, List<RankedSkipList.Node> nodes) {
+        List<RankedSkipList.Node> expected = new ArrayList<>(nodes);
+        expected.sort(RANKING_ORDER);
+        assertEquals(expected.size(), list.size());
+        RankedSkipList.Node walked = list.first();
+        for (int i = 0; i < expected.size(); i++) {
+            RankedSkipList.Node node = expected.get(i);
+            assertSame(node, walked);
+            assertEquals(i + 1, list.rankOf(node));
+            assertSame(node, list.nodeAt(i + 1));
+            walked = walked.next[0];
+        }
+        assertNull(walked);
+    }
+}
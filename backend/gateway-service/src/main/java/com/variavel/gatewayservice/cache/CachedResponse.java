@@ -0,0 +1,21 @@
+package com.variavel.gatewayservice.cache;
+
+// Resposta guardada no cache de borda. 'expiresAtMillis' vem do Cache-Control da origem (ou do TTL padrão),
+// contado a partir de 'storedAtMillis'.
+public record CachedResponse(int status, String contentType, String etag, String cacheControl,
+                             byte[] body, long storedAtMillis, long expiresAtMillis) {
+
+    public boolean isFresh(long nowMillis) {
+        return nowMillis < expiresAtMillis;
+    }
+
+    // Tempo de vida total da entrada, para o max-age quando a origem não mandou Cache-Control
+    public long ttlSeconds() {
+        return (expiresAtMillis - storedAtMillis) / 1000;
+    }
+
+    // Valor do header Age: há quanto tempo a resposta saiu da origem
+    public long ageSeconds(long nowMillis) {
+        return Math.max(0, (nowMillis - storedAtMillis) / 1000);
+    }
+}
@@ -0,0 +1,46 @@
+package com.variavel.gatewayservice.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Cache LRU limitado pelo total de bytes dos corpos guardados. As operações são O(1) e curtas,
+// então um único monitor basta; o trabalho caro (chamada à origem) acontece fora dele.
+public class ResponseCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(1024, 0.75f, true);
+    private long usedBytes;
+
+    public ResponseCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(String key, CachedResponse response) {
+        CachedResponse previous = entries.put(key, response);
+        if (previous != null) {
+            usedBytes -= previous.body().length;
+        }
+        usedBytes += response.body().length;
+        Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+        while (usedBytes > maxBytes && eldest.hasNext()) {
+            usedBytes -= eldest.next().getValue().body().length;
+            eldest.remove();
+        }
+    }
+
+    public synchronized void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            usedBytes -= removed.body().length;
+        }
+    }
+
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+}
@@ -0,0 +1,47 @@
+package com.variavel.gatewayservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.function.RequestPredicates;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import static org.springframework.cloud.gateway.server.mvc.filter.BeforeFilterFunctions.uri;
+import static org.springframework.cloud.gateway.server.mvc.handler.GatewayRouterFunctions.route;
+import static org.springframework.cloud.gateway.server.mvc.handler.HandlerFunctions.http;
+
+// Rotas do gateway para os serviços de backend. O frontend fala só com o gateway (porta 8080).
+// Endpoints internos (ex: /api/v1/scoring, /data-ingestion, o feed de eventos de partidas consumido pelo
+// user-service) não são expostos.
+@Configuration
+public class RoutesConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> sportsDataRoutes(@Value("${services.sports-data.url}") String sportsDataUrl) {
+        return route("sports-data-service")
+                .route(RequestPredicates.path("/api/v1/sports/**")
+                        .and(RequestPredicates.path("/api/v1/sports/fixture-events/**").negate()), http())
+                .before(uri(sportsDataUrl))
+                .build();
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> gamificationRoutes(@Value("${services.gamification.url}") String gamificationUrl) {
+        return route("gamification-service")
+                .route(RequestPredicates.path("/api/v1/leaderboard/**")
+                        .or(RequestPredicates.path("/api/v1/predictions/**"))
+                        .or(RequestPredicates.path("/api/v1/predictions"))
+                        .or(RequestPredicates.path("/api/v1/achievements/**")), http())
+                .before(uri(gamificationUrl))
+                .build();
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> userRoutes(@Value("${services.user.url}") String userUrl) {
+        return route("user-service")
+                .route(RequestPredicates.path("/api/v1/users/**").or(RequestPredicates.path("/api/v1/users")), http())
+                .before(uri(userUrl))
+                .build();
+    }
+}
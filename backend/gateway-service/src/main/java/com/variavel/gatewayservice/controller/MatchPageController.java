@@ -0,0 +1,31 @@
+package com.variavel.gatewayservice.controller;
+
+import com.variavel.gatewayservice.dto.MatchPageDto;
+import com.variavel.gatewayservice.service.MatchPageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+
+@RestController
+@RequestMapping("/api/v1/match-pages")
+@RequiredArgsConstructor
+public class MatchPageController {
+
+    private final MatchPageService matchPageService;
+
+    // Tudo o que a página da partida precisa numa única chamada (userId opcional: visitante sem login)
+    @GetMapping("/{fixtureId}")
+    public Mono<ResponseEntity<MatchPageDto>> getMatchPage(@PathVariable Long fixtureId,
+                                                           @RequestParam(required = false) Long userId) {
+        return matchPageService.getMatchPage(fixtureId, userId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                // Sem a partida não há página: 504 se a origem demorou, 502 para as demais falhas
+                .onErrorResume(TimeoutException.class, e -> Mono.just(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build()))
+                .onErrorResume(e -> Mono.just(ResponseEntity.status(HttpStatus.BAD_GATEWAY).build()));
+    }
+}
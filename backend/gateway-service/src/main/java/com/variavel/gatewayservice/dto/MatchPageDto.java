@@ -0,0 +1,18 @@
+package com.variavel.gatewayservice.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+// Dados da página de uma partida, agregados dos serviços. As partes vêm como o JSON de cada serviço.
+@Data
+@Builder
+public class MatchPageDto {
+    private JsonNode fixture; // sports-data-service (obrigatório)
+    private JsonNode prediction; // gamification-service: palpite do usuário (null se não palpitou)
+    private JsonNode leaderboard; // gamification-service: ranking em volta do usuário (ou o topo, sem usuário)
+    private JsonNode user; // user-service: perfil
+    private List<String> unavailable; // Partes que não responderam a tempo (resposta parcial)
+}
@@ -0,0 +1,100 @@
+package com.variavel.gatewayservice.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Limite de requisições por cliente (IP) na borda, com token bucket na forma GCRA: cada cliente guarda só o
+// "instante teórico de chegada" (TAT) da próxima requisição, atualizado por CAS, sem locks.
+// Os clientes são distribuídos por hash em um número fixo de faixas (stripes): memória constante e nada a expirar;
+// dois clientes na mesma faixa dividem o limite, o que com muitas faixas é raro e só os deixa mais restritos.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final AtomicLongArray theoreticalArrival; // TAT por faixa, em nanos (System.nanoTime)
+    private final int mask;
+    private final long emissionIntervalNanos; // Intervalo entre "fichas": 1s / taxa
+    private final long burstToleranceNanos; // Quanto o TAT pode se adiantar em relação ao agora (rajada)
+    private final boolean trustForwardedFor;
+
+    public RateLimitFilter(@Value("${gateway.rate-limit.requests-per-second:20}") double requestsPerSecond,
+                           @Value("${gateway.rate-limit.burst:40}") int burst,
+                           @Value("${gateway.rate-limit.stripes:65536}") int stripes,
+                           @Value("${gateway.rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.theoreticalArrival = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, burst - 1);
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long waitNanos = acquire(clientKey(request));
+        if (waitNanos > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    // 0 se a requisição foi admitida; senão, quanto falta para a próxima ser admitida
+    private long acquire(String client) {
+        int stripe = spread(client.hashCode()) & mask;
+        while (true) {
+            long now = System.nanoTime();
+            long tat = theoreticalArrival.get(stripe);
+            // Faixa nunca usada (0) ou ociosa: o bucket está cheio
+            long base = (tat == 0 || tat - now < 0) ? now : tat;
+            long next = base + emissionIntervalNanos;
+            long ahead = next - now - emissionIntervalNanos;
+            if (ahead > burstToleranceNanos) {
+                return ahead - burstToleranceNanos;
+            }
+            if (theoreticalArrival.compareAndSet(stripe, tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Atrás do proxy confiável vale o último endereço do X-Forwarded-For, o que o próprio proxy acrescentou;
+    // os anteriores vêm do cliente e podem ser forjados para trocar de faixa a cada requisição
+    private String clientKey(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                String client = forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+                if (!client.isEmpty()) {
+                    return client;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
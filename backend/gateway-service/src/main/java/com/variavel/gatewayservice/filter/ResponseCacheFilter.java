@@ -0,0 +1,240 @@
+package com.variavel.gatewayservice.filter;
+
+import com.variavel.gatewayservice.cache.CachedResponse;
+import com.variavel.gatewayservice.cache.ResponseCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Cache de borda para os GETs de /api/v1/sports/** (dados esportivos: iguais para todos os usuários).
+// - Frescor pelo Cache-Control da origem (s-maxage, depois max-age); sem Cache-Control, um TTL curto padrão
+//   ("micro-cache") absorve picos de acesso durante jogos grandes. no-store/private/no-cache não são guardados.
+// - ETag da origem é preservado (ou calculado do corpo) e If-None-Match responde 304 sem corpo.
+// - Respostas do cache saem com o Cache-Control da origem e o header Age (tempo desde a busca na origem), então
+//   o cliente desconta o que a entrada já passou aqui em vez de guardá-la pelo max-age inteiro outra vez.
+// - Uma única requisição por chave vai à origem: enquanto ela renova uma entrada vencida, as demais recebem a
+//   versão anterior (STALE); sem entrada, as demais esperam a busca em andamento (até um limite) e usam o resultado.
+// - O feed SSE de eventos, os logos (imutáveis, ficam no cache do navegador) e respostas grandes demais passam direto.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String CACHED_PREFIX = "/api/v1/sports/";
+    private static final String EVENT_FEED_PREFIX = "/api/v1/sports/fixture-events";
+    private static final String MEDIA_PREFIX = "/api/v1/sports/media/";
+    private static final Pattern MAX_AGE = Pattern.compile("(?:^|[,\\s])(s-maxage|max-age)\\s*=\\s*(\\d+)");
+
+    private final ResponseCache cache;
+    // Busca na origem em andamento por chave; liberado quando a resposta já está no cache (ou não pôde ser guardada)
+    private final ConcurrentHashMap<String, CountDownLatch> inFlight = new ConcurrentHashMap<>();
+    private final long maxEntryBytes;
+    private final long defaultTtlMillis;
+    private final long coalesceWaitMillis;
+
+    public ResponseCacheFilter(@Value("${gateway.cache.max-bytes:67108864}") long maxBytes,
+                               @Value("${gateway.cache.max-entry-bytes:1048576}") long maxEntryBytes,
+                               @Value("${gateway.cache.default-ttl-seconds:5}") long defaultTtlSeconds,
+                               @Value("${gateway.cache.coalesce-wait-ms:2000}") long coalesceWaitMillis) {
+        this.cache = new ResponseCache(maxBytes);
+        this.maxEntryBytes = maxEntryBytes;
+        this.defaultTtlMillis = defaultTtlSeconds * 1000;
+        this.coalesceWaitMillis = coalesceWaitMillis;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !"GET".equals(request.getMethod())
+                || !path.startsWith(CACHED_PREFIX)
+                || path.startsWith(EVENT_FEED_PREFIX)
+                || path.startsWith(MEDIA_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = cacheKey(request);
+        long now = System.currentTimeMillis();
+        String requestCacheControl = request.getHeader(HttpHeaders.CACHE_CONTROL);
+        boolean bypass = requestCacheControl != null && requestCacheControl.toLowerCase(Locale.ROOT).contains("no-cache");
+
+        CachedResponse cached = bypass ? null : cache.get(key);
+        if (cached != null && cached.isFresh(now)) {
+            write(request, response, cached, now, "HIT");
+            return;
+        }
+
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch pending = inFlight.putIfAbsent(key, fetching);
+        if (pending == null) {
+            try {
+                fetch(request, response, chain, key, cached, now);
+            } finally {
+                inFlight.remove(key, fetching);
+                fetching.countDown();
+            }
+            return;
+        }
+        if (cached != null) {
+            write(request, response, cached, now, "STALE");
+            return;
+        }
+        // Sem entrada: espera a busca em andamento. Quem pediu no-cache não reaproveita a resposta de outro
+        if (!bypass) {
+            CachedResponse coalesced = awaitFetch(key, pending);
+            if (coalesced != null) {
+                write(request, response, coalesced, System.currentTimeMillis(), "HIT");
+                return;
+            }
+        }
+        fetch(request, response, chain, key, null, System.currentTimeMillis());
+    }
+
+    // Entrada gravada pela busca em andamento; null se ela não terminou a tempo ou a resposta não foi guardada
+    private CachedResponse awaitFetch(String key, CountDownLatch pending) {
+        try {
+            if (!pending.await(coalesceWaitMillis, TimeUnit.MILLISECONDS)) {
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        CachedResponse cached = cache.get(key);
+        return cached != null && cached.isFresh(System.currentTimeMillis()) ? cached : null;
+    }
+
+    private void fetch(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                       String key, CachedResponse cached, long now) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        CachedResponse fetched = toCacheable(wrapper, now);
+        if (fetched == null) {
+            if (cached != null) {
+                cache.remove(key);
+            }
+            response.setHeader("X-Cache", "MISS");
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        cache.put(key, fetched);
+        // Resposta montada a partir da entrada nova (inclui o ETag calculado e o 304 para If-None-Match)
+        wrapper.resetBuffer();
+        write(request, wrapper, fetched, now, "MISS");
+        wrapper.copyBodyToResponse();
+    }
+
+    // null se a resposta não pode ser guardada
+    private CachedResponse toCacheable(ContentCachingResponseWrapper wrapper, long now) {
+        if (wrapper.getStatus() != HttpStatus.OK.value()) {
+            return null;
+        }
+        byte[] body = wrapper.getContentAsByteArray();
+        if (body.length > maxEntryBytes) {
+            return null;
+        }
+        String contentType = wrapper.getContentType();
+        if (contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE)) {
+            return null;
+        }
+        String cacheControl = wrapper.getHeader(HttpHeaders.CACHE_CONTROL);
+        long ttlMillis = defaultTtlMillis;
+        if (cacheControl != null) {
+            String directives = cacheControl.toLowerCase(Locale.ROOT);
+            if (directives.contains("no-store") || directives.contains("private") || directives.contains("no-cache")) {
+                return null;
+            }
+            Long maxAge = maxAgeSeconds(directives);
+            if (maxAge != null) {
+                ttlMillis = maxAge * 1000;
+            }
+        }
+        if (ttlMillis <= 0) {
+            return null;
+        }
+        String etag = wrapper.getHeader(HttpHeaders.ETAG);
+        if (etag == null) {
+            etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        }
+        return new CachedResponse(HttpStatus.OK.value(), contentType, etag, cacheControl, body, now, now + ttlMillis);
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, CachedResponse cached, long now, String cacheStatus)
+            throws IOException {
+        response.setHeader("X-Cache", cacheStatus);
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        // Cache-Control da origem (ou o TTL padrão) mais o Age: para o cliente, vale só o tempo que resta da entrada
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cached.cacheControl() != null
+                ? cached.cacheControl()
+                : "public, max-age=" + cached.ttlSeconds());
+        long age = cached.ageSeconds(now);
+        if (age > 0) {
+            response.setHeader(HttpHeaders.AGE, Long.toString(age));
+        }
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            response.setContentLength(0);
+            return;
+        }
+        response.setStatus(cached.status());
+        if (cached.contentType() != null) {
+            response.setContentType(cached.contentType());
+        }
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || (value.startsWith("W/") ? value.substring(2) : value).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // s-maxage (cache compartilhado) tem precedência sobre max-age
+    private static Long maxAgeSeconds(String directives) {
+        Long maxAge = null;
+        Matcher matcher = MAX_AGE.matcher(directives);
+        while (matcher.find()) {
+            long value = Long.parseLong(matcher.group(2));
+            if (matcher.group(1).equals("s-maxage")) {
+                return value;
+            }
+            maxAge = value;
+        }
+        return maxAge;
+    }
+
+    private static String cacheKey(HttpServletRequest request) {
+        String query = request.getQueryString();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return request.getRequestURI() + (query != null ? "?" + query : "") + "|" + (accept != null ? accept : "");
+    }
+}
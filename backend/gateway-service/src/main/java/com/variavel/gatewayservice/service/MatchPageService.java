@@ -0,0 +1,93 @@
+package com.variavel.gatewayservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.variavel.gatewayservice.dto.MatchPageDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Agregação da página de partida: as chamadas aos serviços saem em paralelo, cada uma com seu timeout,
+// então o tempo da página é o da chamada mais lenta e não a soma delas. Só a partida é obrigatória;
+// palpite, ranking e perfil que falharem ou estourarem o prazo saem como null e são listados em 'unavailable'.
+@Service
+public class MatchPageService {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchPageService.class);
+
+    private static final int LEADERBOARD_RADIUS = 2;
+    private static final int LEADERBOARD_TOP = 5;
+
+    private final WebClient sportsData;
+    private final WebClient gamification;
+    private final WebClient users;
+    private final Duration fixtureTimeout;
+    private final Duration partTimeout;
+
+    public MatchPageService(WebClient.Builder webClientBuilder,
+                            @Value("${services.sports-data.url}") String sportsDataUrl,
+                            @Value("${services.gamification.url}") String gamificationUrl,
+                            @Value("${services.user.url}") String userUrl,
+                            @Value("${match-page.fixture-timeout-ms:1500}") long fixtureTimeoutMillis,
+                            @Value("${match-page.part-timeout-ms:400}") long partTimeoutMillis) {
+        this.sportsData = webClientBuilder.clone().baseUrl(sportsDataUrl).build();
+        this.gamification = webClientBuilder.clone().baseUrl(gamificationUrl).build();
+        this.users = webClientBuilder.clone().baseUrl(userUrl).build();
+        this.fixtureTimeout = Duration.ofMillis(fixtureTimeoutMillis);
+        this.partTimeout = Duration.ofMillis(partTimeoutMillis);
+    }
+
+    // Vazio se a partida não existe
+    public Mono<MatchPageDto> getMatchPage(long fixtureId, Long userId) {
+        List<String> unavailable = new CopyOnWriteArrayList<>();
+
+        Mono<Optional<JsonNode>> fixture = get(sportsData, "/api/v1/sports/fixtures/{id}", fixtureId)
+                .timeout(fixtureTimeout)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        Mono<Optional<JsonNode>> prediction = userId == null ? Mono.just(Optional.empty())
+                : optionalPart("prediction", get(gamification, "/api/v1/predictions/users/{userId}/fixtures/{fixtureId}", userId, fixtureId), unavailable);
+        Mono<Optional<JsonNode>> leaderboard = optionalPart("leaderboard", userId == null
+                ? get(gamification, "/api/v1/leaderboard/top?limit={limit}", LEADERBOARD_TOP)
+                : get(gamification, "/api/v1/leaderboard/users/{userId}/around?radius={radius}", userId, LEADERBOARD_RADIUS), unavailable);
+        Mono<Optional<JsonNode>> user = userId == null ? Mono.just(Optional.empty())
+                : optionalPart("user", get(users, "/api/v1/users/{id}", userId), unavailable);
+
+        return Mono.zip(fixture, prediction, leaderboard, user)
+                .flatMap(parts -> parts.getT1().isEmpty() ? Mono.empty() : Mono.just(MatchPageDto.builder()
+                        .fixture(parts.getT1().get())
+                        .prediction(parts.getT2().orElse(null))
+                        .leaderboard(parts.getT3().orElse(null))
+                        .user(parts.getT4().orElse(null))
+                        .unavailable(List.copyOf(unavailable))
+                        .build()));
+    }
+
+    // 404 vira vazio (ex: usuário sem palpite); demais erros propagam
+    private Mono<JsonNode> get(WebClient client, String uri, Object... variables) {
+        return client.get()
+                .uri(uri, variables)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty());
+    }
+
+    private Mono<Optional<JsonNode>> optionalPart(String name, Mono<JsonNode> call, List<String> unavailable) {
+        return call.timeout(partTimeout)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    log.warn("Página de partida sem '{}': {}", name, e.toString());
+                    unavailable.add(name);
+                    return Mono.just(Optional.empty());
+                });
+    }
+}
@@ -3,6 +3,7 @@ package com.variavel.sportsdataservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(exclude = {WebMvcAutoConfiguration.class})
@@ -11,7 +12,10 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 public class SportsDataServiceApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(SportsDataServiceApplication.class, args);
+		SpringApplication application = new SpringApplication(SportsDataServiceApplication.class);
+		// Grava as etapas da subida (contexto, beans, Flyway, Hibernate) para o StartupTimingLogger e /actuator/startup
+		application.setApplicationStartup(new BufferingApplicationStartup(10000));
+		application.run(args);
 	}
 
 }
@@ -57,4 +57,15 @@ public class FootballApiClient {
                 .retrieve()
                 .bodyToMono(String.class);
     }
+
+    // Eventos de uma partida (gols, cartões, substituições, VAR), em ordem cronológica
+    public Mono<String> getFixtureEvents(Integer fixtureId) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/fixtures/events")
+                        .queryParam("fixture", fixtureId)
+                        .build())
+                .retrieve()
+                .bodyToMono(String.class);
+    }
 }
\ No newline at end of file
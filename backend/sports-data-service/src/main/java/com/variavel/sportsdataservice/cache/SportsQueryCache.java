@@ -0,0 +1,150 @@
+package com.variavel.sportsdataservice.cache;
+
+import com.variavel.sportsdataservice.dto.FixtureDto;
+import com.variavel.sportsdataservice.dto.FixtureEventDto;
+import com.variavel.sportsdataservice.dto.LeagueDto;
+import com.variavel.sportsdataservice.dto.TeamDto;
+import com.variavel.sportsdataservice.event.FixtureChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Cópias em memória das consultas mais frequentes do SportsQueryService: ligas, times e as partidas de ontem, hoje
+// e amanhã. Quem carrega lê a versão antes de consultar o banco e só grava se ela não mudou, então uma invalidação
+// que chega durante a leitura não é sobrescrita por dados antigos. Vazio (null) significa "consultar o banco".
+// As partidas são versionadas por data: a mudança de uma partida só invalida (ou atualiza no lugar) a data dela.
+@Component
+public class SportsQueryCache {
+
+    private volatile Map<Long, LeagueDto> leagues;
+    private volatile Map<Long, TeamDto> teams;
+    private final AtomicLong referenceVersion = new AtomicLong();
+
+    private final ConcurrentHashMap<LocalDate, List<FixtureDto>> fixturesByDate = new ConcurrentHashMap<>();
+    private final AtomicLong fixturesVersion = new AtomicLong();
+    // Versão da última mudança em cada data: quem carregou a data antes dela não grava
+    private final ConcurrentHashMap<LocalDate, Long> fixturesChangedAt = new ConcurrentHashMap<>();
+
+    // --- Ligas e times ---
+    public Map<Long, LeagueDto> leagues() {
+        return leagues;
+    }
+
+    public Map<Long, TeamDto> teams() {
+        return teams;
+    }
+
+    public long referenceVersion() {
+        return referenceVersion.get();
+    }
+
+    public synchronized void putLeagues(Map<Long, LeagueDto> loaded, long version) {
+        if (referenceVersion.get() == version) {
+            leagues = loaded;
+        }
+    }
+
+    public synchronized void putTeams(Map<Long, TeamDto> loaded, long version) {
+        if (referenceVersion.get() == version) {
+            teams = loaded;
+        }
+    }
+
+    // Chamado ao fim das ingestões de ligas/times
+    public synchronized void evictReferenceData() {
+        referenceVersion.incrementAndGet();
+        leagues = null;
+        teams = null;
+    }
+
+    // Chamado quando muda algo que aparece em todas as consultas (ex: logos que passam a vir do cache local)
+    public synchronized void evictAll() {
+        evictReferenceData();
+        long version = fixturesVersion.incrementAndGet();
+        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        for (LocalDate date = today.minusDays(1); !date.isAfter(today.plusDays(1)); date = date.plusDays(1)) {
+            fixturesChangedAt.put(date, version);
+        }
+        fixturesByDate.clear();
+    }
+
+    // --- Partidas por data ---
+    public boolean isHotDate(LocalDate date) {
+        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        return !date.isBefore(today.minusDays(1)) && !date.isAfter(today.plusDays(1));
+    }
+
+    public List<FixtureDto> fixtures(LocalDate date) {
+        return fixturesByDate.get(date);
+    }
+
+    public long fixturesVersion() {
+        return fixturesVersion.get();
+    }
+
+    public synchronized void putFixtures(LocalDate date, List<FixtureDto> fixtures, long version) {
+        if (fixturesChangedAt.getOrDefault(date, 0L) <= version) {
+            fixturesByDate.put(date, List.copyOf(fixtures));
+        }
+        // A janela anda com o relógio
+        fixturesByDate.keySet().removeIf(cached -> !isHotDate(cached));
+        fixturesChangedAt.keySet().removeIf(changed -> !isHotDate(changed));
+    }
+
+    @EventListener
+    public synchronized void onFixtureChanged(FixtureChangedEvent event) {
+        FixtureEventDto change = event.change();
+        if (change.getFixtureId() != null) {
+            applyFixtureChange(change);
+        }
+        // A ingestão de partidas cria ligas e times que ainda não existiam
+        Map<Long, LeagueDto> currentLeagues = leagues;
+        Map<Long, TeamDto> currentTeams = teams;
+        if ((currentLeagues != null && change.getLeagueId() != null && !currentLeagues.containsKey(change.getLeagueId()))
+                || (currentTeams != null && change.getHomeTeamId() != null && !currentTeams.containsKey(change.getHomeTeamId()))
+                || (currentTeams != null && change.getAwayTeamId() != null && !currentTeams.containsKey(change.getAwayTeamId()))) {
+            evictReferenceData();
+        }
+    }
+
+    // Mudança de minuto, status ou placar sem mudar o horário (o caso ao vivo): atualiza a partida no lugar.
+    // Partida nova, remarcada ou encerrada (que também traz os placares por tempo): descarta a data antiga e a nova.
+    private void applyFixtureChange(FixtureEventDto change) {
+        long version = fixturesVersion.incrementAndGet();
+        LocalDate newDate = change.getDate() != null ? LocalDate.ofInstant(change.getDate(), ZoneId.systemDefault()) : null;
+        for (Map.Entry<LocalDate, List<FixtureDto>> cached : fixturesByDate.entrySet()) {
+            List<FixtureDto> fixtures = cached.getValue();
+            for (int i = 0; i < fixtures.size(); i++) {
+                FixtureDto fixture = fixtures.get(i);
+                if (!change.getFixtureId().equals(fixture.getId())) {
+                    continue;
+                }
+                fixturesChangedAt.put(cached.getKey(), version);
+                if (!change.isFinished() && change.getDate() != null && change.getDate().equals(fixture.getDate())) {
+                    List<FixtureDto> updated = new ArrayList<>(fixtures);
+                    updated.set(i, fixture.toBuilder()
+                            .status(change.getStatus())
+                            .elapsed(change.getElapsed())
+                            .homeGoals(change.getHomeGoals())
+                            .awayGoals(change.getAwayGoals())
+                            .build());
+                    cached.setValue(List.copyOf(updated));
+                    return;
+                }
+                fixturesByDate.remove(cached.getKey());
+                break;
+            }
+        }
+        if (newDate != null) {
+            fixturesChangedAt.put(newDate, version);
+            fixturesByDate.remove(newDate);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.variavel.sportsdataservice.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Coordenação entre réplicas pelo próprio banco, sem serviço externo:
+// - heartbeat em cluster_members; as réplicas vivas formam um anel de hash consistente que divide as ligas entre elas;
+// - lease 'leader' em cluster_leases: só o líder roda os jobs globais (ligas, partidas ao vivo, arquivamento e a
+//   numeração do outbox);
+// - reservas em ingestion_tasks para o trabalho por liga, para que uma tarefa não seja feita duas vezes durante uma
+//   troca de donos e seja retomada se a réplica cair no meio. O líder remove diariamente as tarefas antigas.
+// Os prazos são calculados com o relógio do banco. Localmente, a liderança vale só até um intervalo de heartbeat antes
+// do fim do lease, contado a partir do envio da renovação, para que duas réplicas não se considerem líderes ao mesmo tempo.
+// O heartbeat roda numa thread própria para não atrasar atrás dos jobs agendados.
+@Service
+public class ClusterCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterCoordinator.class);
+
+    public static final String LEADER_LEASE = "leader";
+
+    // A ordem das atribuições importa (o MySQL aplica da esquerda para a direita): o token compara o dono anterior
+    private static final String RENEW_LEASE_SQL = "UPDATE cluster_leases SET fencing_token = fencing_token + IF(owner_id = ?, 0, 1), "
+            + "owner_id = ?, expires_at = NOW(6) + INTERVAL ? MICROSECOND WHERE name = ? AND (owner_id = ? OR expires_at < NOW(6))";
+    private static final String CREATE_LEASE_SQL = "INSERT IGNORE INTO cluster_leases (name, owner_id, expires_at, fencing_token) "
+            + "VALUES (?, ?, NOW(6) + INTERVAL ? MICROSECOND, 1)";
+    private static final String CLAIM_TASK_SQL = "INSERT IGNORE INTO ingestion_tasks (task_key, owner_id, claimed_until) "
+            + "VALUES (?, ?, NOW(6) + INTERVAL ? MICROSECOND)";
+    private static final String RECLAIM_TASK_SQL = "UPDATE ingestion_tasks SET owner_id = ?, claimed_until = NOW(6) + INTERVAL ? MICROSECOND "
+            + "WHERE task_key = ? AND completed_at IS NULL AND (owner_id = ? OR claimed_until < NOW(6))";
+    // As duas condições usam o índice de completed_at (que também guarda os NULL)
+    private static final String PURGE_COMPLETED_TASKS_SQL = "DELETE FROM ingestion_tasks WHERE completed_at < NOW(6) - INTERVAL ? DAY "
+            + "ORDER BY completed_at LIMIT 10000";
+    private static final String PURGE_EXPIRED_TASKS_SQL = "DELETE FROM ingestion_tasks WHERE completed_at IS NULL "
+            + "AND claimed_until < NOW(6) - INTERVAL ? DAY LIMIT 10000";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId;
+    private final long heartbeatIntervalMs;
+    private final long memberTtlMs;
+    private final long leaderLeaseMs;
+    private final int virtualNodes;
+    private final int taskRetentionDays;
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cluster-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ConsistentHashRing ring;
+    private volatile long leaderUntilNanos;
+    private volatile boolean leader;
+
+    public ClusterCoordinator(JdbcTemplate jdbcTemplate,
+                              @Value("${cluster.instance-id:}") String instanceId,
+                              @Value("${cluster.heartbeat-interval-ms:5000}") long heartbeatIntervalMs,
+                              @Value("${cluster.member-ttl-ms:15000}") long memberTtlMs,
+                              @Value("${cluster.leader-lease-ms:15000}") long leaderLeaseMs,
+                              @Value("${cluster.virtual-nodes:128}") int virtualNodes,
+                              @Value("${cluster.task-retention-days:7}") int taskRetentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.instanceId = instanceId.isBlank() ? defaultInstanceId() : instanceId;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.memberTtlMs = memberTtlMs;
+        this.leaderLeaseMs = leaderLeaseMs;
+        this.virtualNodes = virtualNodes;
+        // As chaves das tarefas diárias levam a data: as do dia (e a de ontem, pelo fuso) precisam ficar
+        this.taskRetentionDays = Math.max(2, taskRetentionDays);
+        this.ring = new ConsistentHashRing(List.of(this.instanceId), virtualNodes);
+    }
+
+    // O primeiro heartbeat roda na inicialização: os jobs agendados já encontram o anel e a liderança definidos
+    @PostConstruct
+    public void start() {
+        log.info("Instância {} entrando no cluster.", instanceId);
+        heartbeat();
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Saída limpa: libera a liderança e sai do anel na hora, sem esperar os prazos expirarem
+    @PreDestroy
+    public void stop() {
+        heartbeatExecutor.shutdownNow();
+        leader = false;
+        try {
+            jdbcTemplate.update("UPDATE cluster_leases SET expires_at = NOW(6) - INTERVAL 1 SECOND WHERE name = ? AND owner_id = ?", LEADER_LEASE, instanceId);
+            jdbcTemplate.update("DELETE FROM cluster_members WHERE instance_id = ?", instanceId);
+        } catch (Exception e) {
+            log.warn("Erro ao sair do cluster (os prazos vão expirar sozinhos): {}", e.getMessage());
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public boolean isLeader() {
+        return leader && System.nanoTime() - leaderUntilNanos < 0;
+    }
+
+    public List<String> getMembers() {
+        return ring.members();
+    }
+
+    // A liga (ou outra chave de trabalho) cabe a esta réplica?
+    public boolean owns(long shardKey) {
+        return instanceId.equals(ring.ownerOf(shardKey));
+    }
+
+    // Para escritas que só o líder pode fazer: chamado dentro da transação, trava o lease em modo compartilhado,
+    // então outra réplica não consegue assumir a liderança até o commit.
+    public boolean holdsLeaderLeaseInTransaction() {
+        Integer held = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM cluster_leases WHERE name = ? AND owner_id = ? AND expires_at > NOW(6) FOR SHARE",
+                Integer.class, LEADER_LEASE, instanceId);
+        return held != null && held > 0;
+    }
+
+    // --- Tarefas por liga ---
+    // Reserva a tarefa por 'timeoutMs'; false se já concluída ou reservada por outra réplica dentro do prazo
+    public boolean claimTask(String taskKey, long timeoutMs) {
+        long micros = timeoutMs * 1000;
+        if (jdbcTemplate.update(CLAIM_TASK_SQL, taskKey, instanceId, micros) == 1) {
+            return true;
+        }
+        return jdbcTemplate.update(RECLAIM_TASK_SQL, instanceId, micros, taskKey, instanceId) == 1;
+    }
+
+    public void completeTask(String taskKey) {
+        jdbcTemplate.update("UPDATE ingestion_tasks SET completed_at = NOW(6) WHERE task_key = ? AND owner_id = ?", taskKey, instanceId);
+    }
+
+    // Tarefas concluídas cuja chave começa com o prefixo (uma leitura pelo índice da chave primária)
+    public Set<String> completedTasks(String keyPrefix) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT task_key FROM ingestion_tasks WHERE task_key LIKE ? AND completed_at IS NOT NULL",
+                String.class, keyPrefix.replace("%", "\\%").replace("_", "\\_") + "%"));
+    }
+
+    // Remove as tarefas concluídas ou com reserva vencida há mais de 'cluster.task-retention-days' dias
+    @Scheduled(cron = "0 45 3 * * *")
+    public void purgeOldTasks() {
+        if (!isLeader()) {
+            return; // Job global: só o líder do cluster executa
+        }
+        try {
+            int total = 0;
+            for (String sql : List.of(PURGE_COMPLETED_TASKS_SQL, PURGE_EXPIRED_TASKS_SQL)) {
+                int deleted;
+                do {
+                    deleted = jdbcTemplate.update(sql, taskRetentionDays);
+                    total += deleted;
+                } while (deleted > 0);
+            }
+            if (total > 0) {
+                log.info("{} tarefas de ingestão antigas removidas.", total);
+            }
+        } catch (Exception e) {
+            log.error("Erro na limpeza das tarefas de ingestão: {}", e.getMessage(), e);
+        }
+    }
+
+    // --- Heartbeat ---
+    private void heartbeat() {
+        try {
+            jdbcTemplate.update("INSERT INTO cluster_members (instance_id, started_at, heartbeat_at) VALUES (?, NOW(6), NOW(6)) "
+                    + "ON DUPLICATE KEY UPDATE heartbeat_at = NOW(6)", instanceId);
+            refreshMembers();
+            renewLeadership();
+        } catch (Exception e) {
+            // Sem banco não há como renovar: a liderança expira localmente e o anel fica como estava
+            log.warn("Erro no heartbeat do cluster: {}", e.getMessage());
+        }
+    }
+
+    private void refreshMembers() {
+        List<String> members = jdbcTemplate.queryForList(
+                "SELECT instance_id FROM cluster_members WHERE heartbeat_at > NOW(6) - INTERVAL ? MICROSECOND ORDER BY instance_id",
+                String.class, memberTtlMs * 1000);
+        if (!members.contains(instanceId)) {
+            members.add(instanceId);
+            members.sort(null);
+        }
+        if (!members.equals(ring.members())) {
+            ring = new ConsistentHashRing(members, virtualNodes);
+            log.info("Réplicas ativas: {}. Ligas redistribuídas.", members);
+        }
+    }
+
+    private void renewLeadership() {
+        long sentAt = System.nanoTime();
+        long micros = leaderLeaseMs * 1000;
+        boolean held = jdbcTemplate.update(RENEW_LEASE_SQL, instanceId, instanceId, micros, LEADER_LEASE, instanceId) == 1
+                || jdbcTemplate.update(CREATE_LEASE_SQL, LEADER_LEASE, instanceId, micros) == 1;
+        if (held) {
+            leaderUntilNanos = sentAt + TimeUnit.MILLISECONDS.toNanos(leaderLeaseMs - heartbeatIntervalMs);
+            if (!leader) {
+                Long token = jdbcTemplate.queryForObject("SELECT fencing_token FROM cluster_leases WHERE name = ?", Long.class, LEADER_LEASE);
+                log.info("Instância {} assumiu a liderança (token {}).", instanceId, token);
+            }
+            leader = true;
+            // Remove registros de réplicas que pararam há muito tempo
+            jdbcTemplate.update("DELETE FROM cluster_members WHERE heartbeat_at < NOW(6) - INTERVAL ? MICROSECOND", memberTtlMs * 1000 * 20);
+        } else if (leader) {
+            leader = false;
+            log.warn("Instância {} perdeu a liderança.", instanceId);
+        }
+    }
+
+    private static String defaultInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "sports-data";
+        }
+        if (host.length() > 48) {
+            host = host.substring(0, 48); // instance_id tem 64 caracteres
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,74 @@
+package com.variavel.sportsdataservice.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+// Anel de hash consistente imutável: cada réplica ocupa 'virtualNodes' pontos do anel e uma chave pertence à
+// primeira réplica no sentido horário. Quando uma réplica entra ou sai, só as chaves dos seus pontos mudam de dono.
+public class ConsistentHashRing {
+
+    private final long[] points;
+    private final String[] owners;
+    private final List<String> members;
+
+    public ConsistentHashRing(List<String> members, int virtualNodes) {
+        this.members = List.copyOf(members);
+        int size = members.size() * virtualNodes;
+        long[] hashes = new long[size];
+        Integer[] order = new Integer[size];
+        String[] pointOwners = new String[size];
+        int k = 0;
+        for (String member : members) {
+            for (int v = 0; v < virtualNodes; v++) {
+                hashes[k] = hash(member + "#" + v);
+                pointOwners[k] = member;
+                order[k] = k;
+                k++;
+            }
+        }
+        // Empate de hash (improvável) resolvido pelo nome, para que todas as réplicas montem o mesmo anel
+        Arrays.sort(order, (a, b) -> hashes[a] != hashes[b] ? Long.compare(hashes[a], hashes[b]) : pointOwners[a].compareTo(pointOwners[b]));
+        this.points = new long[size];
+        this.owners = new String[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = hashes[order[i]];
+            owners[i] = pointOwners[order[i]];
+        }
+    }
+
+    public List<String> members() {
+        return members;
+    }
+
+    // Dono da chave, ou null com o anel vazio
+    public String ownerOf(long key) {
+        if (points.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(points, mix(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    // FNV-1a de 64 bits seguido de mistura final (os nomes das réplicas diferem pouco entre si)
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,54 @@
+package com.variavel.sportsdataservice.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+// Ao fim da subida, registra no log o tempo total e as etapas mais lentas gravadas pelo BufferingApplicationStartup
+// (ver SportsDataServiceApplication). A linha do tempo completa fica em /actuator/startup.
+@Component
+public class StartupTimingLogger implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimingLogger.class);
+
+    private final int slowestSteps;
+
+    public StartupTimingLogger(@Value("${startup.timing.slowest-steps:15}") int slowestSteps) {
+        this.slowestSteps = slowestSteps;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        Duration timeTaken = event.getTimeTaken();
+        log.info("Subida concluída em {} ms.", timeTaken != null ? timeTaken.toMillis() : -1);
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        List<StartupTimeline.TimelineEvent> slowest = startup.getBufferedTimeline().getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(slowestSteps)
+                .toList();
+        for (StartupTimeline.TimelineEvent step : slowest) {
+            log.info("  {} ms  {}{}", step.getDuration().toMillis(), step.getStartupStep().getName(), describe(step.getStartupStep().getTags()));
+        }
+    }
+
+    // Ex: spring.beans.instantiate [beanName=searchIndexService]
+    private static String describe(StartupStep.Tags tags) {
+        List<String> parts = StreamSupport.stream(tags.spliterator(), false)
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .toList();
+        return parts.isEmpty() ? "" : " " + parts;
+    }
+}
@@ -0,0 +1,61 @@
+package com.variavel.sportsdataservice.controller;
+
+import com.variavel.sportsdataservice.dto.FixtureEventDto;
+import com.variavel.sportsdataservice.dto.FixtureFeedSnapshotDto;
+import com.variavel.sportsdataservice.service.FixtureFeedSnapshotService;
+import com.variavel.sportsdataservice.service.FixtureOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/sports/fixture-events") // Feed de mudanças de partidas para os outros serviços
+@RequiredArgsConstructor
+public class FixtureEventController {
+
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(2);
+    private static final Duration KEEP_ALIVE_INTERVAL = Duration.ofSeconds(15);
+    private static final Duration MAX_SNAPSHOT_RANGE = Duration.ofDays(31);
+
+    private final FixtureOutboxRelay fixtureOutboxRelay;
+    private final FixtureFeedSnapshotService fixtureFeedSnapshotService;
+
+    // Stream SSE a partir de um offset. O id de cada evento é o seu 'sequence': ao reconectar, o cliente envia
+    // o último recebido em 'after' (ou no cabeçalho Last-Event-ID) e recebe tudo o que veio depois, sem lacunas.
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<FixtureEventDto>> streamEvents(@RequestParam(required = false) Long after,
+                                                               @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        long offset = after != null ? after : (lastEventId != null ? lastEventId : 0L);
+        Flux<ServerSentEvent<FixtureEventDto>> events = fixtureOutboxRelay.stream(offset, POLL_INTERVAL)
+                .map(event -> ServerSentEvent.builder(event)
+                        .id(String.valueOf(event.getSequence()))
+                        .event(event.getType())
+                        .build());
+        Flux<ServerSentEvent<FixtureEventDto>> keepAlive = Flux.interval(KEEP_ALIVE_INTERVAL)
+                .map(tick -> ServerSentEvent.<FixtureEventDto>builder().comment("keep-alive").build());
+        return Flux.merge(events, keepAlive);
+    }
+
+    // Mesma leitura em páginas, para consumidores que preferem polling
+    @GetMapping(value = "/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<FixtureEventDto>> getEventsPage(@RequestParam(defaultValue = "0") Long after,
+                                                              @RequestParam(defaultValue = "500") Integer limit) {
+        return ResponseEntity.ok(fixtureOutboxRelay.readAfter(after, limit));
+    }
+
+    // Partidas com data em [from, to) no formato do feed, com o offset para continuar pelo stream acima
+    @GetMapping(value = "/snapshot", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<FixtureFeedSnapshotDto> getSnapshot(@RequestParam Instant from, @RequestParam Instant to) {
+        if (!from.isBefore(to) || Duration.between(from, to).compareTo(MAX_SNAPSHOT_RANGE) > 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(fixtureFeedSnapshotService.snapshot(from, to));
+    }
+}
@@ -0,0 +1,50 @@
+package com.variavel.sportsdataservice.controller;
+
+import com.variavel.sportsdataservice.media.ImageType;
+import com.variavel.sportsdataservice.service.LogoCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/sports/media")
+@RequiredArgsConstructor
+public class MediaController {
+
+    // O nome é o hash do conteúdo: o mesmo endereço nunca muda de arquivo
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final LogoCacheService logoCacheService;
+
+    // Logos de times e ligas (URLs montadas pelo LogoCacheService). O arquivo vai do disco direto para o socket
+    // (FileSystemResource é escrito com zero-copy pelo WebFlux); o ETag é o próprio hash, então If-None-Match
+    // responde 304 sem abrir o arquivo.
+    @GetMapping("/logos/{file}")
+    public Mono<ResponseEntity<Resource>> getLogo(@PathVariable String file) {
+        int dot = file.lastIndexOf('.');
+        ImageType type = dot > 0 ? ImageType.fromExtension(file.substring(dot + 1)) : null;
+        if (type == null) {
+            return Mono.just(ResponseEntity.notFound().build());
+        }
+        String hash = file.substring(0, dot);
+        return logoCacheService.resolve(hash, type)
+                .map(path -> ResponseEntity.ok()
+                        .contentType(type.mediaType())
+                        .cacheControl(IMMUTABLE)
+                        .eTag(hash)
+                        // SVG vindo de terceiros: sem scripts nem recursos externos quando aberto direto no navegador
+                        .header("Content-Security-Policy", "default-src 'none'; style-src 'unsafe-inline'; sandbox")
+                        .header("X-Content-Type-Options", "nosniff")
+                        .<Resource>body(new FileSystemResource(path)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -1,12 +1,24 @@
 package com.variavel.sportsdataservice.controller;
 
 import com.variavel.sportsdataservice.dto.FixtureDto;
+import com.variavel.sportsdataservice.dto.FixtureProgressionDto;
+import com.variavel.sportsdataservice.dto.FixtureTimelineDto;
 import com.variavel.sportsdataservice.dto.LeagueDto;
+import com.variavel.sportsdataservice.dto.SearchResultDto;
+import com.variavel.sportsdataservice.dto.SeasonSimulationDto;
+import com.variavel.sportsdataservice.dto.StandingDto;
 import com.variavel.sportsdataservice.dto.TeamDto;
+import com.variavel.sportsdataservice.search.SearchEntryType;
+import com.variavel.sportsdataservice.service.FixtureTimelineService;
+import com.variavel.sportsdataservice.service.LiveStateHistoryService;
+import com.variavel.sportsdataservice.service.SearchIndexService;
+import com.variavel.sportsdataservice.service.SeasonSimulationService;
+import com.variavel.sportsdataservice.service.StandingsService;
 import com.variavel.sportsdataservice.service.SportsQueryService; // Injete o novo SportsQueryService
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -17,6 +29,20 @@ import java.util.List;
 public class SportsController {
 
     private final SportsQueryService sportsQueryService; // Injeta o serviço de query
+    private final SeasonSimulationService seasonSimulationService;
+    private final StandingsService standingsService;
+    private final SearchIndexService searchIndexService;
+    private final FixtureTimelineService fixtureTimelineService;
+    private final LiveStateHistoryService liveStateHistoryService;
+
+    // --- Busca (autocomplete) ---
+    // Ignora acentos e maiúsculas ("sao paulo" encontra "São Paulo"); type = TEAM ou LEAGUE, ausente busca os dois
+    @GetMapping("/search")
+    public ResponseEntity<List<SearchResultDto>> search(@RequestParam("q") String query,
+                                                        @RequestParam(defaultValue = "10") int limit,
+                                                        @RequestParam(required = false) SearchEntryType type) {
+        return ResponseEntity.ok(searchIndexService.search(query, type, limit));
+    }
 
     // --- Endpoints para Ligas ---
     @GetMapping("/leagues")
@@ -32,6 +58,24 @@ public class SportsController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // Classificação mantida em memória (atualizada a cada partida encerrada ou corrigida)
+    @GetMapping("/leagues/{id}/seasons/{season}/standings")
+    public Mono<ResponseEntity<List<StandingDto>>> getStandings(@PathVariable Long id, @PathVariable Integer season) {
+        return standingsService.getStandings(id, season)
+                .map(ResponseEntity::ok);
+    }
+
+    // Simulação Monte Carlo do restante da temporada: probabilidade de cada time terminar em cada posição.
+    // Roda fora do event loop (ForkJoinPool próprio); a mesma semente devolve o mesmo resultado.
+    @GetMapping("/leagues/{id}/seasons/{season}/simulation")
+    public Mono<ResponseEntity<SeasonSimulationDto>> simulateSeason(@PathVariable Long id,
+                                                                    @PathVariable Integer season,
+                                                                    @RequestParam(defaultValue = "100000") int iterations,
+                                                                    @RequestParam(required = false) Long seed) {
+        return Mono.fromFuture(seasonSimulationService.simulate(id, season, iterations, seed))
+                .map(ResponseEntity::ok);
+    }
+
     // --- Endpoints para Times ---
     @GetMapping("/teams")
     public ResponseEntity<List<TeamDto>> getAllTeams() {
@@ -60,6 +104,22 @@ public class SportsController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // Gols, cartões, substituições e VAR da partida, em ordem cronológica (uma leitura pela chave primária)
+    @GetMapping("/fixtures/{id}/timeline")
+    public ResponseEntity<FixtureTimelineDto> getFixtureTimeline(@PathVariable Long id) {
+        return fixtureTimelineService.getTimeline(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Minuto, placar e status a cada mudança durante o jogo (gráficos de momento e replay); da memória enquanto ao vivo
+    @GetMapping("/fixtures/{id}/progression")
+    public ResponseEntity<FixtureProgressionDto> getFixtureProgression(@PathVariable Long id) {
+        return liveStateHistoryService.getProgression(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/fixtures/live")
     public ResponseEntity<List<FixtureDto>> getLiveFixtures() {
         List<FixtureDto> liveFixtures = sportsQueryService.getLiveFixtures();
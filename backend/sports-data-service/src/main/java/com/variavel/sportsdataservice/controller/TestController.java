@@ -1,7 +1,11 @@
 package com.variavel.sportsdataservice.controller;
 
 import com.variavel.sportsdataservice.api.FootballApiClient;
+import com.variavel.sportsdataservice.cluster.ClusterCoordinator;
+import com.variavel.sportsdataservice.dto.ClusterStatusDto;
+import com.variavel.sportsdataservice.dto.StandingDto;
 import com.variavel.sportsdataservice.service.DataIngestionService;
+import com.variavel.sportsdataservice.service.StandingsService;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -10,6 +14,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 @RestController
 @RequestMapping("/data-ingestion")
@@ -17,10 +22,15 @@ public class TestController {
 
     private final FootballApiClient footballApiClient;
     private final DataIngestionService dataIngestionService;
+    private final StandingsService standingsService;
+    private final ClusterCoordinator clusterCoordinator;
 
-    public TestController(FootballApiClient footballApiClient, DataIngestionService dataIngestionService) {
+    public TestController(FootballApiClient footballApiClient, DataIngestionService dataIngestionService, StandingsService standingsService,
+                          ClusterCoordinator clusterCoordinator) {
         this.footballApiClient = footballApiClient;
         this.dataIngestionService = dataIngestionService;
+        this.standingsService = standingsService;
+        this.clusterCoordinator = clusterCoordinator;
     }
 
     // Endpoint para testar diretamente a API de ligas (sem salvar no DB)
@@ -61,7 +71,24 @@ public class TestController {
 
     @GetMapping("/ingest-live-fixtures-manual") // Novo endpoint para testar o agendador de live
     public Mono<String> ingestLiveFixturesManual() {
-        dataIngestionService.scheduledIngestLiveFixtures(); // Chama diretamente o método agendado
+        // Chama a ingestão diretamente: o método agendado só roda no líder do cluster
+        dataIngestionService.ingestLiveFixtures().subscribe();
         return Mono.just("Ingestão manual de partidas ao vivo iniciada. Verifique os logs.");
     }
-}
\ No newline at end of file
+
+    // Recuperação: remonta a classificação da liga (ID interno) a partir do banco
+    @GetMapping("/rebuild-standings")
+    public Mono<List<StandingDto>> rebuildStandings(@RequestParam Long leagueId, @RequestParam Integer season) {
+        return standingsService.rebuild(leagueId, season);
+    }
+
+    // Estado da coordenação entre réplicas (quem é o líder e quais réplicas dividem as ligas)
+    @GetMapping("/cluster")
+    public ClusterStatusDto getClusterStatus() {
+        return ClusterStatusDto.builder()
+                .instanceId(clusterCoordinator.getInstanceId())
+                .leader(clusterCoordinator.isLeader())
+                .members(clusterCoordinator.getMembers())
+                .build();
+    }
+}
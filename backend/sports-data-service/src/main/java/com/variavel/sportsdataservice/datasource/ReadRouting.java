@@ -0,0 +1,40 @@
+package com.variavel.sportsdataservice.datasource;
+
+import java.util.function.Supplier;
+
+// Força o primário para as leituras feitas dentro de 'action' nesta thread, quando o roteamento por réplicas está
+// ligado (app.datasource.routing.enabled). Serve para leituras que precisam ver as próprias escritas ou as mudanças
+// que acabaram de ser publicadas: montagem de estado em memória a partir de eventos, recarga de caches invalidados, etc.
+// Só vale para a próxima conexão aberta: dentro de uma transação que já executou algo, a conexão não muda.
+public final class ReadRouting {
+
+    private static final ThreadLocal<Integer> PRIMARY_DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private ReadRouting() {
+    }
+
+    public static <T> T forcePrimary(Supplier<T> action) {
+        PRIMARY_DEPTH.set(PRIMARY_DEPTH.get() + 1);
+        try {
+            return action.get();
+        } finally {
+            int depth = PRIMARY_DEPTH.get() - 1;
+            if (depth == 0) {
+                PRIMARY_DEPTH.remove();
+            } else {
+                PRIMARY_DEPTH.set(depth);
+            }
+        }
+    }
+
+    public static void forcePrimary(Runnable action) {
+        forcePrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_DEPTH.get() > 0;
+    }
+}
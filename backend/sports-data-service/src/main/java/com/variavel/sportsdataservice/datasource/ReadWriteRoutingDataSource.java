@@ -0,0 +1,30 @@
+package com.variavel.sportsdataservice.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Escolhe o banco de cada conexão: transações somente leitura vão para uma réplica saudável (ver ReplicaLagMonitor);
+// escritas, conexões fora de transação e leituras com ReadRouting.forcePrimary vão para o primário.
+// Precisa ficar atrás de um LazyConnectionDataSourceProxy, para que a conexão só seja escolhida quando o
+// gerenciador de transações já marcou a transação como somente leitura.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReadRouting.isPrimaryForced()
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        String replica = replicaLagMonitor.nextHealthyReplica();
+        return replica != null ? replica : PRIMARY; // Nenhuma réplica dentro da defasagem aceita
+    }
+}
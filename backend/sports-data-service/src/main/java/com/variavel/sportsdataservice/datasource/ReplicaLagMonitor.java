@@ -0,0 +1,123 @@
+package com.variavel.sportsdataservice.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Mede a defasagem de cada réplica com uma linha de heartbeat: grava NOW(6) no primário (replication_heartbeat) e
+// lê a mesma linha na réplica. A defasagem é a hora do primário menos o último heartbeat que a réplica já recebeu,
+// tudo com o relógio do primário, então não depende de os relógios dos servidores estarem sincronizados.
+// Réplicas acima de 'maxLagMs' (ou inacessíveis) saem do rodízio até alcançarem o primário de novo.
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate primary;
+    private final Map<String, DataSource> replicaDataSources;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final long maxLagMs;
+    private final long checkIntervalMs;
+    // Última defasagem medida por réplica (-1 se inacessível), para registrar só as mudanças de estado
+    private final Map<String, Long> lastLagMs = new LinkedHashMap<>();
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile String[] healthy = new String[0];
+
+    public ReplicaLagMonitor(DataSource primary, Map<String, DataSource> replicas, long maxLagMs, long checkIntervalMs) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicaDataSources = Map.copyOf(replicas);
+        replicas.forEach((name, dataSource) -> this.replicas.put(name, new JdbcTemplate(dataSource)));
+        this.maxLagMs = maxLagMs;
+        this.checkIntervalMs = checkIntervalMs;
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(this::check, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+        replicaDataSources.values().forEach(dataSource -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.debug("Erro ao fechar o pool da réplica: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    public Map<String, DataSource> getReplicaDataSources() {
+        return replicaDataSources;
+    }
+
+    // Rodízio entre as réplicas saudáveis; null se nenhuma estiver
+    public String nextHealthyReplica() {
+        String[] current = healthy;
+        if (current.length == 0) {
+            return null;
+        }
+        return current[Math.floorMod(nextIndex.getAndIncrement(), current.length)];
+    }
+
+    private void check() {
+        Timestamp primaryNow;
+        try {
+            primary.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, NOW(6)) ON DUPLICATE KEY UPDATE beat_at = NOW(6)");
+            primaryNow = primary.queryForObject("SELECT NOW(6)", Timestamp.class);
+        } catch (Exception e) {
+            log.warn("Erro ao gravar o heartbeat de replicação no primário: {}", e.getMessage());
+            return; // Mantém o último estado conhecido das réplicas
+        }
+        List<String> nowHealthy = new ArrayList<>();
+        for (Map.Entry<String, JdbcTemplate> replica : replicas.entrySet()) {
+            long lag = measure(replica.getKey(), replica.getValue(), primaryNow);
+            boolean ok = lag >= 0 && lag <= maxLagMs;
+            if (ok) {
+                nowHealthy.add(replica.getKey());
+            }
+            synchronized (this) {
+                Long previous = lastLagMs.put(replica.getKey(), lag);
+                boolean wasOk = previous != null && previous >= 0 && previous <= maxLagMs;
+                if (previous == null || wasOk != ok) {
+                    if (ok) {
+                        log.info("Réplica {} no rodízio de leituras (defasagem {} ms).", replica.getKey(), lag);
+                    } else {
+                        log.warn("Réplica {} fora do rodízio de leituras (defasagem {} ms, limite {} ms).", replica.getKey(), lag, maxLagMs);
+                    }
+                }
+            }
+        }
+        healthy = nowHealthy.toArray(String[]::new);
+    }
+
+    private long measure(String name, JdbcTemplate replica, Timestamp primaryNow) {
+        try {
+            List<Timestamp> beats = replica.queryForList("SELECT beat_at FROM replication_heartbeat WHERE id = 1", Timestamp.class);
+            if (beats.isEmpty()) {
+                return Long.MAX_VALUE; // Ainda não recebeu nenhum heartbeat
+            }
+            return Math.max(0, primaryNow.getTime() - beats.get(0).getTime());
+        } catch (Exception e) {
+            log.debug("Réplica {} inacessível: {}", name, e.getMessage());
+            return -1;
+        }
+    }
+}
@@ -8,7 +8,12 @@ import lombok.AllArgsConstructor;
 import java.time.Instant; // Para timestamps em UTC
 
 @Entity
-@Table(name = "fixtures")
+@Table(name = "fixtures", indexes = { // Índices criados na V2 das migrations, espelhados aqui para documentação
+        @Index(name = "idx_fixtures_league_season", columnList = "league_id, season"),
+        @Index(name = "idx_fixtures_status_date", columnList = "status, date"),
+        @Index(name = "idx_fixtures_date", columnList = "date"),
+        @Index(name = "idx_fixtures_season_status", columnList = "season, status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,35 @@
+package com.variavel.sportsdataservice.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "fixture_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // Ordem de gravação (não é a ordem de commit)
+
+    @Column(unique = true)
+    private Long sequenceNo; // Offset do feed, atribuído pelo relay depois do commit (null = ainda não publicado)
+
+    @Column(nullable = false)
+    private Long fixtureId;
+
+    @Column(nullable = false, length = 32)
+    private String eventType; // CREATED, UPDATED ou FINISHED (ver FixtureEventDto)
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // FixtureEventDto serializado em JSON
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,33 @@
+package com.variavel.sportsdataservice.domain;
+
+import java.util.Set;
+
+// Status "long" da API-Football, como gravados em Fixture.status
+public final class FixtureStatus {
+
+    public static final String NOT_STARTED = "Not Started";
+    public static final String FINISHED = "Match Finished"; // FT, AET e PEN chegam com o mesmo status longo
+
+    // Partida em andamento (inclui intervalo e paralisações)
+    public static final Set<String> LIVE = Set.of(
+            "First Half", "Halftime", "Second Half", "Extra Time", "Break Time",
+            "Penalty In Progress", "Match Suspended", "Match Interrupted", "In Progress");
+
+    // Partidas que não serão disputadas (não entram em tabela nem em simulação)
+    public static final Set<String> VOID = Set.of("Match Cancelled", "Match Abandoned");
+
+    private FixtureStatus() {
+    }
+
+    public static boolean isFinished(String status) {
+        return FINISHED.equals(status);
+    }
+
+    public static boolean isLive(String status) {
+        return status != null && LIVE.contains(status);
+    }
+
+    public static boolean isVoid(String status) {
+        return status != null && VOID.contains(status);
+    }
+}
@@ -27,6 +27,8 @@ public class League {
     private String country; // País da liga (ex: "England")
 
     private String logoUrl; // URL do logo da liga
+    private String logoHash; // SHA-256 do logo no cache local (nulo enquanto não foi baixado)
+    private String logoExt; // Extensão do arquivo no cache local (png, svg...)
 
     // Se a API retornar a temporada atual, podemos adicionar um campo para isso
     // private Integer currentSeason;
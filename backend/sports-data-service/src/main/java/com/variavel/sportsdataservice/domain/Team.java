@@ -27,6 +27,8 @@ public class Team {
     private Integer founded; // Ano de fundação
     private Boolean national; // Se é uma seleção nacional (true/false)
     private String logoUrl; // URL do logo do time
+    private String logoHash; // SHA-256 do logo no cache local (nulo enquanto não foi baixado)
+    private String logoExt; // Extensão do arquivo no cache local (png, svg...)
 
     // Relacionamento com as ligas que o time participa pode ser modelado depois
     // Ou através de uma tabela de junção se for muitos para muitos
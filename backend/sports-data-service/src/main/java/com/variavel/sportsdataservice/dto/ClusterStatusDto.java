@@ -0,0 +1,14 @@
+package com.variavel.sportsdataservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ClusterStatusDto {
+    private String instanceId;
+    private Boolean leader;
+    private List<String> members; // Réplicas ativas no anel de ligas
+}
@@ -6,7 +6,7 @@ import lombok.Data;
 import java.time.Instant;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class FixtureDto {
     private Long id;
     private Integer apiId;
@@ -0,0 +1,38 @@
+package com.variavel.sportsdataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Mudança de uma partida publicada no feed de eventos (outbox). 'sequence' é o offset do feed.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureEventDto {
+    public static final String CREATED = "CREATED"; // Partida nova, ainda não encerrada
+    public static final String UPDATED = "UPDATED"; // Mudança de status, minuto, placar ou horário
+    public static final String FINISHED = "FINISHED"; // Partida encerrada (ou placar final corrigido)
+
+    private Long sequence; // Offset no feed (crescente, sem buracos entre eventos publicados)
+    private String type;
+    private Instant occurredAt;
+
+    private Long fixtureId; // Nosso ID interno
+    private Integer apiId; // ID da partida na API-Football
+    private Long leagueId;
+    private Integer season;
+    private Long homeTeamId;
+    private Long awayTeamId;
+    private Instant date;
+    private String status;
+    private Integer elapsed;
+    private Integer homeGoals;
+    private Integer awayGoals;
+    // Derivados do status, para que os consumidores não precisem conhecer os status da API-Football
+    private boolean live; // Em andamento (inclui intervalo e paralisações)
+    private boolean finished; // Encerrada ou anulada: não será mais disputada
+}
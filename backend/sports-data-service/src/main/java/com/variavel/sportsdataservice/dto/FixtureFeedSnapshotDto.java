@@ -0,0 +1,15 @@
+package com.variavel.sportsdataservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+// Estado atual das partidas de um intervalo, no formato do feed de eventos. 'sequence' é o offset a partir do
+// qual o consumidor continua o stream: eventos posteriores já refletem mudanças depois desta leitura.
+@Data
+@Builder
+public class FixtureFeedSnapshotDto {
+    private Long sequence;
+    private List<FixtureEventDto> fixtures;
+}
@@ -0,0 +1,15 @@
+package com.variavel.sportsdataservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class FixtureProgressionDto {
+    private Long fixtureId;
+    private Boolean live; // true: partida em andamento, lida da memória
+    private Integer droppedStates; // Estados mais antigos que não couberam no histórico (0 = progressão completa)
+    private List<LiveStateDto> states;
+}
@@ -0,0 +1,15 @@
+package com.variavel.sportsdataservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class FixtureTimelineDto {
+    private Long fixtureId;
+    private Long homeTeamId;
+    private Long awayTeamId;
+    private List<TimelineEventDto> events;
+}
@@ -0,0 +1,17 @@
+package com.variavel.sportsdataservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+// Um estado da partida durante o jogo (uma linha do gráfico de progressão)
+@Data
+@Builder
+public class LiveStateDto {
+    private Instant at;
+    private Integer minute;
+    private Integer homeGoals;
+    private Integer awayGoals;
+    private String status;
+}
@@ -0,0 +1,14 @@
+package com.variavel.sportsdataservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SearchResultDto {
+    private String type; // TEAM ou LEAGUE
+    private Long id;
+    private String name;
+    private String country;
+    private String logoUrl;
+}
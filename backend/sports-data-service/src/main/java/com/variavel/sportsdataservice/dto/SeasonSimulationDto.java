@@ -0,0 +1,18 @@
+package com.variavel.sportsdataservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class SeasonSimulationDto {
+    private Long leagueId;
+    private Integer season;
+    private Integer iterations; // Temporadas simuladas
+    private Long seed;
+    private Integer fixturesRemaining;
+    private Long elapsedMillis; // Tempo do cálculo (a resposta em cache devolve o tempo original)
+    private List<TeamProjectionDto> teams; // Ordenados pelos pontos esperados
+}
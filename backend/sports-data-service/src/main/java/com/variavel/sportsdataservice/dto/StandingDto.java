@@ -0,0 +1,22 @@
+package com.variavel.sportsdataservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class StandingDto {
+    private Integer position;
+    private Long teamId;
+    private String teamName;
+    private String teamLogoUrl;
+    private Integer played;
+    private Integer won;
+    private Integer drawn;
+    private Integer lost;
+    private Integer goalsFor;
+    private Integer goalsAgainst;
+    private Integer goalDifference;
+    private Integer points;
+    private String form; // Últimos 5 resultados, do mais recente: W (vitória), D (empate), L (derrota)
+}
@@ -0,0 +1,15 @@
+package com.variavel.sportsdataservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TeamProjectionDto {
+    private Long teamId;
+    private String teamName;
+    private Integer currentPoints;
+    private Double expectedPoints; // Média dos pontos finais nas temporadas simuladas
+    private Double championProbability;
+    private double[] positionProbabilities; // [0] = 1º lugar, [1] = 2º lugar, ...
+}
@@ -0,0 +1,15 @@
+package com.variavel.sportsdataservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TimelineEventDto {
+    private Integer minute;
+    private Integer extraMinute; // Acréscimos (0 se não houver)
+    private String type; // GOAL, OWN_GOAL, PENALTY_GOAL, MISSED_PENALTY, YELLOW_CARD, SECOND_YELLOW_CARD, RED_CARD, SUBSTITUTION, VAR, OTHER
+    private Long teamId;
+    private Integer playerApiId; // ID do jogador na API-Football (em substituições, quem entra)
+    private Integer assistApiId; // Assistência (em substituições, quem sai)
+}
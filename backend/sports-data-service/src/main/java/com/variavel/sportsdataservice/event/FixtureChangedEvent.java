@@ -0,0 +1,8 @@
+package com.variavel.sportsdataservice.event;
+
+import com.variavel.sportsdataservice.dto.FixtureEventDto;
+
+// Evento de aplicação publicado pelo FixtureOutboxRelay para cada mudança de partida já gravada no feed.
+// Consumidores em memória (classificação, simulações, etc.) escutam este evento em vez de observar a ingestão.
+public record FixtureChangedEvent(FixtureEventDto change) {
+}
@@ -0,0 +1,74 @@
+package com.variavel.sportsdataservice.media;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+// Formatos de imagem aceitos no cache de logos, reconhecidos pelos primeiros bytes do arquivo (o Content-Type
+// devolvido pela origem nem sempre é confiável).
+public enum ImageType {
+
+    PNG("png", MediaType.IMAGE_PNG),
+    JPEG("jpg", MediaType.IMAGE_JPEG),
+    GIF("gif", MediaType.IMAGE_GIF),
+    WEBP("webp", MediaType.parseMediaType("image/webp")),
+    SVG("svg", MediaType.parseMediaType("image/svg+xml"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ImageType(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public static ImageType fromExtension(String extension) {
+        for (ImageType type : values()) {
+            if (type.extension.equals(extension)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    // Null se o conteúdo não for uma imagem reconhecida (ex: página de erro servida com status 200)
+    public static ImageType detect(byte[] content) {
+        if (startsWith(content, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return PNG;
+        }
+        if (startsWith(content, 0, 0xFF, 0xD8, 0xFF)) {
+            return JPEG;
+        }
+        if (startsWith(content, 0, 'G', 'I', 'F', '8')) {
+            return GIF;
+        }
+        if (startsWith(content, 0, 'R', 'I', 'F', 'F') && startsWith(content, 8, 'W', 'E', 'B', 'P')) {
+            return WEBP;
+        }
+        String head = new String(content, 0, Math.min(content.length, 1024), StandardCharsets.UTF_8).stripLeading();
+        if ((head.startsWith("<?xml") || head.startsWith("<svg") || head.startsWith("<!--")) && head.contains("<svg")) {
+            return SVG;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] content, int offset, int... prefix) {
+        if (content.length < offset + prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((content[offset + i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,92 @@
+package com.variavel.sportsdataservice.media;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+// Arquivos de logo endereçados pelo conteúdo: o nome é o SHA-256 dos bytes, então o mesmo arquivo nunca muda
+// (pode ser servido com cache imutável) e logos iguais de URLs diferentes ocupam um arquivo só. Os arquivos ficam
+// em subdiretórios pelos dois primeiros caracteres do hash, para não acumular milhares de entradas num diretório.
+//
+// A gravação vai para um temporário no mesmo diretório e é movida de uma vez para o nome final: quem lê nunca
+// encontra um arquivo pela metade, e duas gravações do mesmo conteúdo produzem o mesmo resultado.
+public class LogoStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    public record StoredLogo(String hash, ImageType type) {
+    }
+
+    private final Path root;
+
+    public LogoStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível criar o diretório de logos " + this.root, e);
+        }
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    public static boolean isValidHash(String hash) {
+        return hash != null && HASH.matcher(hash).matches();
+    }
+
+    public static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // Toda JVM tem SHA-256
+        }
+    }
+
+    // Null se o conteúdo não for uma imagem reconhecida
+    public StoredLogo store(byte[] content) throws IOException {
+        ImageType type = ImageType.detect(content);
+        if (type == null) {
+            return null;
+        }
+        String hash = sha256(content);
+        Path target = path(hash, type);
+        if (Files.exists(target)) {
+            return new StoredLogo(hash, type);
+        }
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+        try {
+            Files.write(temp, content);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return new StoredLogo(hash, type);
+    }
+
+    // Null se o arquivo não está no disco desta instância
+    public Path find(String hash, ImageType type) {
+        Path path = path(hash, type);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    private Path path(String hash, ImageType type) {
+        if (!isValidHash(hash)) {
+            throw new IllegalArgumentException("Hash de logo inválido: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash + "." + type.extension());
+    }
+}
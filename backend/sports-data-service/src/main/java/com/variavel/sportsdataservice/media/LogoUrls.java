@@ -0,0 +1,33 @@
+package com.variavel.sportsdataservice.media;
+
+import com.variavel.sportsdataservice.domain.League;
+import com.variavel.sportsdataservice.domain.Team;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// URL de logo exposta nos DTOs: o arquivo do cache local (MediaController) quando já baixado pelo
+// LogoCacheService, senão a URL de origem.
+@Component
+public class LogoUrls {
+
+    private final String publicPath;
+
+    public LogoUrls(@Value("${media.logos.public-path:/api/v1/sports/media/logos}") String publicPath) {
+        this.publicPath = publicPath.endsWith("/") ? publicPath.substring(0, publicPath.length() - 1) : publicPath;
+    }
+
+    public String publicUrl(String logoHash, String logoExt, String logoUrl) {
+        if (logoHash == null || logoExt == null) {
+            return logoUrl;
+        }
+        return publicPath + "/" + logoHash + "." + logoExt;
+    }
+
+    public String publicUrl(Team team) {
+        return team == null ? null : publicUrl(team.getLogoHash(), team.getLogoExt(), team.getLogoUrl());
+    }
+
+    public String publicUrl(League league) {
+        return league == null ? null : publicUrl(league.getLogoHash(), league.getLogoExt(), league.getLogoUrl());
+    }
+}
@@ -0,0 +1,80 @@
+package com.variavel.sportsdataservice.progression;
+
+import java.nio.ByteBuffer;
+
+// Estado de uma partida ao vivo empacotado em um long, para que o histórico caiba num long[] sem objetos:
+//   bits 63..30  instante da mudança (segundos desde a época, 34 bits)
+//   bits 29..22  minuto (0-255)
+//   bits 21..14  gols do mandante (0-255)
+//   bits 13..6   gols do visitante (0-255)
+//   bits  5..0   MatchPhase.code
+// Formato gravado (fixture_state_histories.states): um byte de versão seguido dos longs, em ordem cronológica.
+public final class LiveStateCodec {
+
+    public static final byte VERSION = 1;
+    public static final int HEADER_SIZE = 1;
+    public static final int RECORD_SIZE = Long.BYTES;
+
+    // Tudo menos o instante: dois estados com o mesmo conteúdo são a mesma linha do histórico
+    public static final long CONTENT_MASK = (1L << 30) - 1;
+
+    private LiveStateCodec() {
+    }
+
+    public static long pack(long epochSecond, int minute, int homeGoals, int awayGoals, MatchPhase phase) {
+        return (epochSecond << 30)
+                | ((long) clamp(minute) << 22)
+                | ((long) clamp(homeGoals) << 14)
+                | ((long) clamp(awayGoals) << 6)
+                | phase.code;
+    }
+
+    public static long epochSecond(long state) {
+        return state >>> 30;
+    }
+
+    public static int minute(long state) {
+        return (int) (state >>> 22) & 0xFF;
+    }
+
+    public static int homeGoals(long state) {
+        return (int) (state >>> 14) & 0xFF;
+    }
+
+    public static int awayGoals(long state) {
+        return (int) (state >>> 6) & 0xFF;
+    }
+
+    public static MatchPhase phase(long state) {
+        return MatchPhase.fromCode((int) state & 0x3F);
+    }
+
+    public static byte[] encode(long[] states) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + states.length * RECORD_SIZE);
+        buffer.put(VERSION);
+        for (long state : states) {
+            buffer.putLong(state);
+        }
+        return buffer.array();
+    }
+
+    public static long[] decode(byte[] blob) {
+        if (blob == null || blob.length < HEADER_SIZE) {
+            return new long[0];
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(blob);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalStateException("Versão de histórico de estados desconhecida: " + version);
+        }
+        long[] states = new long[(blob.length - HEADER_SIZE) / RECORD_SIZE];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = buffer.getLong();
+        }
+        return states;
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(value, 0xFF));
+    }
+}
@@ -0,0 +1,125 @@
+package com.variavel.sportsdataservice.progression;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+// Históricos das partidas ao vivo em anéis de tamanho fixo, todos num único long[] alocado na criação:
+// 'maxFixtures' anéis de 'capacity' estados. A memória não cresce com o número de partidas em andamento; partida
+// que não cabe toma o anel da que está há mais tempo sem mudar (devolvida para ser gravada antes).
+// Anel cheio sobrescreve o estado mais antigo e conta o descarte.
+// Não é thread-safe: quem usa deve sincronizar o acesso.
+public class LiveStateRings {
+
+    // Conteúdo de um anel, em ordem cronológica
+    public record History(long fixtureId, long[] states, int dropped) {
+    }
+
+    private final int capacity;
+    private final long[] states;
+    private final long[] fixtureIds;
+    private final int[] starts;
+    private final int[] counts;
+    private final int[] dropped;
+    private final long[] lastChangeNanos;
+    private final Map<Long, Integer> slotByFixture = new HashMap<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+
+    public LiveStateRings(int maxFixtures, int capacity) {
+        this.capacity = capacity;
+        this.states = new long[maxFixtures * capacity];
+        this.fixtureIds = new long[maxFixtures];
+        this.starts = new int[maxFixtures];
+        this.counts = new int[maxFixtures];
+        this.dropped = new int[maxFixtures];
+        this.lastChangeNanos = new long[maxFixtures];
+        for (int slot = 0; slot < maxFixtures; slot++) {
+            freeSlots.add(slot);
+        }
+    }
+
+    public int trackedCount() {
+        return slotByFixture.size();
+    }
+
+    public boolean isTracked(long fixtureId) {
+        return slotByFixture.containsKey(fixtureId);
+    }
+
+    // Reserva um anel para a partida. Se não há anel livre, libera o da partida parada há mais tempo e o devolve
+    // (para ser gravado); null se havia anel livre ou a partida já tinha um.
+    public History track(long fixtureId) {
+        if (slotByFixture.containsKey(fixtureId)) {
+            return null;
+        }
+        History evicted = null;
+        if (freeSlots.isEmpty()) {
+            int stalest = -1;
+            for (int slot : slotByFixture.values()) {
+                if (stalest < 0 || lastChangeNanos[slot] < lastChangeNanos[stalest]) {
+                    stalest = slot;
+                }
+            }
+            evicted = release(fixtureIds[stalest]);
+        }
+        int slot = freeSlots.poll();
+        slotByFixture.put(fixtureId, slot);
+        fixtureIds[slot] = fixtureId;
+        starts[slot] = 0;
+        counts[slot] = 0;
+        dropped[slot] = 0;
+        lastChangeNanos[slot] = System.nanoTime();
+        return evicted;
+    }
+
+    // Acrescenta o estado se o conteúdo mudou em relação ao último; false se a partida não tem anel ou nada mudou
+    public boolean append(long fixtureId, long state) {
+        Integer slot = slotByFixture.get(fixtureId);
+        if (slot == null) {
+            return false;
+        }
+        int base = slot * capacity;
+        int count = counts[slot];
+        if (count > 0) {
+            long last = states[base + (starts[slot] + count - 1) % capacity];
+            if ((last & LiveStateCodec.CONTENT_MASK) == (state & LiveStateCodec.CONTENT_MASK)) {
+                return false;
+            }
+        }
+        if (count < capacity) {
+            states[base + (starts[slot] + count) % capacity] = state;
+            counts[slot] = count + 1;
+        } else {
+            states[base + starts[slot]] = state; // Sobrescreve o mais antigo
+            starts[slot] = (starts[slot] + 1) % capacity;
+            dropped[slot]++;
+        }
+        lastChangeNanos[slot] = System.nanoTime();
+        return true;
+    }
+
+    public History get(long fixtureId) {
+        Integer slot = slotByFixture.get(fixtureId);
+        return slot != null ? copy(slot) : null;
+    }
+
+    public History release(long fixtureId) {
+        Integer slot = slotByFixture.remove(fixtureId);
+        if (slot == null) {
+            return null;
+        }
+        History history = copy(slot);
+        freeSlots.add(slot);
+        return history;
+    }
+
+    private History copy(int slot) {
+        int base = slot * capacity;
+        int count = counts[slot];
+        long[] ordered = new long[count];
+        int firstPart = Math.min(count, capacity - starts[slot]);
+        System.arraycopy(states, base + starts[slot], ordered, 0, firstPart);
+        System.arraycopy(states, base, ordered, firstPart, count - firstPart);
+        return new History(fixtureIds[slot], ordered, dropped[slot]);
+    }
+}
@@ -0,0 +1,53 @@
+package com.variavel.sportsdataservice.progression;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Status da partida em cada estado do histórico ao vivo. O código é o que vai gravado (6 bits de cada estado
+// empacotado, ver LiveStateCodec): não reutilizar nem renumerar.
+public enum MatchPhase {
+    OTHER(0, null),
+    NOT_STARTED(1, "Not Started"),
+    FIRST_HALF(2, "First Half"),
+    HALFTIME(3, "Halftime"),
+    SECOND_HALF(4, "Second Half"),
+    EXTRA_TIME(5, "Extra Time"),
+    BREAK_TIME(6, "Break Time"),
+    PENALTIES(7, "Penalty In Progress"),
+    SUSPENDED(8, "Match Suspended"),
+    INTERRUPTED(9, "Match Interrupted"),
+    IN_PROGRESS(10, "In Progress"),
+    FINISHED(11, "Match Finished"),
+    CANCELLED(12, "Match Cancelled"),
+    ABANDONED(13, "Match Abandoned"),
+    POSTPONED(14, "Match Postponed");
+
+    private static final MatchPhase[] BY_CODE = new MatchPhase[64];
+    private static final Map<String, MatchPhase> BY_STATUS = new HashMap<>();
+
+    static {
+        for (MatchPhase phase : values()) {
+            BY_CODE[phase.code] = phase;
+            if (phase.status != null) {
+                BY_STATUS.put(phase.status, phase);
+            }
+        }
+    }
+
+    public final int code;
+    public final String status; // Status "long" da API-Football, como em Fixture.status
+
+    MatchPhase(int code, String status) {
+        this.code = code;
+        this.status = status;
+    }
+
+    public static MatchPhase fromCode(int code) {
+        MatchPhase phase = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        return phase != null ? phase : OTHER;
+    }
+
+    public static MatchPhase fromStatus(String status) {
+        return status != null ? BY_STATUS.getOrDefault(status, OTHER) : OTHER;
+    }
+}
@@ -0,0 +1,30 @@
+package com.variavel.sportsdataservice.repository;
+
+import com.variavel.sportsdataservice.domain.FixtureOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface FixtureOutboxRepository extends JpaRepository<FixtureOutboxEvent, Long> {
+    List<FixtureOutboxEvent> findBySequenceNoIsNullOrderByIdAsc(Pageable pageable); // Pendentes de publicação
+    List<FixtureOutboxEvent> findBySequenceNoGreaterThanOrderBySequenceNoAsc(Long sequenceNo, Pageable pageable); // Leitura do feed
+
+    @Query("select coalesce(max(e.sequenceNo), 0) from FixtureOutboxEvent e")
+    Long findMaxSequenceNo();
+
+    // Retenção: um lote de eventos já publicados gravados antes de 'before'. Nunca apaga 'keepFrom' em diante,
+    // para que o maior sequence_no continue no banco e a numeração não recomece.
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM fixture_outbox WHERE created_at < :before AND sequence_no IS NOT NULL AND sequence_no < :keepFrom "
+            + "ORDER BY created_at LIMIT :limit", nativeQuery = true)
+    int deletePublishedBefore(@Param("before") Instant before, @Param("keepFrom") long keepFrom, @Param("limit") int limit);
+}
@@ -1,10 +1,19 @@
 package com.variavel.sportsdataservice.repository;
 
 import com.variavel.sportsdataservice.domain.Fixture;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -12,5 +21,47 @@ public interface FixtureRepository extends JpaRepository<Fixture, Long> {
     Optional<Fixture> findByApiId(Integer apiId);
     List<Fixture> findByLeagueIdAndSeason(Long leagueId, Integer season);
     List<Fixture> findByStatus(String status);
+    List<Fixture> findByDateGreaterThanEqualAndDateLessThan(Instant start, Instant end); // Usa idx_fixtures_date
     // Podemos adicionar mais métodos de busca conforme a necessidade
-}
\ No newline at end of file
+
+    // --- Partidas arquivadas (fixtures_archive tem as mesmas colunas de fixtures, ver FixtureArchiveService) ---
+    // Somente leitura: as linhas do arquivo são mapeadas na entidade Fixture, mas o Hibernate nunca as grava de volta
+    // (uma alteração nelas iria para a tabela fixtures)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM fixtures_archive WHERE id = :id", nativeQuery = true)
+    Optional<Fixture> findArchivedById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM fixtures_archive WHERE league_id = :leagueId AND season = :season", nativeQuery = true)
+    List<Fixture> findArchivedByLeagueIdAndSeason(@Param("leagueId") Long leagueId, @Param("season") Integer season);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM fixtures_archive WHERE date >= :start AND date < :end", nativeQuery = true)
+    List<Fixture> findArchivedByDateRange(@Param("start") Instant start, @Param("end") Instant end); // Usa idx_fixtures_archive_date
+
+    // Leituras de histórico: a tabela quente primeiro, depois o arquivo
+    default Optional<Fixture> findByIdIncludingArchive(Long id) {
+        Optional<Fixture> fixture = findById(id);
+        return fixture.isPresent() ? fixture : findArchivedById(id);
+    }
+
+    default List<Fixture> findByLeagueIdAndSeasonIncludingArchive(Long leagueId, Integer season) {
+        return merge(findByLeagueIdAndSeason(leagueId, season), findArchivedByLeagueIdAndSeason(leagueId, season));
+    }
+
+    default List<Fixture> findByDateRangeIncludingArchive(Instant start, Instant end) {
+        return merge(findByDateGreaterThanEqualAndDateLessThan(start, end), findArchivedByDateRange(start, end));
+    }
+
+    // Partida nas duas tabelas (reingerida antes do restoreByApiId, possivelmente com outro id): vale a cópia da
+    // tabela quente. A chave é o api_id, que identifica a partida nas duas tabelas.
+    private static List<Fixture> merge(List<Fixture> hot, List<Fixture> archived) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        Map<Integer, Fixture> byApiId = new LinkedHashMap<>();
+        hot.forEach(fixture -> byApiId.put(fixture.getApiId(), fixture));
+        archived.forEach(fixture -> byApiId.putIfAbsent(fixture.getApiId(), fixture));
+        return new ArrayList<>(byApiId.values());
+    }
+}
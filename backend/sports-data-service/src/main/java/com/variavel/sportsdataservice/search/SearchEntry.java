@@ -0,0 +1,5 @@
+package com.variavel.sportsdataservice.search;
+
+// Item indexado. 'popularity' é o número de partidas do time ou da liga na tabela de partidas.
+public record SearchEntry(SearchEntryType type, long id, String name, String country, String logoUrl, int popularity) {
+}
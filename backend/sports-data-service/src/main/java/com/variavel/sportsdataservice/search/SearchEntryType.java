@@ -0,0 +1,6 @@
+package com.variavel.sportsdataservice.search;
+
+public enum SearchEntryType {
+    TEAM,
+    LEAGUE
+}
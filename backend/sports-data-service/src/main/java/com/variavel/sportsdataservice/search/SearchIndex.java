@@ -0,0 +1,266 @@
+package com.variavel.sportsdataservice.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Índice imutável de nomes de times e ligas (montado por inteiro a cada reconstrução e trocado de uma vez).
+//
+// - Prefixo: todas as palavras normalizadas dos nomes, ordenadas; cada palavra da consulta vira um intervalo por
+//   busca binária. A palavra com o menor intervalo gera os candidatos e as demais só são conferidas neles.
+// - Trigramas: índice invertido (trigrama -> itens) usado quando o prefixo não completa o resultado, para tolerar
+//   erros de digitação ("sao paolo"). A consulta só recebe o espaço inicial, já que a última palavra pode estar incompleta.
+//
+// Os itens ficam ordenados por popularidade, então a posição no array já serve de desempate.
+public class SearchIndex {
+
+    public static final SearchIndex EMPTY = build(List.of());
+
+    private static final double MIN_SIMILARITY = 0.5;
+    private static final int MIN_FUZZY_LENGTH = 3;
+
+    private static final int RANK_EXACT = 3;
+    private static final int RANK_NAME_PREFIX = 2;
+    private static final int RANK_WORD_PREFIX = 1;
+
+    private final SearchEntry[] entries;
+    private final String[] foldedNames;
+    private final String[][] entryWords;
+
+    // Palavras ordenadas (palavra, item)
+    private final String[] words;
+    private final int[] wordEntries;
+
+    // Trigramas ordenados e listas de itens em formato CSR (offsets[i]..offsets[i + 1] em postings)
+    private final long[] grams;
+    private final int[] gramOffsets;
+    private final int[] gramPostings;
+
+    private SearchIndex(SearchEntry[] entries, String[] foldedNames, String[][] entryWords, String[] words, int[] wordEntries,
+                        long[] grams, int[] gramOffsets, int[] gramPostings) {
+        this.entries = entries;
+        this.foldedNames = foldedNames;
+        this.entryWords = entryWords;
+        this.words = words;
+        this.wordEntries = wordEntries;
+        this.grams = grams;
+        this.gramOffsets = gramOffsets;
+        this.gramPostings = gramPostings;
+    }
+
+    public static SearchIndex build(List<SearchEntry> source) {
+        SearchEntry[] entries = source.stream()
+                .filter(entry -> entry.name() != null && !SearchText.fold(entry.name()).isEmpty())
+                .sorted(Comparator.comparingInt(SearchEntry::popularity).reversed().thenComparing(SearchEntry::name))
+                .toArray(SearchEntry[]::new);
+        int n = entries.length;
+        String[] foldedNames = new String[n];
+        String[][] entryWords = new String[n][];
+        List<String> wordList = new ArrayList<>();
+        List<Integer> wordEntryList = new ArrayList<>();
+        Map<Long, List<Integer>> postingsByGram = new HashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            foldedNames[i] = SearchText.fold(entries[i].name());
+            entryWords[i] = Arrays.stream(SearchText.tokens(foldedNames[i])).distinct().toArray(String[]::new);
+            for (String word : entryWords[i]) {
+                wordList.add(word);
+                wordEntryList.add(i);
+            }
+            for (long gram : grams(" " + foldedNames[i] + " ")) {
+                postingsByGram.computeIfAbsent(gram, g -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Integer[] order = new Integer[wordList.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing((Integer k) -> wordList.get(k)).thenComparingInt(wordEntryList::get));
+        String[] words = new String[order.length];
+        int[] wordEntries = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            words[i] = wordList.get(order[i]);
+            wordEntries[i] = wordEntryList.get(order[i]);
+        }
+
+        long[] grams = postingsByGram.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        int[] gramOffsets = new int[grams.length + 1];
+        int[] gramPostings = new int[postingsByGram.values().stream().mapToInt(List::size).sum()];
+        int position = 0;
+        for (int g = 0; g < grams.length; g++) {
+            gramOffsets[g] = position;
+            for (int entry : postingsByGram.get(grams[g])) {
+                gramPostings[position++] = entry; // Em ordem crescente: os itens foram visitados em ordem
+            }
+        }
+        gramOffsets[grams.length] = position;
+        return new SearchIndex(entries, foldedNames, entryWords, words, wordEntries, grams, gramOffsets, gramPostings);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    // 'type' nulo busca times e ligas
+    public List<SearchEntry> search(String query, SearchEntryType type, int limit) {
+        String folded = SearchText.fold(query);
+        if (folded.isEmpty() || limit <= 0 || entries.length == 0) {
+            return List.of();
+        }
+        TopEntries top = new TopEntries(limit);
+        searchPrefix(folded, type, top);
+        List<SearchEntry> result = top.entries(entries);
+        if (result.size() < limit && folded.length() >= MIN_FUZZY_LENGTH) {
+            TopEntries fuzzy = new TopEntries(limit - result.size());
+            searchTrigrams(folded, type, top, fuzzy);
+            result.addAll(fuzzy.entries(entries));
+        }
+        return result;
+    }
+
+    private void searchPrefix(String folded, SearchEntryType type, TopEntries top) {
+        String[] queryWords = SearchText.tokens(folded);
+        int driver = -1;
+        int driverFrom = 0;
+        int driverTo = 0;
+        for (int q = 0; q < queryWords.length; q++) {
+            int from = lowerBound(queryWords[q]);
+            int to = lowerBound(queryWords[q] + Character.MAX_VALUE);
+            if (from == to) {
+                return; // Alguma palavra não é prefixo de nada
+            }
+            if (driver < 0 || to - from < driverTo - driverFrom) {
+                driver = q;
+                driverFrom = from;
+                driverTo = to;
+            }
+        }
+        for (int i = driverFrom; i < driverTo; i++) {
+            int entry = wordEntries[i];
+            if ((type != null && entries[entry].type() != type) || top.contains(entry)
+                    || !matchesAllWords(entry, queryWords, driver)) {
+                continue;
+            }
+            int rank = foldedNames[entry].equals(folded) ? RANK_EXACT
+                    : foldedNames[entry].startsWith(folded) ? RANK_NAME_PREFIX
+                    : RANK_WORD_PREFIX;
+            top.offer(entry, rank);
+        }
+    }
+
+    private boolean matchesAllWords(int entry, String[] queryWords, int skip) {
+        for (int q = 0; q < queryWords.length; q++) {
+            if (q == skip) {
+                continue;
+            }
+            boolean found = false;
+            for (String word : entryWords[entry]) {
+                if (word.startsWith(queryWords[q])) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Similaridade = fração dos trigramas da consulta presentes no nome
+    private void searchTrigrams(String folded, SearchEntryType type, TopEntries exclude, TopEntries top) {
+        long[] queryGrams = grams(" " + folded);
+        int[] shared = new int[entries.length];
+        for (long gram : queryGrams) {
+            int g = Arrays.binarySearch(grams, gram);
+            if (g < 0) {
+                continue;
+            }
+            for (int p = gramOffsets[g]; p < gramOffsets[g + 1]; p++) {
+                shared[gramPostings[p]]++;
+            }
+        }
+        int minShared = (int) Math.ceil(queryGrams.length * MIN_SIMILARITY);
+        for (int entry = 0; entry < shared.length; entry++) {
+            if (shared[entry] >= minShared && (type == null || entries[entry].type() == type) && !exclude.contains(entry)) {
+                top.offer(entry, shared[entry]);
+            }
+        }
+    }
+
+    // Primeira posição com palavra >= key
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = words.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (words[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Trigramas distintos, cada um empacotado em um long (3 chars de 16 bits)
+    private static long[] grams(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] result = new long[text.length() - 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        return Arrays.stream(result).distinct().toArray();
+    }
+
+    // Os 'capacity' melhores itens por (pontuação desc, posição asc). Pequeno o bastante para busca linear.
+    private static final class TopEntries {
+
+        private final int[] entries;
+        private final long[] keys;
+        private int size;
+
+        TopEntries(int capacity) {
+            this.entries = new int[capacity];
+            this.keys = new long[capacity];
+        }
+
+        boolean contains(int entry) {
+            for (int i = 0; i < size; i++) {
+                if (entries[i] == entry) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void offer(int entry, int score) {
+            long key = ((long) score << 32) | (Integer.MAX_VALUE - entry);
+            if (size == entries.length && key <= keys[size - 1]) {
+                return;
+            }
+            int i = size == entries.length ? size - 1 : size++;
+            while (i > 0 && keys[i - 1] < key) {
+                entries[i] = entries[i - 1];
+                keys[i] = keys[i - 1];
+                i--;
+            }
+            entries[i] = entry;
+            keys[i] = key;
+        }
+
+        List<SearchEntry> entries(SearchEntry[] source) {
+            List<SearchEntry> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(source[this.entries[i]]);
+            }
+            return result;
+        }
+    }
+}
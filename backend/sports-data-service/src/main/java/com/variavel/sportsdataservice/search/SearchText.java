@@ -0,0 +1,55 @@
+package com.variavel.sportsdataservice.search;
+
+import java.text.Normalizer;
+
+// Normalização de texto para a busca: remove acentos (NFD + descarte das marcas combinantes), passa para
+// minúsculas e troca tudo que não é letra ou dígito por um único espaço. "São Paulo" e "sao-paulo" viram "sao paulo".
+public final class SearchText {
+
+    private SearchText() {
+    }
+
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            int type = Character.getType(c);
+            if (type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK || type == Character.COMBINING_SPACING_MARK) {
+                continue;
+            }
+            if (!Character.isLetterOrDigit(c)) {
+                pendingSpace = folded.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                folded.append(' ');
+                pendingSpace = false;
+            }
+            appendFolded(folded, Character.toLowerCase(c));
+        }
+        return folded.toString();
+    }
+
+    public static String[] tokens(String folded) {
+        return folded.isEmpty() ? new String[0] : folded.split(" ");
+    }
+
+    // Letras que o NFD não decompõe
+    private static void appendFolded(StringBuilder out, char c) {
+        switch (c) {
+            case 'ß' -> out.append("ss");
+            case 'æ' -> out.append("ae");
+            case 'œ' -> out.append("oe");
+            case 'ø' -> out.append('o');
+            case 'ł' -> out.append('l');
+            case 'đ' -> out.append('d');
+            case 'ı' -> out.append('i');
+            default -> out.append(c);
+        }
+    }
+}
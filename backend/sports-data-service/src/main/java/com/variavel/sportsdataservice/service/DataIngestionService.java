@@ -1,55 +1,102 @@
 package com.variavel.sportsdataservice.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.variavel.sportsdataservice.api.FootballApiClient;
+import com.variavel.sportsdataservice.cache.SportsQueryCache;
+import com.variavel.sportsdataservice.cluster.ClusterCoordinator;
+import com.variavel.sportsdataservice.datasource.ReadRouting;
 import com.variavel.sportsdataservice.domain.Fixture;
+import com.variavel.sportsdataservice.domain.FixtureOutboxEvent;
+import com.variavel.sportsdataservice.domain.FixtureStatus;
 import com.variavel.sportsdataservice.domain.League;
 import com.variavel.sportsdataservice.domain.Team;
+import com.variavel.sportsdataservice.dto.FixtureEventDto;
+import com.variavel.sportsdataservice.repository.FixtureOutboxRepository;
 import com.variavel.sportsdataservice.repository.FixtureRepository;
 import com.variavel.sportsdataservice.repository.LeagueRepository;
 import com.variavel.sportsdataservice.repository.TeamRepository;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 public class DataIngestionService {
 
     private static final Logger log = LoggerFactory.getLogger(DataIngestionService.class);
 
+    private static final int DAILY_FIXTURES_HOUR = 2;
+
     private final FootballApiClient footballApiClient;
     private final LeagueRepository leagueRepository;
     private final TeamRepository teamRepository;
     private final FixtureRepository fixtureRepository;
+    private final FixtureOutboxRepository fixtureOutboxRepository;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchIndexService searchIndexService;
+    private final SportsQueryCache sportsQueryCache;
+    private final ClusterCoordinator clusterCoordinator;
+    private final FixtureTimelineService fixtureTimelineService;
+    private final LogoCacheService logoCacheService;
+    private final FixtureArchiveService fixtureArchiveService;
+    private final long dailyTaskTimeoutMs;
 
     public DataIngestionService(FootballApiClient footballApiClient,
                                 LeagueRepository leagueRepository,
                                 TeamRepository teamRepository,
                                 FixtureRepository fixtureRepository,
-                                ObjectMapper objectMapper) {
+                                FixtureOutboxRepository fixtureOutboxRepository,
+                                ObjectMapper objectMapper,
+                                TransactionTemplate transactionTemplate,
+                                SearchIndexService searchIndexService,
+                                SportsQueryCache sportsQueryCache,
+                                ClusterCoordinator clusterCoordinator,
+                                FixtureTimelineService fixtureTimelineService,
+                                LogoCacheService logoCacheService,
+                                FixtureArchiveService fixtureArchiveService,
+                                @Value("${ingestion.daily-task-timeout-ms:600000}") long dailyTaskTimeoutMs) {
         this.footballApiClient = footballApiClient;
         this.leagueRepository = leagueRepository;
         this.teamRepository = teamRepository;
         this.fixtureRepository = fixtureRepository;
+        this.fixtureOutboxRepository = fixtureOutboxRepository;
         this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.searchIndexService = searchIndexService;
+        this.sportsQueryCache = sportsQueryCache;
+        this.clusterCoordinator = clusterCoordinator;
+        this.fixtureTimelineService = fixtureTimelineService;
+        this.logoCacheService = logoCacheService;
+        this.fixtureArchiveService = fixtureArchiveService;
+        this.dailyTaskTimeoutMs = dailyTaskTimeoutMs;
     }
 
     // Agendador para ligas (executa uma vez por dia, à 1 da manhã)
     // A sintaxe cron é "segundos minutos horas diaDoMes mes diaDaSemana"
     @Scheduled(cron = "0 0 1 * * *")
     public void scheduledIngestLeagues() {
+        if (!clusterCoordinator.isLeader()) {
+            return; // Job global: só o líder do cluster executa
+        }
         log.info("Iniciando ingestão agendada de ligas...");
         ingestLeagues().subscribe(
                 null, // onNext
@@ -74,13 +121,19 @@ public class DataIngestionService {
 
                                 Integer apiId = leagueDetails.path("id").asInt();
 
-                                Optional<League> existingLeague = leagueRepository.findByApiId(apiId);
+                                // Do primário: uma réplica atrasada não veria a liga recém-criada e a inseriria de novo
+                                Optional<League> existingLeague = ReadRouting.forcePrimary(() -> leagueRepository.findByApiId(apiId));
                                 if (existingLeague.isPresent()) {
                                     League leagueToUpdate = existingLeague.get();
                                     leagueToUpdate.setName(leagueDetails.path("name").asText());
                                     leagueToUpdate.setType(leagueDetails.path("type").asText());
                                     leagueToUpdate.setCountry(countryDetails.path("name").asText());
-                                    leagueToUpdate.setLogoUrl(leagueDetails.path("logo").asText());
+                                    String logoUrl = leagueDetails.path("logo").asText();
+                                    if (!Objects.equals(leagueToUpdate.getLogoUrl(), logoUrl)) {
+                                        leagueToUpdate.setLogoHash(null); // Logo novo: o LogoCacheService baixa de novo
+                                        leagueToUpdate.setLogoExt(null);
+                                    }
+                                    leagueToUpdate.setLogoUrl(logoUrl);
                                     leagueRepository.save(leagueToUpdate);
                                     log.debug("Liga com API ID {} atualizada: {}", apiId, leagueToUpdate.getName());
                                 } else {
@@ -101,7 +154,8 @@ public class DataIngestionService {
                         return Mono.error(new RuntimeException("Failed to ingest leagues", e));
                     }
                 })
-                .then();
+                .then()
+                .doOnSuccess(done -> onReferenceDataIngested()); // Nomes novos ou alterados entram na busca e no cache
     }
 
     @Transactional
@@ -118,7 +172,7 @@ public class DataIngestionService {
                                 JsonNode teamDetails = teamJsonWrapper.path("team");
                                 Integer apiId = teamDetails.path("id").asInt();
 
-                                Optional<Team> existingTeam = teamRepository.findByApiId(apiId);
+                                Optional<Team> existingTeam = ReadRouting.forcePrimary(() -> teamRepository.findByApiId(apiId));
                                 if (existingTeam.isPresent()) {
                                     Team teamToUpdate = existingTeam.get();
                                     teamToUpdate.setName(teamDetails.path("name").asText());
@@ -126,7 +180,12 @@ public class DataIngestionService {
                                     teamToUpdate.setCountry(teamDetails.path("country").asText());
                                     teamToUpdate.setFounded(teamDetails.path("founded").asInt());
                                     teamToUpdate.setNational(teamDetails.path("national").asBoolean());
-                                    teamToUpdate.setLogoUrl(teamDetails.path("logo").asText());
+                                    String logoUrl = teamDetails.path("logo").asText();
+                                    if (!Objects.equals(teamToUpdate.getLogoUrl(), logoUrl)) {
+                                        teamToUpdate.setLogoHash(null); // Logo novo: o LogoCacheService baixa de novo
+                                        teamToUpdate.setLogoExt(null);
+                                    }
+                                    teamToUpdate.setLogoUrl(logoUrl);
                                     teamRepository.save(teamToUpdate);
                                     log.debug("Time com API ID {} atualizado: {}", apiId, teamToUpdate.getName());
                                 } else {
@@ -149,26 +208,49 @@ public class DataIngestionService {
                         return Mono.error(new RuntimeException("Failed to ingest teams", e));
                     }
                 })
-                .then();
+                .then()
+                .doOnSuccess(done -> onReferenceDataIngested());
     }
 
-    // Agendador para ingestão de partidas diárias (uma vez por dia, às 2 da manhã)
-    // Busca partidas de hoje, ontem e amanhã para as ligas salvas.
-    @Scheduled(cron = "0 0 2 * * *")
-    public void scheduledIngestDailyFixtures() {
-        log.info("Iniciando ingestão agendada de partidas diárias...");
-        List<League> leagues = leagueRepository.findAll();
+    private void onReferenceDataIngested() {
+        sportsQueryCache.evictReferenceData();
+        searchIndexService.requestRebuild();
+        logoCacheService.requestSweep(); // Logos de ligas/times novos ou trocados
+    }
 
-        LocalDate today = LocalDate.now();
-        LocalDate yesterday = today.minusDays(1);
-        LocalDate tomorrow = today.plusDays(1);
+    // Ingestão diária de partidas (ontem, hoje e amanhã de cada liga salva), a partir das 2 da manhã.
+    // A verificação roda em todas as réplicas a cada 'ingestion.daily-sweep-interval-ms': cada uma processa só as ligas
+    // que o anel de hash lhe atribui e reserva cada liga/dia em ingestion_tasks. Se uma réplica cair, as ligas dela
+    // passam para as outras, que refazem o que não foi concluído quando a reserva expira. Uma réplica que sobe depois
+    // das 2h também completa o dia.
+    @Scheduled(fixedDelayString = "${ingestion.daily-sweep-interval-ms:60000}", initialDelayString = "${ingestion.daily-sweep-interval-ms:60000}")
+    public void scheduledIngestDailyFixtures() {
+        LocalDateTime now = LocalDateTime.now();
+        if (now.getHour() < DAILY_FIXTURES_HOUR) {
+            return;
+        }
+        LocalDate today = now.toLocalDate();
+        String taskPrefix = "daily-fixtures:" + today + ":";
+        Set<String> completed = clusterCoordinator.completedTasks(taskPrefix);
+        List<League> pending = leagueRepository.findAll().stream()
+                .filter(league -> clusterCoordinator.owns(league.getApiId()))
+                .filter(league -> !completed.contains(taskPrefix + league.getApiId()))
+                .collect(Collectors.toList());
+        if (pending.isEmpty()) {
+            return;
+        }
+        log.info("Iniciando ingestão agendada de partidas diárias: {} ligas desta réplica.", pending.size());
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         String todayStr = today.format(formatter);
-        String yesterdayStr = yesterday.format(formatter);
-        String tomorrowStr = tomorrow.format(formatter);
+        String yesterdayStr = today.minusDays(1).format(formatter);
+        String tomorrowStr = today.plusDays(1).format(formatter);
 
-        for (League league : leagues) {
+        for (League league : pending) {
+            String taskKey = taskPrefix + league.getApiId();
+            if (!clusterCoordinator.owns(league.getApiId()) || !clusterCoordinator.claimTask(taskKey, dailyTaskTimeoutMs)) {
+                continue; // A liga mudou de dono ou outra réplica já está nela
+            }
             // A API-Football exige 'season' junto com 'league' e 'date'
             // O campo 'season' na nossa entidade League atualmente é nulo ou não está sendo preenchido
             // Precisamos garantir que 'league.getSeason()' retorne um valor válido, ou buscar a temporada atual.
@@ -176,27 +258,33 @@ public class DataIngestionService {
             // Em um projeto real, você buscaria a temporada atual da API para cada liga.
             Integer currentSeason = 2024; // <-- TODO: Implementar lógica para obter a temporada atual da liga
 
-            ingestFixturesForDate(league.getApiId(), todayStr, currentSeason)
-                    .subscribe(null, error -> log.error("Erro na ingestão diária de partidas (hoje) para liga {} (API ID {}): {}", league.getName(), league.getApiId(), error.getMessage()));
-
-            ingestFixturesForDate(league.getApiId(), yesterdayStr, currentSeason)
-                    .subscribe(null, error -> log.error("Erro na ingestão diária de partidas (ontem) para liga {} (API ID {}): {}", league.getName(), league.getApiId(), error.getMessage()));
-
-            ingestFixturesForDate(league.getApiId(), tomorrowStr, currentSeason)
-                    .subscribe(null, error -> log.error("Erro na ingestão diária de partidas (amanhã) para liga {} (API ID {}): {}", league.getName(), league.getApiId(), error.getMessage()));
+            try {
+                Mono.when(
+                        ingestFixturesForDate(league.getApiId(), todayStr, currentSeason)
+                                .doOnError(error -> log.error("Erro na ingestão diária de partidas (hoje) para liga {} (API ID {}): {}", league.getName(), league.getApiId(), error.getMessage())),
+                        ingestFixturesForDate(league.getApiId(), yesterdayStr, currentSeason)
+                                .doOnError(error -> log.error("Erro na ingestão diária de partidas (ontem) para liga {} (API ID {}): {}", league.getName(), league.getApiId(), error.getMessage())),
+                        ingestFixturesForDate(league.getApiId(), tomorrowStr, currentSeason)
+                                .doOnError(error -> log.error("Erro na ingestão diária de partidas (amanhã) para liga {} (API ID {}): {}", league.getName(), league.getApiId(), error.getMessage())))
+                        .block(Duration.ofMillis(dailyTaskTimeoutMs));
+                clusterCoordinator.completeTask(taskKey);
+            } catch (RuntimeException e) {
+                // Sem conclusão: a reserva expira e a liga é tentada de novo
+                log.warn("Ingestão diária da liga {} (API ID {}) não concluída: {}", league.getName(), league.getApiId(), e.getMessage());
+            }
 
             try {
                 TimeUnit.SECONDS.sleep(1); // Pequeno delay para respeitar limites da API (1 req/segundo)
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 log.error("Agendador de partidas diárias interrompido.");
+                return;
             }
         }
         log.info("Ingestão agendada de partidas diárias concluída.");
     }
 
     // Método para buscar partidas por data (chamado pelo agendador ou manualmente)
-    @Transactional
     public Mono<Void> ingestFixturesForDate(Integer leagueApiId, String date, Integer seasonYear) {
         log.info("Processando ingestão de partidas para a liga API ID {} na data {} e temporada {}", leagueApiId, date, seasonYear);
 
@@ -208,73 +296,7 @@ public class DataIngestionService {
 
                         if (responseNode.isArray()) {
                             for (JsonNode fixtureJsonWrapper : responseNode) {
-                                JsonNode fixtureDetails = fixtureJsonWrapper.path("fixture");
-                                JsonNode leagueDetails = fixtureJsonWrapper.path("league");
-                                JsonNode teamsDetails = fixtureJsonWrapper.path("teams");
-                                JsonNode scoreDetails = fixtureJsonWrapper.path("score");
-
-                                Integer apiId = fixtureDetails.path("id").asInt();
-
-                                Optional<Fixture> existingFixture = fixtureRepository.findByApiId(apiId);
-                                if (existingFixture.isPresent()) {
-                                    Fixture fixtureToUpdate = existingFixture.get();
-                                    // Atualiza apenas os campos que podem mudar (status, placar, etc.)
-                                    updateFixtureFields(fixtureToUpdate, fixtureDetails, leagueDetails, teamsDetails, scoreDetails, fixtureJsonWrapper);
-                                    fixtureRepository.save(fixtureToUpdate);
-                                    log.debug("Partida com API ID {} atualizada: {} vs {}", apiId, fixtureToUpdate.getHomeTeam().getName(), fixtureToUpdate.getAwayTeam().getName());
-
-                                } else {
-                                    // Cria nova partida
-                                    Fixture fixture = new Fixture();
-                                    fixture.setApiId(apiId);
-                                    updateFixtureFields(fixture, fixtureDetails, leagueDetails, teamsDetails, scoreDetails, fixtureJsonWrapper); // Reutiliza lógica de preenchimento
-
-                                    // Ligas (precisamos buscar/salvar se não existirem)
-                                    Integer leagueApiIdFromFixture = leagueDetails.path("id").asInt();
-                                    League league = leagueRepository.findByApiId(leagueApiIdFromFixture)
-                                            .orElseGet(() -> {
-                                                League newLeague = new League();
-                                                newLeague.setApiId(leagueApiIdFromFixture);
-                                                newLeague.setName(leagueDetails.path("name").asText());
-                                                newLeague.setCountry(leagueDetails.path("country").asText());
-                                                newLeague.setLogoUrl(leagueDetails.path("logo").asText());
-                                                newLeague.setType(leagueDetails.path("type").asText());
-                                                log.warn("Liga {} (API ID {}) não encontrada, criando a partir dos dados da partida.", newLeague.getName(), newLeague.getApiId());
-                                                return leagueRepository.save(newLeague);
-                                            });
-                                    fixture.setLeague(league);
-                                    fixture.setSeason(leagueDetails.path("season").asInt());
-
-                                    // Times (home e away)
-                                    // Home Team
-                                    Integer homeTeamApiId = teamsDetails.path("home").path("id").asInt();
-                                    Team homeTeam = teamRepository.findByApiId(homeTeamApiId)
-                                            .orElseGet(() -> {
-                                                Team newTeam = new Team();
-                                                newTeam.setApiId(homeTeamApiId);
-                                                newTeam.setName(teamsDetails.path("home").path("name").asText());
-                                                newTeam.setLogoUrl(teamsDetails.path("home").path("logo").asText());
-                                                log.warn("Time {} (API ID {}) não encontrado, criando a partir dos dados da partida.", newTeam.getName(), newTeam.getApiId());
-                                                return teamRepository.save(newTeam);
-                                            });
-                                    fixture.setHomeTeam(homeTeam);
-
-                                    // Away Team
-                                    Integer awayTeamApiId = teamsDetails.path("away").path("id").asInt();
-                                    Team awayTeam = teamRepository.findByApiId(awayTeamApiId)
-                                            .orElseGet(() -> {
-                                                Team newTeam = new Team();
-                                                newTeam.setApiId(awayTeamApiId);
-                                                newTeam.setName(teamsDetails.path("away").path("name").asText());
-                                                newTeam.setLogoUrl(teamsDetails.path("away").path("logo").asText());
-                                                log.warn("Time {} (API ID {}) não encontrado, criando a partir dos dados da partida.", newTeam.getName(), newTeam.getApiId());
-                                                return teamRepository.save(newTeam);
-                                            });
-                                    fixture.setAwayTeam(awayTeam);
-
-                                    fixtureRepository.save(fixture);
-                                    log.info("Partida salva: {} vs {}", fixture.getHomeTeam().getName(), fixture.getAwayTeam().getName());
-                                }
+                                upsertFixture(fixtureJsonWrapper, false);
                             }
                         }
                         return Mono.empty();
@@ -290,10 +312,20 @@ public class DataIngestionService {
     // Agendador para ingestão de jogos ao vivo (mais frequente)
     // A cada 5 minutos, por exemplo.
     @Scheduled(fixedRate = 5, timeUnit = TimeUnit.MINUTES)
-    @Transactional
     public void scheduledIngestLiveFixtures() {
+        if (!clusterCoordinator.isLeader()) {
+            return; // Job global: só o líder do cluster executa
+        }
         log.info("Iniciando ingestão agendada de partidas ao vivo...");
-        footballApiClient.getLiveMatches() // Este método já existe no FootballApiClient
+        ingestLiveFixtures().subscribe(
+                null, // onNext
+                error -> log.error("Erro na ingestão agendada de partidas ao vivo: {}", error.getMessage(), error), // onError
+                () -> log.info("Ingestão agendada de partidas ao vivo concluída.") // onComplete
+        );
+    }
+
+    public Mono<Void> ingestLiveFixtures() {
+        return footballApiClient.getLiveMatches() // Este método já existe no FootballApiClient
                 .flatMap(jsonString -> {
                     try {
                         JsonNode rootNode = objectMapper.readTree(jsonString);
@@ -301,85 +333,150 @@ public class DataIngestionService {
 
                         if (responseNode.isArray()) {
                             for (JsonNode fixtureJsonWrapper : responseNode) {
-                                JsonNode fixtureDetails = fixtureJsonWrapper.path("fixture");
-                                JsonNode leagueDetails = fixtureJsonWrapper.path("league"); // Pode ser útil para criar ligas/times que ainda não existam
-                                JsonNode teamsDetails = fixtureJsonWrapper.path("teams");
-                                JsonNode scoreDetails = fixtureJsonWrapper.path("score");
-
-                                Integer apiId = fixtureDetails.path("id").asInt();
-
-                                Optional<Fixture> existingFixture = fixtureRepository.findByApiId(apiId);
-                                if (existingFixture.isPresent()) {
-                                    // ATUALIZAR PARTIDA EXISTENTE
-                                    Fixture fixtureToUpdate = existingFixture.get();
-                                    updateFixtureFields(fixtureToUpdate, fixtureDetails, leagueDetails, teamsDetails, scoreDetails, fixtureJsonWrapper);
-                                    fixtureRepository.save(fixtureToUpdate);
-                                    log.info("Partida ao vivo atualizada: {} vs {} - Status: {}",
-                                            fixtureToUpdate.getHomeTeam().getName(),
-                                            fixtureToUpdate.getAwayTeam().getName(),
-                                            fixtureToUpdate.getStatus());
-                                } else {
-                                    // CRIAR NOVA PARTIDA AO VIVO (se não existia por algum motivo)
-                                    log.warn("Partida ao vivo (API ID {}) não encontrada, criando-a. Isso pode indicar um erro de ingestão diária anterior.", apiId);
-
-                                    Fixture fixture = new Fixture();
-                                    fixture.setApiId(apiId);
-                                    updateFixtureFields(fixture, fixtureDetails, leagueDetails, teamsDetails, scoreDetails, fixtureJsonWrapper);
-
-                                    // Para ligas e times, reusar a lógica de busca/criação, como no ingestFixturesForDate
-                                    Integer leagueApiIdFromFixture = leagueDetails.path("id").asInt();
-                                    League league = leagueRepository.findByApiId(leagueApiIdFromFixture)
-                                            .orElseGet(() -> {
-                                                League newLeague = new League();
-                                                newLeague.setApiId(leagueApiIdFromFixture);
-                                                newLeague.setName(leagueDetails.path("name").asText());
-                                                newLeague.setCountry(leagueDetails.path("country").asText());
-                                                newLeague.setLogoUrl(leagueDetails.path("logo").asText());
-                                                newLeague.setType(leagueDetails.path("type").asText());
-                                                log.warn("Liga {} (API ID {}) não encontrada, criando a partir dos dados da partida ao vivo.", newLeague.getName(), newLeague.getApiId());
-                                                return leagueRepository.save(newLeague);
-                                            });
-                                    fixture.setLeague(league);
-                                    fixture.setSeason(leagueDetails.path("season").asInt());
-
-                                    Integer homeTeamApiId = teamsDetails.path("home").path("id").asInt();
-                                    Team homeTeam = teamRepository.findByApiId(homeTeamApiId)
-                                            .orElseGet(() -> {
-                                                Team newTeam = new Team();
-                                                newTeam.setApiId(homeTeamApiId);
-                                                newTeam.setName(teamsDetails.path("home").path("name").asText());
-                                                newTeam.setLogoUrl(teamsDetails.path("home").path("logo").asText());
-                                                log.warn("Time {} (API ID {}) não encontrado, criando a partir dos dados da partida ao vivo.", newTeam.getName(), newTeam.getApiId());
-                                                return teamRepository.save(newTeam);
-                                            });
-                                    fixture.setHomeTeam(homeTeam);
-
-                                    Integer awayTeamApiId = teamsDetails.path("away").path("id").asInt();
-                                    Team awayTeam = teamRepository.findByApiId(awayTeamApiId)
-                                            .orElseGet(() -> {
-                                                Team newTeam = new Team();
-                                                newTeam.setApiId(awayTeamApiId);
-                                                newTeam.setName(teamsDetails.path("away").path("name").asText());
-                                                newTeam.setLogoUrl(teamsDetails.path("away").path("logo").asText());
-                                                log.warn("Time {} (API ID {}) não encontrado, criando a partir dos dados da partida ao vivo.", newTeam.getName(), newTeam.getApiId());
-                                                return teamRepository.save(newTeam);
-                                            });
-                                    fixture.setAwayTeam(awayTeam);
-
-                                    fixtureRepository.save(fixture);
-                                    log.info("Nova partida ao vivo salva: {} vs {}", fixture.getHomeTeam().getName(), fixture.getAwayTeam().getName());
-                                }
+                                upsertFixture(fixtureJsonWrapper, true);
                             }
                         }
                         return Mono.empty();
                     } catch (Exception e) {
-                        log.error("Erro na ingestão agendada de partidas ao vivo: {}", e.getMessage(), e);
+                        log.error("Erro ao processar JSON de partidas ao vivo: {}", e.getMessage(), e);
                         return Mono.error(new RuntimeException("Failed to ingest live fixtures", e));
                     }
                 })
                 .then();
     }
 
+    // Cria ou atualiza uma partida e, na mesma transação, grava no outbox o evento da mudança (se houve alguma).
+    // Cada partida tem sua própria transação: um erro numa partida não desfaz as demais do mesmo lote.
+    private void upsertFixture(JsonNode fixtureJsonWrapper, boolean live) {
+        JsonNode fixtureDetails = fixtureJsonWrapper.path("fixture");
+        JsonNode leagueDetails = fixtureJsonWrapper.path("league");
+        JsonNode teamsDetails = fixtureJsonWrapper.path("teams");
+        JsonNode scoreDetails = fixtureJsonWrapper.path("score");
+
+        Integer apiId = fixtureDetails.path("id").asInt();
+
+        IngestedFixture ingested = transactionTemplate.execute(txStatus -> {
+            Optional<Fixture> existingFixture = fixtureRepository.findByApiId(apiId);
+            if (existingFixture.isEmpty() && fixtureArchiveService.restoreByApiId(apiId)) {
+                // Partida já arquivada voltando a mudar: volta para a tabela quente com o mesmo id, e a comparação
+                // abaixo parte do estado arquivado (sem CREATED/FINISHED repetidos)
+                log.info("Partida com API ID {} restaurada do arquivo para atualização.", apiId);
+                existingFixture = fixtureRepository.findByApiId(apiId);
+            }
+            Fixture fixture;
+            FixtureEventDto before = null;
+            if (existingFixture.isPresent()) {
+                // Atualiza apenas os campos que podem mudar (status, placar, etc.)
+                fixture = existingFixture.get();
+                before = FixtureFeedSnapshotService.toEventDto(fixture);
+                updateFixtureFields(fixture, fixtureDetails, leagueDetails, teamsDetails, scoreDetails, fixtureJsonWrapper);
+                fixtureRepository.save(fixture);
+                if (live) {
+                    log.info("Partida ao vivo atualizada: {} vs {} - Status: {}",
+                            fixture.getHomeTeam().getName(), fixture.getAwayTeam().getName(), fixture.getStatus());
+                } else {
+                    log.debug("Partida com API ID {} atualizada: {} vs {}", apiId, fixture.getHomeTeam().getName(), fixture.getAwayTeam().getName());
+                }
+            } else {
+                if (live) {
+                    log.warn("Partida ao vivo (API ID {}) não encontrada, criando-a. Isso pode indicar um erro de ingestão diária anterior.", apiId);
+                }
+                // Cria nova partida
+                fixture = new Fixture();
+                fixture.setApiId(apiId);
+                updateFixtureFields(fixture, fixtureDetails, leagueDetails, teamsDetails, scoreDetails, fixtureJsonWrapper); // Reutiliza lógica de preenchimento
+
+                // Ligas e times (precisamos buscar/salvar se não existirem)
+                fixture.setLeague(findOrCreateLeague(leagueDetails, live));
+                fixture.setSeason(leagueDetails.path("season").asInt());
+                fixture.setHomeTeam(findOrCreateTeam(teamsDetails.path("home"), live));
+                fixture.setAwayTeam(findOrCreateTeam(teamsDetails.path("away"), live));
+
+                fixtureRepository.save(fixture);
+                log.info("{} salva: {} vs {}", live ? "Nova partida ao vivo" : "Partida", fixture.getHomeTeam().getName(), fixture.getAwayTeam().getName());
+            }
+
+            FixtureEventDto after = FixtureFeedSnapshotService.toEventDto(fixture);
+            String eventType = changeType(before, after);
+            if (eventType != null) {
+                appendToOutbox(after, eventType);
+            }
+            return new IngestedFixture(fixture.getId(), FixtureStatus.isFinished(fixture.getStatus()), FixtureEventDto.FINISHED.equals(eventType));
+        });
+
+        // Linha do tempo de eventos, depois do commit (uma falha aqui não desfaz a partida)
+        if (ingested != null) {
+            try {
+                fixtureTimelineService.onFixtureIngested(ingested.fixtureId(), fixtureJsonWrapper, ingested.finished(), ingested.newlyFinished());
+            } catch (Exception e) {
+                log.error("Erro ao gravar a linha do tempo da partida API ID {}: {}", apiId, e.getMessage(), e);
+            }
+        }
+    }
+
+    private record IngestedFixture(long fixtureId, boolean finished, boolean newlyFinished) {
+    }
+
+    private League findOrCreateLeague(JsonNode leagueDetails, boolean live) {
+        Integer leagueApiIdFromFixture = leagueDetails.path("id").asInt();
+        return leagueRepository.findByApiId(leagueApiIdFromFixture)
+                .orElseGet(() -> {
+                    League newLeague = new League();
+                    newLeague.setApiId(leagueApiIdFromFixture);
+                    newLeague.setName(leagueDetails.path("name").asText());
+                    newLeague.setCountry(leagueDetails.path("country").asText());
+                    newLeague.setLogoUrl(leagueDetails.path("logo").asText());
+                    newLeague.setType(leagueDetails.path("type").asText());
+                    log.warn("Liga {} (API ID {}) não encontrada, criando a partir dos dados da partida{}.", newLeague.getName(), newLeague.getApiId(), live ? " ao vivo" : "");
+                    return leagueRepository.save(newLeague);
+                });
+    }
+
+    private Team findOrCreateTeam(JsonNode teamDetails, boolean live) {
+        Integer teamApiId = teamDetails.path("id").asInt();
+        return teamRepository.findByApiId(teamApiId)
+                .orElseGet(() -> {
+                    Team newTeam = new Team();
+                    newTeam.setApiId(teamApiId);
+                    newTeam.setName(teamDetails.path("name").asText());
+                    newTeam.setLogoUrl(teamDetails.path("logo").asText());
+                    log.warn("Time {} (API ID {}) não encontrado, criando a partir dos dados da partida{}.", newTeam.getName(), newTeam.getApiId(), live ? " ao vivo" : "");
+                    return teamRepository.save(newTeam);
+                });
+    }
+
+    // Tipo do evento a publicar, ou null se nada relevante mudou (before == null para partida nova)
+    private String changeType(FixtureEventDto before, FixtureEventDto after) {
+        if (FixtureStatus.isFinished(after.getStatus())) {
+            boolean newlyFinished = before == null || !FixtureStatus.isFinished(before.getStatus());
+            boolean scoreCorrected = before != null
+                    && (!Objects.equals(before.getHomeGoals(), after.getHomeGoals()) || !Objects.equals(before.getAwayGoals(), after.getAwayGoals()));
+            if (newlyFinished || scoreCorrected) {
+                return FixtureEventDto.FINISHED;
+            }
+        }
+        if (before == null) {
+            return FixtureEventDto.CREATED;
+        }
+        return before.equals(after) ? null : FixtureEventDto.UPDATED;
+    }
+
+    private void appendToOutbox(FixtureEventDto change, String eventType) {
+        Instant now = Instant.now();
+        change.setType(eventType);
+        change.setOccurredAt(now);
+        try {
+            FixtureOutboxEvent outboxEvent = new FixtureOutboxEvent();
+            outboxEvent.setFixtureId(change.getFixtureId());
+            outboxEvent.setEventType(eventType);
+            outboxEvent.setPayload(objectMapper.writeValueAsString(change));
+            outboxEvent.setCreatedAt(now);
+            fixtureOutboxRepository.save(outboxEvent);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize fixture event", e);
+        }
+    }
+
     // NOVO MÉTODO AUXILIAR: Para evitar duplicação de código no preenchimento de campos de Fixture
     private void updateFixtureFields(Fixture fixture, JsonNode fixtureDetails, JsonNode leagueDetails,
                                      JsonNode teamsDetails, JsonNode scoreDetails, JsonNode fixtureJsonWrapper) {
@@ -388,8 +485,11 @@ public class DataIngestionService {
         fixture.setTimestamp(fixtureDetails.path("timestamp").asLong());
         fixture.setStatus(fixtureDetails.path("status").path("long").asText());
         fixture.setElapsed(fixtureDetails.path("status").path("elapsed").asInt());
-        fixture.setHomeGoals(scoreDetails.path("fulltime").path("home").asInt());
-        fixture.setAwayGoals(scoreDetails.path("fulltime").path("away").asInt());
+        // Durante o jogo a API-Football só preenche 'goals'; score.fulltime fica null até o fim (e asInt() daria 0 x 0)
+        JsonNode goalsDetails = fixtureJsonWrapper.path("goals");
+        boolean finished = FixtureStatus.isFinished(fixture.getStatus());
+        fixture.setHomeGoals(goals(goalsDetails, scoreDetails, finished, "home"));
+        fixture.setAwayGoals(goals(goalsDetails, scoreDetails, finished, "away"));
         fixture.setHomeHalfTimeGoals(scoreDetails.path("halftime").path("home").asInt());
         fixture.setAwayHalfTimeGoals(scoreDetails.path("halftime").path("away").asInt());
         fixture.setHomeExtraTimeGoals(scoreDetails.path("extratime").path("home").asInt());
@@ -401,4 +501,15 @@ public class DataIngestionService {
         fixture.setVenueCity(fixtureJsonWrapper.path("venue").path("city").asText());
         fixture.setReferee(fixtureDetails.path("referee").asText());
     }
-}
\ No newline at end of file
+
+    // Placar de um lado: score.fulltime para partidas encerradas (placar usado na pontuação dos palpites),
+    // goals para as demais. null enquanto a API não informa gols (partida não iniciada).
+    private static Integer goals(JsonNode goalsDetails, JsonNode scoreDetails, boolean finished, String side) {
+        JsonNode fulltime = scoreDetails.path("fulltime").path(side);
+        if (finished && fulltime.isNumber()) {
+            return fulltime.asInt();
+        }
+        JsonNode current = goalsDetails.path(side);
+        return current.isNumber() ? current.asInt() : null;
+    }
+}
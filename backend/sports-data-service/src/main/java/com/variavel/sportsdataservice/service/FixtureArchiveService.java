@@ -0,0 +1,126 @@
+package com.variavel.sportsdataservice.service;
+
+import com.variavel.sportsdataservice.cluster.ClusterCoordinator;
+import com.variavel.sportsdataservice.domain.FixtureStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Move partidas encerradas de temporadas antigas da tabela quente (fixtures) para fixtures_archive,
+// mantendo as consultas de partidas ao vivo/próximas sobre um conjunto de trabalho pequeno.
+// As leituras de histórico (partida por id, partidas do dia, classificação, simulação) consultam também o arquivo
+// (FixtureRepository.*IncludingArchive). Uma partida arquivada que volta a ser ingerida é restaurada para a tabela
+// quente com o mesmo id (restoreByApiId), então cada partida fica em uma só das tabelas.
+@Service
+public class FixtureArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(FixtureArchiveService.class);
+
+    // Lista explícita de colunas: bancos criados pelo Hibernate não têm a mesma ordem de colunas da migration
+    private static final String COLUMNS = "id, api_id, date, timezone, timestamp, status, elapsed, league_id, season, "
+            + "home_team_id, away_team_id, home_goals, away_goals, home_half_time_goals, away_half_time_goals, "
+            + "home_extra_time_goals, away_extra_time_goals, home_penalty_goals, away_penalty_goals, "
+            + "venue_api_id, venue_name, venue_city, referee";
+    // Na colisão (id ou api_id já arquivados) vale a cópia que está saindo da tabela quente, que é a mais nova
+    private static final String UPDATE_COLUMNS = "date = VALUES(date), timezone = VALUES(timezone), timestamp = VALUES(timestamp), "
+            + "status = VALUES(status), elapsed = VALUES(elapsed), league_id = VALUES(league_id), season = VALUES(season), "
+            + "home_team_id = VALUES(home_team_id), away_team_id = VALUES(away_team_id), home_goals = VALUES(home_goals), "
+            + "away_goals = VALUES(away_goals), home_half_time_goals = VALUES(home_half_time_goals), "
+            + "away_half_time_goals = VALUES(away_half_time_goals), home_extra_time_goals = VALUES(home_extra_time_goals), "
+            + "away_extra_time_goals = VALUES(away_extra_time_goals), home_penalty_goals = VALUES(home_penalty_goals), "
+            + "away_penalty_goals = VALUES(away_penalty_goals), venue_api_id = VALUES(venue_api_id), "
+            + "venue_name = VALUES(venue_name), venue_city = VALUES(venue_city), referee = VALUES(referee)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterCoordinator clusterCoordinator;
+    private final int keepSeasons;
+    private final int batchSize;
+
+    public FixtureArchiveService(NamedParameterJdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 ClusterCoordinator clusterCoordinator,
+                                 @Value("${fixtures.archive.keep-seasons:2}") int keepSeasons,
+                                 @Value("${fixtures.archive.batch-size:5000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clusterCoordinator = clusterCoordinator;
+        this.keepSeasons = keepSeasons;
+        this.batchSize = batchSize;
+    }
+
+    // Agendador de arquivamento (uma vez por semana, domingo às 4 da manhã, fora do horário das ingestões)
+    @Scheduled(cron = "0 0 4 * * SUN")
+    public void scheduledArchiveFinishedSeasons() {
+        if (!clusterCoordinator.isLeader()) {
+            return; // Job global: só o líder do cluster executa
+        }
+        log.info("Iniciando arquivamento de temporadas encerradas...");
+        try {
+            int archived = archiveFinishedSeasons();
+            log.info("Arquivamento concluído: {} partidas movidas para fixtures_archive.", archived);
+        } catch (Exception e) {
+            log.error("Erro no arquivamento de partidas: {}", e.getMessage(), e);
+        }
+    }
+
+    public int archiveFinishedSeasons() {
+        Integer latestSeason = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT MAX(season) FROM fixtures", Integer.class);
+        if (latestSeason == null) {
+            return 0;
+        }
+        // A temporada mais recente nos dados é a referência (o ano civil não serve para ligas que cruzam o ano)
+        int archiveBeforeSeason = latestSeason - keepSeasons + 1;
+
+        int total = 0;
+        int moved;
+        do {
+            moved = archiveBatch(archiveBeforeSeason);
+            total += moved;
+        } while (moved == batchSize);
+        return total;
+    }
+
+    // Cada lote é movido em sua própria transação para não segurar locks sobre a tabela quente por muito tempo
+    private int archiveBatch(int archiveBeforeSeason) {
+        Integer moved = transactionTemplate.execute(status -> {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("season", archiveBeforeSeason)
+                    .addValue("status", FixtureStatus.FINISHED)
+                    .addValue("limit", batchSize);
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM fixtures WHERE season < :season AND status = :status ORDER BY id LIMIT :limit FOR UPDATE",
+                    params, Long.class);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            MapSqlParameterSource idParams = new MapSqlParameterSource("ids", ids);
+            // Partida já presente no arquivo (cópia antiga de antes do restoreByApiId): os dados novos prevalecem
+            jdbcTemplate.update("INSERT INTO fixtures_archive (" + COLUMNS + ") SELECT " + COLUMNS
+                    + " FROM fixtures WHERE id IN (:ids) ON DUPLICATE KEY UPDATE " + UPDATE_COLUMNS, idParams);
+            jdbcTemplate.update("DELETE FROM fixtures WHERE id IN (:ids)", idParams);
+            return ids.size();
+        });
+        return moved != null ? moved : 0;
+    }
+
+    // Move a partida arquivada de volta para fixtures, mantendo o id. Deve rodar dentro da transação de quem vai
+    // atualizá-la (DataIngestionService.upsertFixture). false se a partida não está no arquivo.
+    public boolean restoreByApiId(int apiId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("apiId", apiId);
+        int restored = jdbcTemplate.update("INSERT INTO fixtures (" + COLUMNS + ") SELECT " + COLUMNS
+                + " FROM fixtures_archive WHERE api_id = :apiId", params);
+        if (restored == 0) {
+            return false;
+        }
+        jdbcTemplate.update("DELETE FROM fixtures_archive WHERE api_id = :apiId", params);
+        return true;
+    }
+}
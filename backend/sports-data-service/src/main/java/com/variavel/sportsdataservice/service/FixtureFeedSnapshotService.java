@@ -0,0 +1,60 @@
+package com.variavel.sportsdataservice.service;
+
+import com.variavel.sportsdataservice.datasource.ReadRouting;
+import com.variavel.sportsdataservice.domain.Fixture;
+import com.variavel.sportsdataservice.domain.FixtureStatus;
+import com.variavel.sportsdataservice.dto.FixtureEventDto;
+import com.variavel.sportsdataservice.dto.FixtureFeedSnapshotDto;
+import com.variavel.sportsdataservice.repository.FixtureOutboxRepository;
+import com.variavel.sportsdataservice.repository.FixtureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Ponto de partida para quem mantém uma cópia das partidas a partir do feed (ex: feed "meus jogos" do user-service):
+// o estado atual de um intervalo de datas mais o offset de onde seguir o stream de eventos.
+@Service
+@RequiredArgsConstructor
+public class FixtureFeedSnapshotService {
+
+    private final FixtureRepository fixtureRepository;
+    private final FixtureOutboxRepository fixtureOutboxRepository;
+
+    // O offset é lido antes das partidas: um evento que chegue entre as duas leituras é entregue de novo pelo stream
+    // (o consumidor aplica o estado mais recente, então repetir não muda nada). Tudo do primário, para que as
+    // partidas nunca estejam atrás do offset devolvido.
+    public FixtureFeedSnapshotDto snapshot(Instant from, Instant to) {
+        return ReadRouting.forcePrimary(() -> {
+            long sequence = fixtureOutboxRepository.findMaxSequenceNo();
+            List<FixtureEventDto> fixtures = fixtureRepository.findByDateGreaterThanEqualAndDateLessThan(from, to).stream()
+                    .map(FixtureFeedSnapshotService::toEventDto)
+                    .collect(Collectors.toList());
+            return FixtureFeedSnapshotDto.builder()
+                    .sequence(sequence)
+                    .fixtures(fixtures)
+                    .build();
+        });
+    }
+
+    // Campos da partida que interessam aos consumidores do feed (sem type/sequence, para comparar antes e depois)
+    static FixtureEventDto toEventDto(Fixture fixture) {
+        return FixtureEventDto.builder()
+                .fixtureId(fixture.getId())
+                .apiId(fixture.getApiId())
+                .leagueId(fixture.getLeague() != null ? fixture.getLeague().getId() : null)
+                .season(fixture.getSeason())
+                .homeTeamId(fixture.getHomeTeam() != null ? fixture.getHomeTeam().getId() : null)
+                .awayTeamId(fixture.getAwayTeam() != null ? fixture.getAwayTeam().getId() : null)
+                .date(fixture.getDate())
+                .status(fixture.getStatus())
+                .elapsed(fixture.getElapsed())
+                .homeGoals(fixture.getHomeGoals())
+                .awayGoals(fixture.getAwayGoals())
+                .live(FixtureStatus.isLive(fixture.getStatus()))
+                .finished(FixtureStatus.isFinished(fixture.getStatus()) || FixtureStatus.isVoid(fixture.getStatus()))
+                .build();
+    }
+}
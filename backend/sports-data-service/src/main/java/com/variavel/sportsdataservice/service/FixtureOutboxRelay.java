@@ -0,0 +1,186 @@
+package com.variavel.sportsdataservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.variavel.sportsdataservice.cluster.ClusterCoordinator;
+import com.variavel.sportsdataservice.datasource.ReadRouting;
+import com.variavel.sportsdataservice.domain.FixtureOutboxEvent;
+import com.variavel.sportsdataservice.dto.FixtureEventDto;
+import com.variavel.sportsdataservice.event.FixtureChangedEvent;
+import com.variavel.sportsdataservice.repository.FixtureOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// Publica o outbox de partidas como um feed ordenado e retomável.
+// Os IDs auto-incremento do outbox não servem de offset: uma transação que começou antes pode fazer commit depois,
+// e um consumidor que já passou daquele ID perderia o evento. Por isso o relay (único escritor) atribui
+// sequence_no às linhas já commitadas, em ordem; os consumidores leem por sequence_no > offset.
+// Com várias réplicas, só o líder do cluster numera; todas leem o feed e entregam aos próprios consumidores.
+@Service
+public class FixtureOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(FixtureOutboxRelay.class);
+
+    private final FixtureOutboxRepository fixtureOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterCoordinator clusterCoordinator;
+    private final int pageSize;
+    private final Duration retention;
+
+    // Sinaliza novos eventos para os streams SSE abertos (cada stream lê do banco a partir do próprio offset)
+    private final Sinks.Many<Long> newEvents = Sinks.many().multicast().directBestEffort();
+    // Último offset entregue aos consumidores locais (FixtureChangedEvent)
+    private final AtomicLong dispatchedUpTo = new AtomicLong();
+
+    public FixtureOutboxRelay(FixtureOutboxRepository fixtureOutboxRepository,
+                              ObjectMapper objectMapper,
+                              TransactionTemplate transactionTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              ClusterCoordinator clusterCoordinator,
+                              @Value("${fixtures.outbox.page-size:500}") int pageSize,
+                              @Value("${fixtures.outbox.retention-days:7}") int retentionDays) {
+        this.fixtureOutboxRepository = fixtureOutboxRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.clusterCoordinator = clusterCoordinator;
+        this.pageSize = pageSize;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    // Consumidores locais reconstroem o estado a partir do banco na inicialização; começam do fim do feed
+    @PostConstruct
+    public void init() {
+        dispatchedUpTo.set(ReadRouting.forcePrimary(fixtureOutboxRepository::findMaxSequenceNo));
+    }
+
+    @Scheduled(fixedDelayString = "${fixtures.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            if (clusterCoordinator.isLeader()) {
+                assignSequenceNumbers();
+            }
+            dispatchLocally();
+        } catch (Exception e) {
+            log.error("Erro ao publicar eventos do outbox de partidas: {}", e.getMessage(), e);
+        }
+    }
+
+    // Numera, em ordem de id, as linhas pendentes já visíveis (commitadas)
+    public int assignSequenceNumbers() {
+        Integer assigned = transactionTemplate.execute(status -> {
+            // Segura o lease até o commit: uma réplica que assumisse a liderança agora numeraria as mesmas linhas
+            if (!clusterCoordinator.holdsLeaderLeaseInTransaction()) {
+                return 0;
+            }
+            List<FixtureOutboxEvent> pending = fixtureOutboxRepository.findBySequenceNoIsNullOrderByIdAsc(PageRequest.of(0, pageSize));
+            if (pending.isEmpty()) {
+                return 0;
+            }
+            long next = fixtureOutboxRepository.findMaxSequenceNo();
+            for (FixtureOutboxEvent event : pending) {
+                event.setSequenceNo(++next);
+            }
+            fixtureOutboxRepository.saveAll(pending);
+            return pending.size();
+        });
+        if (assigned != null && assigned > 0) {
+            log.debug("{} eventos de partidas publicados no feed.", assigned);
+        }
+        return assigned != null ? assigned : 0;
+    }
+
+    // Remove os eventos publicados mais antigos que a retenção. Consumidores parados por mais tempo que isso
+    // precisam se ressincronizar (o user-service relê o snapshot; o gamification-service segue do offset gravado).
+    @Scheduled(cron = "0 15 3 * * *")
+    public void purgePublishedEvents() {
+        if (!clusterCoordinator.isLeader()) {
+            return; // Job global: só o líder do cluster executa
+        }
+        try {
+            long keepFrom = fixtureOutboxRepository.findMaxSequenceNo();
+            Instant before = Instant.now().minus(retention);
+            int deleted;
+            int total = 0;
+            do {
+                deleted = fixtureOutboxRepository.deletePublishedBefore(before, keepFrom, 10000);
+                total += deleted;
+            } while (deleted > 0);
+            if (total > 0) {
+                log.info("{} eventos antigos removidos do outbox de partidas.", total);
+            }
+        } catch (Exception e) {
+            log.error("Erro na limpeza do outbox de partidas: {}", e.getMessage(), e);
+        }
+    }
+
+    // Entrega os eventos publicados aos consumidores dentro deste processo e acorda os streams SSE
+    private void dispatchLocally() {
+        List<FixtureEventDto> events;
+        do {
+            // Os consumidores locais remontam estado do primário; o feed deles também vem de lá (os streams SSE podem ler de réplicas)
+            events = ReadRouting.forcePrimary(() -> readAfter(dispatchedUpTo.get(), pageSize));
+            for (FixtureEventDto event : events) {
+                eventPublisher.publishEvent(new FixtureChangedEvent(event));
+                dispatchedUpTo.set(event.getSequence());
+            }
+        } while (events.size() == pageSize);
+        newEvents.tryEmitNext(dispatchedUpTo.get());
+    }
+
+    // Página do feed a partir de um offset (exclusivo); 'limit' fica entre 1 e o tamanho de página configurado
+    public List<FixtureEventDto> readAfter(long sequence, int limit) {
+        return fixtureOutboxRepository.findBySequenceNoGreaterThanOrderBySequenceNoAsc(sequence, PageRequest.of(0, Math.max(1, Math.min(limit, pageSize))))
+                .stream()
+                .map(this::mapToFixtureEventDto)
+                .collect(Collectors.toList());
+    }
+
+    // Stream contínuo a partir de um offset: lê as páginas pendentes do banco e, a cada sinal do relay
+    // (ou no máximo a cada 'pollInterval', como rede de segurança), continua de onde parou.
+    public Flux<FixtureEventDto> stream(long afterSequence, Duration pollInterval) {
+        AtomicLong cursor = new AtomicLong(afterSequence);
+        Flux<Long> wakeUps = Flux.merge(Flux.just(0L), newEvents.asFlux(), Flux.interval(pollInterval))
+                .onBackpressureLatest();
+        return wakeUps.concatMap(signal -> readPages(cursor), 1);
+    }
+
+    private Flux<FixtureEventDto> readPages(AtomicLong cursor) {
+        return Mono.fromCallable(() -> readAfter(cursor.get(), pageSize))
+                .subscribeOn(Schedulers.boundedElastic())
+                .expand(page -> page.size() == pageSize
+                        ? Mono.fromCallable(() -> readAfter(page.get(page.size() - 1).getSequence(), pageSize)).subscribeOn(Schedulers.boundedElastic())
+                        : Mono.empty())
+                .flatMapIterable(page -> page)
+                .doOnNext(event -> cursor.set(event.getSequence()));
+    }
+
+    private FixtureEventDto mapToFixtureEventDto(FixtureOutboxEvent outboxEvent) {
+        try {
+            FixtureEventDto event = objectMapper.readValue(outboxEvent.getPayload(), FixtureEventDto.class);
+            event.setSequence(outboxEvent.getSequenceNo());
+            return event;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read fixture event " + outboxEvent.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.variavel.sportsdataservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.variavel.sportsdataservice.api.FootballApiClient;
+import com.variavel.sportsdataservice.dto.FixtureTimelineDto;
+import com.variavel.sportsdataservice.dto.TimelineEventDto;
+import com.variavel.sportsdataservice.timeline.TimelineCodec;
+import com.variavel.sportsdataservice.timeline.TimelineEvent;
+import com.variavel.sportsdataservice.timeline.TimelineEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// Linha do tempo de eventos das partidas, gravada em fixture_timelines (uma linha por partida, eventos em BLOB).
+//
+// A resposta de partidas ao vivo da API-Football já traz a lista completa de eventos a cada consulta. Para cada
+// partida em andamento guardamos quantos eventos já foram gravados (e um hash deles): se a lista nova só cresceu,
+// apenas os registros novos são acrescentados, com um UPDATE condicionado ao event_count esperado. Qualquer outra
+// diferença (evento corrigido ou removido, réplica concorrente, instância reiniciada) regrava a linha inteira.
+// Partidas encerradas sem eventos na resposta (ingestão diária) buscam os eventos uma única vez em /fixtures/events.
+@Service
+public class FixtureTimelineService {
+
+    private static final Logger log = LoggerFactory.getLogger(FixtureTimelineService.class);
+
+    private static final String APPEND_SQL = "UPDATE fixture_timelines SET events = CONCAT(events, ?), event_count = event_count + ?, updated_at = ? "
+            + "WHERE fixture_id = ? AND event_count = ?";
+    private static final String UPSERT_SQL = "INSERT INTO fixture_timelines (fixture_id, event_count, events, updated_at) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE event_count = VALUES(event_count), events = VALUES(events), updated_at = VALUES(updated_at)";
+    private static final String READ_SQL = "SELECT t.events, COALESCE(f.home_team_id, a.home_team_id), COALESCE(f.away_team_id, a.away_team_id) "
+            + "FROM fixture_timelines t "
+            + "LEFT JOIN fixtures f ON f.id = t.fixture_id "
+            + "LEFT JOIN fixtures_archive a ON a.id = t.fixture_id "
+            + "WHERE t.fixture_id = ?";
+
+    // O que já está gravado de cada partida em andamento
+    private record Stored(int count, int hash) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FootballApiClient footballApiClient;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Stored> storedByFixture;
+
+    public FixtureTimelineService(JdbcTemplate jdbcTemplate,
+                                  FootballApiClient footballApiClient,
+                                  ObjectMapper objectMapper,
+                                  @Value("${fixtures.timeline.max-tracked:2000}") int maxTracked) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.footballApiClient = footballApiClient;
+        this.objectMapper = objectMapper;
+        // LRU: partidas que nunca encerram (adiadas no meio) não ficam para sempre
+        this.storedByFixture = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Stored> eldest) {
+                return size() > maxTracked;
+            }
+        });
+    }
+
+    // Chamado pela ingestão depois do commit da partida
+    public void onFixtureIngested(long fixtureId, JsonNode fixtureJsonWrapper, boolean finished, boolean newlyFinished) {
+        int homeTeamApiId = fixtureJsonWrapper.path("teams").path("home").path("id").asInt();
+        JsonNode events = fixtureJsonWrapper.path("events");
+        if (events.isArray()) {
+            record(fixtureId, parse(events, homeTeamApiId), finished);
+        } else if (newlyFinished) {
+            int fixtureApiId = fixtureJsonWrapper.path("fixture").path("id").asInt();
+            footballApiClient.getFixtureEvents(fixtureApiId).subscribe(
+                    json -> {
+                        try {
+                            record(fixtureId, parse(objectMapper.readTree(json).path("response"), homeTeamApiId), true);
+                        } catch (Exception e) {
+                            log.error("Erro ao gravar eventos da partida {} (API ID {}): {}", fixtureId, fixtureApiId, e.getMessage(), e);
+                        }
+                    },
+                    error -> log.error("Erro ao buscar eventos da partida {} (API ID {}): {}", fixtureId, fixtureApiId, error.getMessage()));
+        }
+    }
+
+    public void record(long fixtureId, List<TimelineEvent> events, boolean finished) {
+        Stored stored = storedByFixture.get(fixtureId);
+        boolean written = false;
+        if (stored != null && events.size() >= stored.count() && events.subList(0, stored.count()).hashCode() == stored.hash()) {
+            if (events.size() == stored.count()) {
+                written = true; // Nada novo
+            } else {
+                int added = events.size() - stored.count();
+                written = jdbcTemplate.update(APPEND_SQL, TimelineCodec.encodeTail(events, stored.count()), added,
+                        Timestamp.from(Instant.now()), fixtureId, stored.count()) == 1;
+                if (written) {
+                    log.debug("{} eventos acrescentados à linha do tempo da partida {}.", added, fixtureId);
+                }
+            }
+        }
+        if (!written) {
+            jdbcTemplate.update(UPSERT_SQL, fixtureId, events.size(), TimelineCodec.encode(events), Timestamp.from(Instant.now()));
+        }
+        if (finished) {
+            storedByFixture.remove(fixtureId);
+        } else {
+            storedByFixture.put(fixtureId, new Stored(events.size(), events.hashCode()));
+        }
+    }
+
+    public Optional<FixtureTimelineDto> getTimeline(long fixtureId) {
+        List<FixtureTimelineDto> rows = jdbcTemplate.query(READ_SQL, (rs, rowNum) -> {
+            Long homeTeamId = rs.getObject(2, Long.class);
+            Long awayTeamId = rs.getObject(3, Long.class);
+            List<TimelineEventDto> events = TimelineCodec.decode(rs.getBytes(1)).stream()
+                    .map(event -> TimelineEventDto.builder()
+                            .minute(event.minute())
+                            .extraMinute(event.extraMinute())
+                            .type(event.type().name())
+                            .teamId(event.home() ? homeTeamId : awayTeamId)
+                            .playerApiId(event.playerApiId() != 0 ? event.playerApiId() : null)
+                            .assistApiId(event.assistApiId() != 0 ? event.assistApiId() : null)
+                            .build())
+                    .collect(Collectors.toList());
+            return FixtureTimelineDto.builder()
+                    .fixtureId(fixtureId)
+                    .homeTeamId(homeTeamId)
+                    .awayTeamId(awayTeamId)
+                    .events(events)
+                    .build();
+        }, fixtureId);
+        return rows.stream().findFirst();
+    }
+
+    private static List<TimelineEvent> parse(JsonNode events, int homeTeamApiId) {
+        List<TimelineEvent> parsed = new ArrayList<>(events.size());
+        for (JsonNode event : events) {
+            JsonNode time = event.path("time");
+            parsed.add(new TimelineEvent(
+                    time.path("elapsed").asInt(),
+                    time.path("extra").asInt(), // null na API vira 0
+                    TimelineEventType.fromApi(event.path("type").asText(null), event.path("detail").asText(null)),
+                    event.path("team").path("id").asInt() == homeTeamApiId,
+                    event.path("player").path("id").asInt(),
+                    event.path("assist").path("id").asInt()));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,201 @@
+package com.variavel.sportsdataservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.variavel.sportsdataservice.datasource.ReadRouting;
+import com.variavel.sportsdataservice.domain.FixtureStatus;
+import com.variavel.sportsdataservice.dto.FixtureEventDto;
+import com.variavel.sportsdataservice.dto.FixtureProgressionDto;
+import com.variavel.sportsdataservice.dto.LiveStateDto;
+import com.variavel.sportsdataservice.event.FixtureChangedEvent;
+import com.variavel.sportsdataservice.progression.LiveStateCodec;
+import com.variavel.sportsdataservice.progression.LiveStateRings;
+import com.variavel.sportsdataservice.progression.LiveStateRings.History;
+import com.variavel.sportsdataservice.progression.MatchPhase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Progressão das partidas ao vivo (minuto, placar e status a cada mudança). A ingestão sobrescreve esses campos
+// em fixtures a cada consulta; aqui cada mudança publicada no feed (FixtureChangedEvent) vai para o anel da partida
+// em memória (LiveStateRings, tamanho fixo) e, quando a partida termina, o histórico é gravado de uma vez em
+// fixture_state_histories.
+//
+// Todas as réplicas recebem o feed e montam os mesmos anéis; a gravação mantém o histórico mais longo, então a
+// réplica que entrou no meio do jogo não sobrescreve o histórico completo de outra. Partida que passa a ser
+// acompanhada já em andamento (instância reiniciada) tem o início remontado a partir do outbox.
+@Service
+public class LiveStateHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveStateHistoryService.class);
+
+    // Mantém o histórico com mais estados; state_count por último, porque as expressões anteriores leem o valor antigo
+    private static final String UPSERT_SQL = "INSERT INTO fixture_state_histories (fixture_id, state_count, dropped_count, states, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+            + "states = IF(VALUES(state_count) >= state_count, VALUES(states), states), "
+            + "dropped_count = IF(VALUES(state_count) >= state_count, VALUES(dropped_count), dropped_count), "
+            + "updated_at = IF(VALUES(state_count) >= state_count, VALUES(updated_at), updated_at), "
+            + "state_count = GREATEST(state_count, VALUES(state_count))";
+    private static final String READ_SQL = "SELECT states, dropped_count FROM fixture_state_histories WHERE fixture_id = ?";
+    private static final String OUTBOX_SQL = "SELECT payload FROM fixture_outbox WHERE fixture_id = ? AND sequence_no IS NOT NULL "
+            + "AND sequence_no < ? ORDER BY sequence_no";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final LiveStateRings rings;
+    // Históricos cuja gravação falhou, refeitos pelo agendamento
+    private final ConcurrentLinkedQueue<History> pendingFlushes = new ConcurrentLinkedQueue<>();
+
+    public LiveStateHistoryService(JdbcTemplate jdbcTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${fixtures.progression.max-live:512}") int maxLive,
+                                   @Value("${fixtures.progression.ring-capacity:256}") int ringCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.rings = new LiveStateRings(maxLive, ringCapacity);
+    }
+
+    // Os eventos chegam em ordem, de uma única thread (FixtureOutboxRelay)
+    @EventListener
+    public void onFixtureChanged(FixtureChangedEvent event) {
+        FixtureEventDto change = event.change();
+        if (change.getFixtureId() == null) {
+            return;
+        }
+        long fixtureId = change.getFixtureId();
+        String status = change.getStatus();
+        boolean ended = FixtureStatus.isFinished(status) || FixtureStatus.isVoid(status) || MatchPhase.fromStatus(status) == MatchPhase.POSTPONED;
+        boolean tracked;
+        synchronized (this) {
+            tracked = rings.isTracked(fixtureId);
+        }
+        if (!tracked && !FixtureStatus.isLive(status)) {
+            return; // Só começa a acompanhar quando a partida está ao vivo
+        }
+        // Leitura do outbox fora do lock, para não segurar as consultas ao endpoint
+        List<Long> earlier = tracked ? List.of() : loadEarlierStates(fixtureId, change.getSequence());
+
+        History evicted = null;
+        History finished = null;
+        synchronized (this) {
+            if (!tracked) {
+                evicted = rings.track(fixtureId);
+                earlier.forEach(state -> rings.append(fixtureId, state));
+            }
+            // Partida adiada/anulada sem placar informado: não grava um 0 x 0 que não aconteceu
+            if (!ended || (change.getHomeGoals() != null && change.getAwayGoals() != null)) {
+                rings.append(fixtureId, toState(change));
+            }
+            if (ended) {
+                finished = rings.release(fixtureId);
+            }
+        }
+        if (evicted != null) {
+            log.warn("Histórico ao vivo da partida {} gravado antes do fim: limite de partidas acompanhadas atingido.", evicted.fixtureId());
+            flush(evicted);
+        }
+        if (finished != null) {
+            flush(finished);
+        }
+    }
+
+    public Optional<FixtureProgressionDto> getProgression(long fixtureId) {
+        History live;
+        synchronized (this) {
+            live = rings.get(fixtureId);
+        }
+        if (live != null) {
+            return Optional.of(mapToDto(fixtureId, true, live.states(), live.dropped()));
+        }
+        return jdbcTemplate.query(READ_SQL, (rs, rowNum) -> mapToDto(fixtureId, false, LiveStateCodec.decode(rs.getBytes(1)), rs.getInt(2)), fixtureId)
+                .stream()
+                .findFirst();
+    }
+
+    @Scheduled(fixedDelayString = "${fixtures.progression.retry-interval-ms:30000}")
+    public void retryPendingFlushes() {
+        int pending = pendingFlushes.size();
+        for (int i = 0; i < pending; i++) {
+            History history = pendingFlushes.poll();
+            if (history == null) {
+                break;
+            }
+            flush(history);
+        }
+    }
+
+    private void flush(History history) {
+        try {
+            jdbcTemplate.update(UPSERT_SQL, history.fixtureId(), history.states().length, history.dropped(),
+                    LiveStateCodec.encode(history.states()), Timestamp.from(Instant.now()));
+            log.debug("Histórico ao vivo da partida {} gravado: {} estados.", history.fixtureId(), history.states().length);
+        } catch (RuntimeException e) {
+            log.warn("Erro ao gravar o histórico ao vivo da partida {}, nova tentativa em seguida: {}", history.fixtureId(), e.getMessage());
+            pendingFlushes.add(history);
+        }
+    }
+
+    // Estados da partida publicados no feed antes de 'beforeSequence', só os do jogo em si. O placar de cada
+    // estado é o do payload gravado no outbox (goals da API durante o jogo, ver DataIngestionService)
+    private List<Long> loadEarlierStates(long fixtureId, Long beforeSequence) {
+        if (beforeSequence == null) {
+            return List.of();
+        }
+        List<Long> states = new ArrayList<>();
+        try {
+            ReadRouting.forcePrimary(() -> jdbcTemplate.query(OUTBOX_SQL, rs -> {
+                try {
+                    FixtureEventDto earlier = objectMapper.readValue(rs.getString(1), FixtureEventDto.class);
+                    if (FixtureStatus.isLive(earlier.getStatus())) {
+                        states.add(toState(earlier));
+                    }
+                } catch (IOException e) {
+                    log.warn("Evento ilegível no outbox da partida {}: {}", fixtureId, e.getMessage());
+                }
+            }, fixtureId, beforeSequence));
+        } catch (RuntimeException e) {
+            log.warn("Erro ao remontar o início do histórico da partida {}: {}", fixtureId, e.getMessage());
+        }
+        return states;
+    }
+
+    private static long toState(FixtureEventDto change) {
+        Instant at = change.getOccurredAt() != null ? change.getOccurredAt() : Instant.now();
+        return LiveStateCodec.pack(at.getEpochSecond(),
+                change.getElapsed() != null ? change.getElapsed() : 0,
+                change.getHomeGoals() != null ? change.getHomeGoals() : 0,
+                change.getAwayGoals() != null ? change.getAwayGoals() : 0,
+                MatchPhase.fromStatus(change.getStatus()));
+    }
+
+    private static FixtureProgressionDto mapToDto(long fixtureId, boolean live, long[] states, int dropped) {
+        List<LiveStateDto> mapped = new ArrayList<>(states.length);
+        for (long state : states) {
+            MatchPhase phase = LiveStateCodec.phase(state);
+            mapped.add(LiveStateDto.builder()
+                    .at(Instant.ofEpochSecond(LiveStateCodec.epochSecond(state)))
+                    .minute(LiveStateCodec.minute(state))
+                    .homeGoals(LiveStateCodec.homeGoals(state))
+                    .awayGoals(LiveStateCodec.awayGoals(state))
+                    .status(phase.status != null ? phase.status : phase.name())
+                    .build());
+        }
+        return FixtureProgressionDto.builder()
+                .fixtureId(fixtureId)
+                .live(live)
+                .droppedStates(dropped)
+                .states(mapped)
+                .build();
+    }
+}
@@ -0,0 +1,246 @@
+package com.variavel.sportsdataservice.service;
+
+import com.variavel.sportsdataservice.cache.SportsQueryCache;
+import com.variavel.sportsdataservice.cluster.ClusterCoordinator;
+import com.variavel.sportsdataservice.media.ImageType;
+import com.variavel.sportsdataservice.media.LogoStore;
+import com.variavel.sportsdataservice.media.LogoStore.StoredLogo;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Cache local dos logos de times e ligas. Cada logo é baixado uma vez da origem (logo_url) para o LogoStore e a
+// linha recebe o hash do arquivo; a partir daí os DTOs apontam para /api/v1/sports/media/logos/{hash}.{ext} (LogoUrls),
+// servido do disco com cache imutável, e o navegador não depende mais da origem.
+//
+// A varredura de logos pendentes roda no líder do cluster (e ao fim das ingestões de ligas/times). As demais réplicas
+// baixam sob demanda: o arquivo que falta no disco é buscado pela URL de origem registrada para aquele hash.
+@Service
+public class LogoCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(LogoCacheService.class);
+
+    private static final List<String> TABLES = List.of("leagues", "teams");
+    private static final String PENDING_SQL = "SELECT id, logo_url FROM %s "
+            + "WHERE logo_hash IS NULL AND logo_url IS NOT NULL AND logo_url <> '' AND id > ? ORDER BY id LIMIT ?";
+    // Só grava se a URL não mudou desde a leitura (uma ingestão concorrente troca a URL e limpa o hash)
+    private static final String STORE_HASH_SQL = "UPDATE %s SET logo_hash = ?, logo_ext = ? WHERE id = ? AND logo_url = ?";
+    private static final String SOURCE_URL_SQL = "SELECT logo_url FROM leagues WHERE logo_hash = ? AND logo_ext = ? "
+            + "UNION ALL SELECT logo_url FROM teams WHERE logo_hash = ? AND logo_ext = ? LIMIT 1";
+    private static final String CLEAR_HASH_SQL = "UPDATE %s SET logo_hash = NULL, logo_ext = NULL WHERE logo_hash = ? AND logo_ext = ?";
+
+    private record PendingLogo(long id, String url) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterCoordinator clusterCoordinator;
+    private final SportsQueryCache sportsQueryCache;
+    private final SearchIndexService searchIndexService;
+    private final WebClient webClient;
+    private final LogoStore store;
+    private final int batchSize;
+    private final int concurrency;
+    private final Duration downloadTimeout;
+    private final long retryAfterFailureMs;
+    // URL -> instante a partir do qual pode ser tentada de novo (origem fora do ar, 404, conteúdo que não é imagem)
+    private final Map<String, Long> failedUntil = new ConcurrentHashMap<>();
+    // Downloads sob demanda em andamento: pedidos simultâneos do mesmo arquivo esperam o mesmo download
+    private final Map<String, Mono<Path>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweepPending = new AtomicBoolean();
+    private final ExecutorService sweepExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "logo-cache-sweep");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LogoCacheService(JdbcTemplate jdbcTemplate,
+                            ClusterCoordinator clusterCoordinator,
+                            SportsQueryCache sportsQueryCache,
+                            SearchIndexService searchIndexService,
+                            WebClient.Builder webClientBuilder,
+                            @Value("${media.logos.path:./data/logos}") String storePath,
+                            @Value("${media.logos.batch-size:200}") int batchSize,
+                            @Value("${media.logos.download-concurrency:4}") int concurrency,
+                            @Value("${media.logos.download-timeout-ms:10000}") long downloadTimeoutMs,
+                            @Value("${media.logos.retry-after-failure-ms:3600000}") long retryAfterFailureMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterCoordinator = clusterCoordinator;
+        this.sportsQueryCache = sportsQueryCache;
+        this.searchIndexService = searchIndexService;
+        // Cliente próprio, sem a URL base e os cabeçalhos de autenticação da API-Football
+        this.webClient = webClientBuilder.build();
+        this.store = new LogoStore(Path.of(storePath));
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.downloadTimeout = Duration.ofMillis(downloadTimeoutMs);
+        this.retryAfterFailureMs = retryAfterFailureMs;
+        log.info("Cache de logos em {}", store.root());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweepExecutor.shutdownNow();
+    }
+
+    // --- Arquivos servidos ---
+    // Caminho do arquivo no disco desta instância, baixando-o da origem se ainda não estiver aqui.
+    // Vazio se o hash não é de nenhum logo conhecido (ou a origem já não devolve o mesmo arquivo).
+    public Mono<Path> resolve(String hash, ImageType type) {
+        if (!LogoStore.isValidHash(hash)) {
+            return Mono.empty();
+        }
+        Path cached = store.find(hash, type);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        String key = hash + "." + type.extension();
+        return inFlight.computeIfAbsent(key, k -> fetchMissing(hash, type)
+                .doFinally(signal -> inFlight.remove(k))
+                .cache());
+    }
+
+    private Mono<Path> fetchMissing(String hash, ImageType type) {
+        String extension = type.extension();
+        return Mono.fromCallable(() -> jdbcTemplate.query(SOURCE_URL_SQL, rs -> rs.next() ? rs.getString(1) : null,
+                        hash, extension, hash, extension))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::download)
+                .flatMap(logo -> {
+                    if (logo.hash().equals(hash) && logo.type() == type) {
+                        return Mono.justOrEmpty(store.find(hash, type));
+                    }
+                    // A origem trocou a imagem sem trocar a URL: a próxima varredura grava o hash novo
+                    log.info("Logo {} mudou na origem; hash descartado para novo download.", hash);
+                    return Mono.fromRunnable(() -> {
+                                TABLES.forEach(table -> jdbcTemplate.update(CLEAR_HASH_SQL.formatted(table), hash, extension));
+                                sportsQueryCache.evictAll();
+                            })
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .then(Mono.<Path>empty());
+                })
+                .onErrorResume(e -> {
+                    log.warn("Erro ao baixar sob demanda o logo {}: {}", hash, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    // --- Varredura dos logos pendentes ---
+    @Scheduled(fixedDelayString = "${media.logos.sweep-interval-ms:300000}", initialDelayString = "${media.logos.sweep-initial-delay-ms:30000}")
+    public void scheduledSweep() {
+        if (clusterCoordinator.isLeader()) {
+            requestSweep();
+        }
+    }
+
+    // Chamado ao fim das ingestões; pedidos feitos enquanto outro aguarda na fila são agrupados
+    public void requestSweep() {
+        if (sweepPending.compareAndSet(false, true)) {
+            sweepExecutor.execute(() -> {
+                sweepPending.set(false);
+                try {
+                    sweep();
+                } catch (Exception e) {
+                    log.error("Erro na varredura do cache de logos: {}", e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    public synchronized int sweep() {
+        long start = System.nanoTime();
+        int stored = 0;
+        for (String table : TABLES) {
+            long lastId = 0;
+            List<PendingLogo> page;
+            do {
+                page = jdbcTemplate.query(PENDING_SQL.formatted(table),
+                        (rs, rowNum) -> new PendingLogo(rs.getLong(1), rs.getString(2)), lastId, batchSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                lastId = page.get(page.size() - 1).id();
+                Map<String, StoredLogo> downloaded = downloadAll(page);
+                for (PendingLogo pending : page) {
+                    StoredLogo logo = downloaded.get(pending.url());
+                    if (logo != null) {
+                        stored += jdbcTemplate.update(STORE_HASH_SQL.formatted(table),
+                                logo.hash(), logo.type().extension(), pending.id(), pending.url());
+                    }
+                }
+            } while (page.size() == batchSize);
+        }
+        if (stored > 0) {
+            // DTOs em cache e o índice de busca ainda têm a URL de origem
+            sportsQueryCache.evictAll();
+            searchIndexService.requestRebuild();
+            log.info("Cache de logos: {} logos baixados em {} ms.", stored, (System.nanoTime() - start) / 1_000_000);
+        }
+        return stored;
+    }
+
+    private Map<String, StoredLogo> downloadAll(List<PendingLogo> page) {
+        long now = System.currentTimeMillis();
+        Set<String> urls = new LinkedHashSet<>();
+        for (PendingLogo pending : page) {
+            Long retryAt = failedUntil.get(pending.url());
+            if (retryAt == null || retryAt <= now) {
+                urls.add(pending.url());
+            }
+        }
+        Map<String, StoredLogo> downloaded = Flux.fromIterable(urls)
+                .flatMap(url -> download(url)
+                        .map(logo -> Map.entry(url, logo))
+                        .onErrorResume(e -> {
+                            failedUntil.put(url, System.currentTimeMillis() + retryAfterFailureMs);
+                            log.warn("Erro ao baixar o logo {}: {}", url, e.getMessage());
+                            return Mono.empty();
+                        }), concurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+        downloaded.keySet().forEach(failedUntil::remove);
+        return downloaded;
+    }
+
+    private Mono<StoredLogo> download(String url) {
+        return webClient.get()
+                .uri(URI.create(url))
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .timeout(downloadTimeout)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("resposta sem conteúdo")))
+                .publishOn(Schedulers.boundedElastic())
+                .map(content -> {
+                    try {
+                        StoredLogo logo = store.store(content);
+                        if (logo == null) {
+                            throw new IllegalStateException("o conteúdo não é uma imagem reconhecida");
+                        }
+                        return logo;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+}
@@ -0,0 +1,119 @@
+package com.variavel.sportsdataservice.service;
+
+import com.variavel.sportsdataservice.dto.SearchResultDto;
+import com.variavel.sportsdataservice.media.LogoUrls;
+import com.variavel.sportsdataservice.search.SearchEntry;
+import com.variavel.sportsdataservice.search.SearchEntryType;
+import com.variavel.sportsdataservice.search.SearchIndex;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+// Busca por nome de times e ligas (autocomplete) servida de um índice em memória, sem LIKE no banco.
+// O índice é montado no início (StartupWarmupService) e depois de cada ingestão de ligas/times; a versão nova
+// substitui a antiga de uma vez, então as buscas em andamento nunca veem um índice pela metade.
+@Service
+public class SearchIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LogoUrls logoUrls;
+    private final int maxLimit;
+    private final AtomicReference<SearchIndex> index = new AtomicReference<>(SearchIndex.EMPTY);
+    // Reconstruções pedidas enquanto outra aguarda na fila são agrupadas (ex: ingestão de times de várias ligas)
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SearchIndexService(JdbcTemplate jdbcTemplate, LogoUrls logoUrls, @Value("${search.max-limit:50}") int maxLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.logoUrls = logoUrls;
+        this.maxLimit = maxLimit;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    public List<SearchResultDto> search(String query, SearchEntryType type, int limit) {
+        return index.get().search(query, type, Math.min(limit, maxLimit)).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    // Chamado ao fim das ingestões; a reconstrução roda fora da thread que chamou
+    public void requestRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildPending.set(false);
+                try {
+                    rebuild();
+                } catch (Exception e) {
+                    log.error("Erro ao reconstruir o índice de busca: {}", e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    public synchronized int rebuild() {
+        long start = System.nanoTime();
+        Map<Long, Integer> teamFixtures = countFixtures(
+                "SELECT team_id, COUNT(*) FROM (SELECT home_team_id AS team_id FROM fixtures UNION ALL SELECT away_team_id FROM fixtures) t GROUP BY team_id");
+        Map<Long, Integer> leagueFixtures = countFixtures("SELECT league_id, COUNT(*) FROM fixtures GROUP BY league_id");
+
+        List<SearchEntry> entries = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, name, country, logo_url, logo_hash, logo_ext FROM leagues", rs -> {
+            long id = rs.getLong(1);
+            String logoUrl = logoUrls.publicUrl(rs.getString(5), rs.getString(6), rs.getString(4));
+            entries.add(new SearchEntry(SearchEntryType.LEAGUE, id, rs.getString(2), rs.getString(3), logoUrl,
+                    leagueFixtures.getOrDefault(id, 0)));
+        });
+        jdbcTemplate.query("SELECT id, name, country, logo_url, logo_hash, logo_ext FROM teams", rs -> {
+            long id = rs.getLong(1);
+            String logoUrl = logoUrls.publicUrl(rs.getString(5), rs.getString(6), rs.getString(4));
+            entries.add(new SearchEntry(SearchEntryType.TEAM, id, rs.getString(2), rs.getString(3), logoUrl,
+                    teamFixtures.getOrDefault(id, 0)));
+        });
+
+        SearchIndex built = SearchIndex.build(entries);
+        index.set(built);
+        log.info("Índice de busca reconstruído: {} itens em {} ms.", built.size(), (System.nanoTime() - start) / 1_000_000);
+        return built.size();
+    }
+
+    private Map<Long, Integer> countFixtures(String sql) {
+        Map<Long, Integer> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getLong(1), rs.getInt(2));
+        });
+        return counts;
+    }
+
+    private SearchResultDto mapToDto(SearchEntry entry) {
+        return SearchResultDto.builder()
+                .type(entry.type().name())
+                .id(entry.id())
+                .name(entry.name())
+                .country(entry.country())
+                .logoUrl(entry.logoUrl())
+                .build();
+    }
+}
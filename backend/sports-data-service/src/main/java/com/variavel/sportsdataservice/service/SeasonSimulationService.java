@@ -0,0 +1,149 @@
+package com.variavel.sportsdataservice.service;
+
+import com.variavel.sportsdataservice.datasource.ReadRouting;
+import com.variavel.sportsdataservice.dto.FixtureEventDto;
+import com.variavel.sportsdataservice.dto.SeasonSimulationDto;
+import com.variavel.sportsdataservice.dto.TeamProjectionDto;
+import com.variavel.sportsdataservice.event.FixtureChangedEvent;
+import com.variavel.sportsdataservice.repository.FixtureRepository;
+import com.variavel.sportsdataservice.simulation.SeasonModel;
+import com.variavel.sportsdataservice.simulation.SeasonSimulationTask;
+import com.variavel.sportsdataservice.simulation.SimulationTally;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+// Simulações "E se...?" de temporada: Monte Carlo sobre as partidas restantes de uma liga/temporada, em paralelo
+// num ForkJoinPool dedicado. O resultado fica em cache (LRU) por (liga, temporada, iterações, semente) até que um
+// resultado final da liga mude (FixtureChangedEvent); pedidos simultâneos da mesma simulação compartilham o mesmo
+// cálculo. Os minutos e placares ao vivo não invalidam: a simulação passa a considerá-los quando a partida termina.
+@Service
+public class SeasonSimulationService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeasonSimulationService.class);
+
+    private static final long DEFAULT_SEED = 0x5DEECE66DL;
+    private static final int MAX_CACHED_SIMULATIONS = 256;
+
+    private record SimulationKey(long leagueId, int season, int iterations, long seed) {
+    }
+
+    // 'version': versão da liga quando o cálculo começou
+    private record CachedSimulation(long version, CompletableFuture<SeasonSimulationDto> result) {
+    }
+
+    private final FixtureRepository fixtureRepository;
+    private final ForkJoinPool pool;
+    private final int maxIterations;
+    // Ordem de acesso: ao passar do limite sai a simulação usada há mais tempo (com o monitor do próprio mapa)
+    private final Map<SimulationKey, CachedSimulation> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SimulationKey, CachedSimulation> eldest) {
+            return size() > MAX_CACHED_SIMULATIONS;
+        }
+    };
+    // Incrementada a cada resultado final que muda na liga: um cálculo que começou antes não fica em cache
+    private final ConcurrentHashMap<Long, Long> leagueVersions = new ConcurrentHashMap<>();
+
+    public SeasonSimulationService(FixtureRepository fixtureRepository,
+                                   @Value("${simulation.parallelism:0}") int parallelism,
+                                   @Value("${simulation.max-iterations:1000000}") int maxIterations) {
+        this.fixtureRepository = fixtureRepository;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.maxIterations = maxIterations;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public CompletableFuture<SeasonSimulationDto> simulate(long leagueId, int season, int iterations, Long seed) {
+        SimulationKey key = new SimulationKey(leagueId, season, Math.max(1, Math.min(iterations, maxIterations)),
+                seed != null ? seed : DEFAULT_SEED);
+        long version = leagueVersions.getOrDefault(key.leagueId(), 0L);
+        CachedSimulation cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+            if (cached == null || cached.version() != version) {
+                cached = new CachedSimulation(version, CompletableFuture.supplyAsync(() -> run(key), pool));
+                cache.put(key, cached);
+            }
+        }
+        // Falhas e cálculos que começaram antes de uma mudança na liga não ficam em cache
+        CachedSimulation simulation = cached;
+        simulation.result().whenComplete((result, error) -> {
+            if (error != null || leagueVersions.getOrDefault(key.leagueId(), 0L) != simulation.version()) {
+                synchronized (cache) {
+                    cache.remove(key, simulation);
+                }
+            }
+        });
+        return simulation.result();
+    }
+
+    // Partida nova ou resultado final (ou correção dele): as simulações da liga/temporada deixam de valer.
+    // Atualizações ao vivo (minuto, placar parcial) são ignoradas.
+    @EventListener
+    public void onFixtureChanged(FixtureChangedEvent event) {
+        FixtureEventDto change = event.change();
+        if (change.getLeagueId() == null || change.getSeason() == null
+                || !(change.isFinished() || FixtureEventDto.CREATED.equals(change.getType()))) {
+            return;
+        }
+        leagueVersions.merge(change.getLeagueId(), 1L, Long::sum);
+        synchronized (cache) {
+            cache.keySet().removeIf(key -> key.leagueId() == change.getLeagueId() && key.season() == change.getSeason());
+        }
+    }
+
+    private SeasonSimulationDto run(SimulationKey key) {
+        long start = System.nanoTime();
+        SeasonModel model = SeasonModel.from(ReadRouting.forcePrimary(() -> fixtureRepository.findByLeagueIdAndSeasonIncludingArchive(key.leagueId(), key.season())));
+        // Executa na própria thread do pool: invoke() aqui divide as tarefas entre os demais workers
+        SimulationTally tally = new SeasonSimulationTask(model, key.iterations(), new SplittableRandom(key.seed())).invoke();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Simulação da liga {} temporada {}: {} temporadas, {} partidas restantes, {} ms.",
+                key.leagueId(), key.season(), key.iterations(), model.fixtureCount, elapsedMillis);
+
+        int n = model.teamCount;
+        List<TeamProjectionDto> teams = new ArrayList<>(n);
+        for (int t = 0; t < n; t++) {
+            double[] probabilities = new double[n];
+            for (int position = 0; position < n; position++) {
+                probabilities[position] = (double) tally.positionCounts[t * n + position] / tally.iterations;
+            }
+            teams.add(TeamProjectionDto.builder()
+                    .teamId(model.teamIds[t])
+                    .teamName(model.teamNames[t])
+                    .currentPoints(model.points[t])
+                    .expectedPoints((double) tally.pointsSum[t] / tally.iterations)
+                    .championProbability(probabilities[0])
+                    .positionProbabilities(probabilities)
+                    .build());
+        }
+        teams.sort(Comparator.comparing(TeamProjectionDto::getExpectedPoints).reversed());
+        return SeasonSimulationDto.builder()
+                .leagueId(key.leagueId())
+                .season(key.season())
+                .iterations(key.iterations())
+                .seed(key.seed())
+                .fixturesRemaining(model.fixtureCount)
+                .elapsedMillis(elapsedMillis)
+                .teams(teams)
+                .build();
+    }
+}
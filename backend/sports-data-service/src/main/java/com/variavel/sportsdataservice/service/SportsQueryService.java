@@ -1,11 +1,14 @@
 package com.variavel.sportsdataservice.service;
 
+import com.variavel.sportsdataservice.cache.SportsQueryCache;
+import com.variavel.sportsdataservice.datasource.ReadRouting;
 import com.variavel.sportsdataservice.domain.Fixture;
 import com.variavel.sportsdataservice.domain.League;
 import com.variavel.sportsdataservice.domain.Team;
 import com.variavel.sportsdataservice.dto.FixtureDto;
 import com.variavel.sportsdataservice.dto.LeagueDto;
 import com.variavel.sportsdataservice.dto.TeamDto;
+import com.variavel.sportsdataservice.media.LogoUrls;
 import com.variavel.sportsdataservice.repository.FixtureRepository;
 import com.variavel.sportsdataservice.repository.LeagueRepository;
 import com.variavel.sportsdataservice.repository.TeamRepository;
@@ -13,9 +16,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional; // Importe esta anotação
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -27,29 +34,60 @@ public class SportsQueryService {
     private final LeagueRepository leagueRepository;
     private final TeamRepository teamRepository;
     private final FixtureRepository fixtureRepository;
+    private final SportsQueryCache cache; // Ligas, times e partidas de ontem/hoje/amanhã (ver StartupWarmupService)
+    private final LogoUrls logoUrls; // Logos servidos do cache local quando já baixados
 
     // --- Métodos para Ligas ---
     public List<LeagueDto> getAllLeagues() {
-        return leagueRepository.findAll().stream()
-                .map(this::mapToLeagueDto)
-                .collect(Collectors.toList());
+        return new ArrayList<>(leagues().values());
     }
 
     public Optional<LeagueDto> getLeagueById(Long id) {
+        Map<Long, LeagueDto> cached = cache.leagues();
+        if (cached != null && cached.containsKey(id)) {
+            return Optional.of(cached.get(id));
+        }
         return leagueRepository.findById(id).map(this::mapToLeagueDto);
     }
 
+    private Map<Long, LeagueDto> leagues() {
+        Map<Long, LeagueDto> cached = cache.leagues();
+        if (cached != null) {
+            return cached;
+        }
+        long version = cache.referenceVersion();
+        Map<Long, LeagueDto> loaded = new LinkedHashMap<>();
+        // Recarga após invalidação: do primário, para não guardar no cache o que a réplica ainda não recebeu
+        ReadRouting.forcePrimary(() -> leagueRepository.findAll().forEach(league -> loaded.put(league.getId(), mapToLeagueDto(league))));
+        cache.putLeagues(loaded, version);
+        return loaded;
+    }
+
     // --- Métodos para Times ---
     public List<TeamDto> getAllTeams() {
-        return teamRepository.findAll().stream()
-                .map(this::mapToTeamDto)
-                .collect(Collectors.toList());
+        return new ArrayList<>(teams().values());
     }
 
     public Optional<TeamDto> getTeamById(Long id) {
+        Map<Long, TeamDto> cached = cache.teams();
+        if (cached != null && cached.containsKey(id)) {
+            return Optional.of(cached.get(id));
+        }
         return teamRepository.findById(id).map(this::mapToTeamDto);
     }
 
+    private Map<Long, TeamDto> teams() {
+        Map<Long, TeamDto> cached = cache.teams();
+        if (cached != null) {
+            return cached;
+        }
+        long version = cache.referenceVersion();
+        Map<Long, TeamDto> loaded = new LinkedHashMap<>();
+        ReadRouting.forcePrimary(() -> teamRepository.findAll().forEach(team -> loaded.put(team.getId(), mapToTeamDto(team))));
+        cache.putTeams(loaded, version);
+        return loaded;
+    }
+
     // --- Métodos para Partidas (Fixtures) ---
     public List<FixtureDto> getAllFixtures() {
         return fixtureRepository.findAll().stream()
@@ -58,7 +96,8 @@ public class SportsQueryService {
     }
 
     public Optional<FixtureDto> getFixtureById(Long id) {
-        return fixtureRepository.findById(id).map(this::mapToFixtureDto);
+        // Partidas de temporadas antigas ficam em fixtures_archive
+        return fixtureRepository.findByIdIncludingArchive(id).map(this::mapToFixtureDto);
     }
 
     public List<FixtureDto> getLiveFixtures() {
@@ -70,13 +109,27 @@ public class SportsQueryService {
     }
 
     public List<FixtureDto> getFixturesByDate(LocalDate date) {
-        // Precisa converter LocalDate para Instant para comparar com a coluna 'date' (Instant) na entidade Fixture.
-        // Isso pode ser um pouco complexo para garantir a precisão da data (do início ao fim do dia).
-        // Para simplificar, faremos uma busca por todos os jogos e filtramos na memória por data,
-        // ou você pode adicionar um método mais sofisticado no FixtureRepository que usa "BETWEEN" datas.
-        // Por enquanto, uma busca simples:
-        return fixtureRepository.findAll().stream()
-                .filter(f -> f.getDate().atZone(ZoneId.systemDefault()).toLocalDate().isEqual(date))
+        if (!cache.isHotDate(date)) {
+            return findFixturesByDate(date);
+        }
+        List<FixtureDto> cached = cache.fixtures(date);
+        if (cached != null) {
+            return cached;
+        }
+        long version = cache.fixturesVersion();
+        List<FixtureDto> fixtures = ReadRouting.forcePrimary(() -> findFixturesByDate(date));
+        cache.putFixtures(date, fixtures, version);
+        return fixtures;
+    }
+
+    private List<FixtureDto> findFixturesByDate(LocalDate date) {
+        // Converte o dia (no fuso do servidor) para o intervalo [início, início do dia seguinte) em Instant,
+        // para que a busca use o índice em 'date' em vez de varrer a tabela inteira.
+        ZoneId zone = ZoneId.systemDefault();
+        Instant start = date.atStartOfDay(zone).toInstant();
+        Instant end = date.plusDays(1).atStartOfDay(zone).toInstant();
+        // Inclui o arquivo: datas de temporadas antigas só existem lá
+        return fixtureRepository.findByDateRangeIncludingArchive(start, end).stream()
                 .map(this::mapToFixtureDto)
                 .collect(Collectors.toList());
     }
@@ -90,7 +143,7 @@ public class SportsQueryService {
                 .name(league.getName())
                 .type(league.getType())
                 .country(league.getCountry())
-                .logoUrl(league.getLogoUrl())
+                .logoUrl(logoUrls.publicUrl(league))
                 .build();
     }
 
@@ -101,7 +154,7 @@ public class SportsQueryService {
                 .name(team.getName())
                 .code(team.getCode())
                 .country(team.getCountry())
-                .logoUrl(team.getLogoUrl())
+                .logoUrl(logoUrls.publicUrl(team))
                 .build();
     }
 
@@ -128,11 +181,11 @@ public class SportsQueryService {
                 .referee(fixture.getReferee())
                 // Dados da liga e times relacionados (verificar se não são nulos antes de acessar)
                 .leagueName(fixture.getLeague() != null ? fixture.getLeague().getName() : null)
-                .leagueLogoUrl(fixture.getLeague() != null ? fixture.getLeague().getLogoUrl() : null)
+                .leagueLogoUrl(logoUrls.publicUrl(fixture.getLeague()))
                 .homeTeamName(fixture.getHomeTeam() != null ? fixture.getHomeTeam().getName() : null)
-                .homeTeamLogoUrl(fixture.getHomeTeam() != null ? fixture.getHomeTeam().getLogoUrl() : null)
+                .homeTeamLogoUrl(logoUrls.publicUrl(fixture.getHomeTeam()))
                 .awayTeamName(fixture.getAwayTeam() != null ? fixture.getAwayTeam().getName() : null)
-                .awayTeamLogoUrl(fixture.getAwayTeam() != null ? fixture.getAwayTeam().getLogoUrl() : null)
+                .awayTeamLogoUrl(logoUrls.publicUrl(fixture.getAwayTeam()))
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.variavel.sportsdataservice.service;
+
+import com.variavel.sportsdataservice.datasource.ReadRouting;
+import com.variavel.sportsdataservice.domain.Fixture;
+import com.variavel.sportsdataservice.domain.FixtureStatus;
+import com.variavel.sportsdataservice.domain.Team;
+import com.variavel.sportsdataservice.dto.FixtureEventDto;
+import com.variavel.sportsdataservice.dto.StandingDto;
+import com.variavel.sportsdataservice.event.FixtureChangedEvent;
+import com.variavel.sportsdataservice.media.LogoUrls;
+import com.variavel.sportsdataservice.repository.FixtureRepository;
+import com.variavel.sportsdataservice.repository.TeamRepository;
+import com.variavel.sportsdataservice.standings.FixtureResult;
+import com.variavel.sportsdataservice.standings.StandingsTable;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Classificações por liga/temporada mantidas em memória. Cada tabela é montada a partir do banco no primeiro
+// acesso e, depois disso, atualizada só pelos eventos de partidas (FixtureChangedEvent), sem reagregar as partidas.
+// A reconstrução completa existe apenas para recuperação (ver TestController).
+//
+// A montagem roda fora do event loop (boundedElastic) e uma por chave: requisições simultâneas pela mesma
+// liga/temporada esperam a mesma montagem, e ligas diferentes montam em paralelo. Só ficam em memória as tabelas
+// de ligas/temporadas com partidas; uma combinação inexistente não é guardada.
+@Service
+@RequiredArgsConstructor
+public class StandingsService {
+
+    private static final Logger log = LoggerFactory.getLogger(StandingsService.class);
+
+    private record StandingsKey(long leagueId, int season) {
+    }
+
+    private final FixtureRepository fixtureRepository;
+    private final TeamRepository teamRepository;
+    private final LogoUrls logoUrls;
+    private final ConcurrentHashMap<StandingsKey, StandingsTable> tables = new ConcurrentHashMap<>();
+    // Montagem em andamento por chave
+    private final ConcurrentHashMap<StandingsKey, CompletableFuture<StandingsTable>> builds = new ConcurrentHashMap<>();
+
+    public Mono<List<StandingDto>> getStandings(long leagueId, int season) {
+        StandingsKey key = new StandingsKey(leagueId, season);
+        StandingsTable table = tables.get(key);
+        if (table != null && table.isReady()) {
+            return Mono.just(table.snapshot());
+        }
+        return Mono.fromCallable(() -> table(key, false).snapshot())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<List<StandingDto>> rebuild(long leagueId, int season) {
+        return Mono.fromCallable(() -> table(new StandingsKey(leagueId, season), true).snapshot())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @EventListener
+    public void onFixtureChanged(FixtureChangedEvent event) {
+        FixtureEventDto change = event.change();
+        if (change.getApiId() == null || change.getLeagueId() == null || change.getSeason() == null
+                || change.getHomeTeamId() == null || change.getAwayTeamId() == null) {
+            return;
+        }
+        // Tabelas ainda não carregadas serão montadas do banco, que já contém esta mudança
+        StandingsTable table = tables.get(new StandingsKey(change.getLeagueId(), change.getSeason()));
+        if (table == null) {
+            return;
+        }
+        addTeamIfMissing(table, change.getHomeTeamId());
+        addTeamIfMissing(table, change.getAwayTeamId());
+        boolean counts = FixtureStatus.isFinished(change.getStatus()) && change.getHomeGoals() != null && change.getAwayGoals() != null;
+        table.apply(new FixtureResult(change.getApiId(), change.getHomeTeamId(), change.getAwayTeamId(),
+                change.getDate() != null ? change.getDate().toEpochMilli() : 0L,
+                counts, counts ? change.getHomeGoals() : 0, counts ? change.getAwayGoals() : 0));
+    }
+
+    // Bloqueante: chamado fora do event loop. Com outra montagem da mesma chave em andamento, espera por ela.
+    private StandingsTable table(StandingsKey key, boolean rebuild) {
+        StandingsTable table = tables.get(key);
+        if (!rebuild && table != null && table.isReady()) {
+            return table;
+        }
+        CompletableFuture<StandingsTable> building = new CompletableFuture<>();
+        CompletableFuture<StandingsTable> running = builds.putIfAbsent(key, building);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            table = tables.get(key);
+            if (rebuild || table == null || !table.isReady()) {
+                table = build(key);
+            }
+            building.complete(table);
+            return table;
+        } catch (RuntimeException e) {
+            building.completeExceptionally(e);
+            throw e;
+        } finally {
+            builds.remove(key, building);
+        }
+    }
+
+    // Uma montagem por chave (ver table). A tabela nova entra no mapa antes da leitura do banco para receber
+    // (adiados) os eventos que chegarem durante a carga; sem nenhuma partida, sai do mapa no fim.
+    private StandingsTable build(StandingsKey key) {
+        long start = System.nanoTime();
+        StandingsTable table = new StandingsTable();
+        tables.put(key, table);
+        try {
+            // Do primário: os eventos anteriores à carga não são reaplicados, então a leitura não pode vir de uma réplica atrasada
+            List<Fixture> fixtures = ReadRouting.forcePrimary(() -> fixtureRepository.findByLeagueIdAndSeasonIncludingArchive(key.leagueId(), key.season()));
+            for (Fixture fixture : fixtures) {
+                if (FixtureStatus.isVoid(fixture.getStatus())) {
+                    continue;
+                }
+                Team home = fixture.getHomeTeam();
+                Team away = fixture.getAwayTeam();
+                table.addTeam(home.getId(), home.getName(), logoUrls.publicUrl(home));
+                table.addTeam(away.getId(), away.getName(), logoUrls.publicUrl(away));
+                boolean counts = FixtureStatus.isFinished(fixture.getStatus()) && fixture.getHomeGoals() != null && fixture.getAwayGoals() != null;
+                table.load(new FixtureResult(fixture.getApiId(), home.getId(), away.getId(),
+                        fixture.getDate() != null ? fixture.getDate().toEpochMilli() : 0L,
+                        counts, counts ? fixture.getHomeGoals() : 0, counts ? fixture.getAwayGoals() : 0));
+            }
+            table.markReady();
+            if (fixtures.isEmpty()) {
+                tables.remove(key, table); // Liga/temporada sem partidas (ou inexistente): não fica em memória
+                return table;
+            }
+            log.info("Classificação da liga {} temporada {} montada a partir de {} partidas em {} ms.",
+                    key.leagueId(), key.season(), fixtures.size(), (System.nanoTime() - start) / 1_000_000);
+            return table;
+        } catch (RuntimeException e) {
+            tables.remove(key, table);
+            throw e;
+        }
+    }
+
+    private void addTeamIfMissing(StandingsTable table, long teamId) {
+        if (!table.hasTeam(teamId)) {
+            ReadRouting.forcePrimary(() -> teamRepository.findById(teamId)).ifPresentOrElse(
+                    team -> table.addTeam(team.getId(), team.getName(), logoUrls.publicUrl(team)),
+                    () -> table.addTeam(teamId, null, null));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.variavel.sportsdataservice.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Aquece a instância antes de ela receber tráfego: ligas, times, partidas de hoje e o índice de busca são carregados
+// em paralelo. O Spring Boot só publica a prontidão (ReadinessState.ACCEPTING_TRAFFIC, /actuator/health/readiness)
+// depois que os ApplicationRunners terminam, então a primeira requisição já encontra os caches cheios.
+// Uma falha ou o tempo limite não impedem a subida: o que não foi carregado vem do banco no primeiro acesso.
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StartupWarmupService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmupService.class);
+
+    private final SportsQueryService sportsQueryService;
+    private final SearchIndexService searchIndexService;
+    private final long timeoutSeconds;
+
+    public StartupWarmupService(SportsQueryService sportsQueryService,
+                                SearchIndexService searchIndexService,
+                                @Value("${startup.warmup.timeout-seconds:60}") long timeoutSeconds) {
+        this.sportsQueryService = sportsQueryService;
+        this.searchIndexService = searchIndexService;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "startup-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<Void>> tasks = List.of(
+                    warm("ligas", () -> sportsQueryService.getAllLeagues().size(), executor),
+                    warm("times", () -> sportsQueryService.getAllTeams().size(), executor),
+                    warm("partidas de hoje", () -> sportsQueryService.getFixturesByDate(LocalDate.now(ZoneId.systemDefault())).size(), executor),
+                    warm("índice de busca", searchIndexService::rebuild, executor));
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).get(timeoutSeconds, TimeUnit.SECONDS);
+            log.info("Aquecimento concluído em {} ms.", (System.nanoTime() - start) / 1_000_000);
+        } catch (TimeoutException e) {
+            log.warn("Aquecimento não terminou em {} s; a instância sobe com os caches incompletos.", timeoutSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Erro no aquecimento; a instância sobe com os caches incompletos: {}", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<Void> warm(String name, WarmupTask task, ExecutorService executor) {
+        return CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                int count = task.load();
+                log.info("Aquecimento de {}: {} itens em {} ms.", name, count, (System.nanoTime() - start) / 1_000_000);
+            } catch (RuntimeException e) {
+                log.warn("Erro no aquecimento de {}: {}", name, e.getMessage(), e);
+            }
+        }, executor);
+    }
+
+    @FunctionalInterface
+    private interface WarmupTask {
+        int load();
+    }
+}
@@ -0,0 +1,173 @@
+package com.variavel.sportsdataservice.simulation;
+
+import com.variavel.sportsdataservice.domain.Fixture;
+import com.variavel.sportsdataservice.domain.FixtureStatus;
+import com.variavel.sportsdataservice.domain.Team;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Estado de uma liga/temporada pronto para simulação, em arrays indexados pelo índice do time (0..teamCount-1).
+// Modelo de Poisson: gols esperados = média da liga (mandante ou visitante) x ataque do time x defesa do adversário,
+// com as forças estimadas a partir das partidas encerradas e puxadas para a média enquanto há poucos jogos.
+public final class SeasonModel {
+
+    private static final double PRIOR_GAMES = 3.0; // Jogos "fictícios" na média da liga somados a cada time
+    private static final double DEFAULT_HOME_GOALS = 1.5; // Médias usadas antes da primeira partida encerrada
+    private static final double DEFAULT_AWAY_GOALS = 1.1;
+    private static final double MIN_EXPECTED_GOALS = 0.05;
+    private static final double MAX_EXPECTED_GOALS = 6.0;
+    private static final int REGULAR_TIME_MINUTES = 90;
+    public static final int GOAL_TABLE_SIZE = 12; // Gols sorteados por time numa partida: 0..11
+
+    public final int teamCount;
+    public final long[] teamIds;
+    public final String[] teamNames;
+
+    // Tabela atual (partidas encerradas)
+    public final int[] points;
+    public final int[] goalsFor;
+    public final int[] goalsAgainst;
+
+    // Partidas a simular (inclui as em andamento, a partir do placar atual)
+    public final int fixtureCount;
+    public final int[] homeTeam;
+    public final int[] awayTeam;
+    public final int[] homeBaseGoals;
+    public final int[] awayBaseGoals;
+    // Distribuição acumulada de Poisson dos gols de cada partida, [partida * GOAL_TABLE_SIZE + gols]:
+    // o sorteio usa um único número aleatório e uma busca linear curta
+    public final double[] homeGoalsCdf;
+    public final double[] awayGoalsCdf;
+
+    private SeasonModel(int teamCount, int fixtureCount) {
+        this.teamCount = teamCount;
+        this.teamIds = new long[teamCount];
+        this.teamNames = new String[teamCount];
+        this.points = new int[teamCount];
+        this.goalsFor = new int[teamCount];
+        this.goalsAgainst = new int[teamCount];
+        this.fixtureCount = fixtureCount;
+        this.homeTeam = new int[fixtureCount];
+        this.awayTeam = new int[fixtureCount];
+        this.homeBaseGoals = new int[fixtureCount];
+        this.awayBaseGoals = new int[fixtureCount];
+        this.homeGoalsCdf = new double[fixtureCount * GOAL_TABLE_SIZE];
+        this.awayGoalsCdf = new double[fixtureCount * GOAL_TABLE_SIZE];
+    }
+
+    public static SeasonModel from(List<Fixture> fixtures) {
+        Map<Long, Team> teams = new LinkedHashMap<>();
+        int remaining = 0;
+        for (Fixture fixture : fixtures) {
+            if (FixtureStatus.isVoid(fixture.getStatus())) {
+                continue;
+            }
+            teams.putIfAbsent(fixture.getHomeTeam().getId(), fixture.getHomeTeam());
+            teams.putIfAbsent(fixture.getAwayTeam().getId(), fixture.getAwayTeam());
+            if (!isCompleted(fixture)) {
+                remaining++;
+            }
+        }
+
+        SeasonModel model = new SeasonModel(teams.size(), remaining);
+        Map<Long, Integer> indexOf = new LinkedHashMap<>();
+        for (Team team : teams.values()) {
+            int index = indexOf.size();
+            indexOf.put(team.getId(), index);
+            model.teamIds[index] = team.getId();
+            model.teamNames[index] = team.getName();
+        }
+
+        // Tabela atual e totais para as forças
+        int[] played = new int[model.teamCount];
+        long homeGoals = 0;
+        long awayGoals = 0;
+        int completed = 0;
+        for (Fixture fixture : fixtures) {
+            if (FixtureStatus.isVoid(fixture.getStatus()) || !isCompleted(fixture)) {
+                continue;
+            }
+            int home = indexOf.get(fixture.getHomeTeam().getId());
+            int away = indexOf.get(fixture.getAwayTeam().getId());
+            model.record(home, away, fixture.getHomeGoals(), fixture.getAwayGoals());
+            played[home]++;
+            played[away]++;
+            homeGoals += fixture.getHomeGoals();
+            awayGoals += fixture.getAwayGoals();
+            completed++;
+        }
+        double homeAverage = completed > 0 ? Math.max(MIN_EXPECTED_GOALS, (double) homeGoals / completed) : DEFAULT_HOME_GOALS;
+        double awayAverage = completed > 0 ? Math.max(MIN_EXPECTED_GOALS, (double) awayGoals / completed) : DEFAULT_AWAY_GOALS;
+        double average = (homeAverage + awayAverage) / 2;
+
+        double[] attack = new double[model.teamCount];
+        double[] defense = new double[model.teamCount];
+        for (int t = 0; t < model.teamCount; t++) {
+            attack[t] = (model.goalsFor[t] + PRIOR_GAMES * average) / (played[t] + PRIOR_GAMES) / average;
+            defense[t] = (model.goalsAgainst[t] + PRIOR_GAMES * average) / (played[t] + PRIOR_GAMES) / average;
+        }
+
+        int f = 0;
+        for (Fixture fixture : fixtures) {
+            if (FixtureStatus.isVoid(fixture.getStatus()) || isCompleted(fixture)) {
+                continue;
+            }
+            int home = indexOf.get(fixture.getHomeTeam().getId());
+            int away = indexOf.get(fixture.getAwayTeam().getId());
+            // Partida em andamento: simula só os minutos restantes, somados ao placar atual (goals da API, ver
+            // DataIngestionService); sem o minuto informado, a partida inteira
+            double remainingFraction = 1.0;
+            if (FixtureStatus.isLive(fixture.getStatus())) {
+                if (fixture.getElapsed() != null) {
+                    remainingFraction = Math.max(0, REGULAR_TIME_MINUTES - fixture.getElapsed()) / (double) REGULAR_TIME_MINUTES;
+                }
+                model.homeBaseGoals[f] = fixture.getHomeGoals() != null ? fixture.getHomeGoals() : 0;
+                model.awayBaseGoals[f] = fixture.getAwayGoals() != null ? fixture.getAwayGoals() : 0;
+            }
+            double homeExpected = clamp(homeAverage * attack[home] * defense[away]) * remainingFraction;
+            double awayExpected = clamp(awayAverage * attack[away] * defense[home]) * remainingFraction;
+            model.homeTeam[f] = home;
+            model.awayTeam[f] = away;
+            fillPoissonCdf(model.homeGoalsCdf, f * GOAL_TABLE_SIZE, homeExpected);
+            fillPoissonCdf(model.awayGoalsCdf, f * GOAL_TABLE_SIZE, awayExpected);
+            f++;
+        }
+        return model;
+    }
+
+    private static boolean isCompleted(Fixture fixture) {
+        return FixtureStatus.isFinished(fixture.getStatus()) && fixture.getHomeGoals() != null && fixture.getAwayGoals() != null;
+    }
+
+    private static void fillPoissonCdf(double[] table, int offset, double expectedGoals) {
+        double probability = Math.exp(-expectedGoals);
+        double cumulative = 0;
+        for (int goals = 0; goals < GOAL_TABLE_SIZE; goals++) {
+            cumulative += probability;
+            table[offset + goals] = cumulative;
+            probability *= expectedGoals / (goals + 1);
+        }
+        table[offset + GOAL_TABLE_SIZE - 1] = 1.0; // A cauda acima do último valor fica no último valor
+    }
+
+    private static double clamp(double expectedGoals) {
+        return Math.max(MIN_EXPECTED_GOALS, Math.min(MAX_EXPECTED_GOALS, expectedGoals));
+    }
+
+    private void record(int home, int away, int homeGoals, int awayGoals) {
+        goalsFor[home] += homeGoals;
+        goalsAgainst[home] += awayGoals;
+        goalsFor[away] += awayGoals;
+        goalsAgainst[away] += homeGoals;
+        if (homeGoals > awayGoals) {
+            points[home] += 3;
+        } else if (homeGoals < awayGoals) {
+            points[away] += 3;
+        } else {
+            points[home]++;
+            points[away]++;
+        }
+    }
+}
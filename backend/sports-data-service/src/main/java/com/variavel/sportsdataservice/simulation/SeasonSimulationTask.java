@@ -0,0 +1,108 @@
+package com.variavel.sportsdataservice.simulation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+// Simula 'iterations' temporadas a partir do modelo. Divide o trabalho ao meio até o limite sequencial,
+// dando a cada metade um gerador derivado por split(): o resultado só depende da semente, não do agendamento.
+// O laço interno não aloca: os arrays de trabalho são criados uma vez por folha.
+public class SeasonSimulationTask extends RecursiveTask<SimulationTally> {
+
+    private static final int SEQUENTIAL_THRESHOLD = 2_000;
+
+    private final SeasonModel model;
+    private final int iterations;
+    private final SplittableRandom random;
+
+    public SeasonSimulationTask(SeasonModel model, int iterations, SplittableRandom random) {
+        this.model = model;
+        this.iterations = iterations;
+        this.random = random;
+    }
+
+    @Override
+    protected SimulationTally compute() {
+        if (iterations <= SEQUENTIAL_THRESHOLD) {
+            return simulate();
+        }
+        int half = iterations / 2;
+        SeasonSimulationTask left = new SeasonSimulationTask(model, half, random.split());
+        SeasonSimulationTask right = new SeasonSimulationTask(model, iterations - half, random);
+        left.fork();
+        SimulationTally result = right.compute();
+        return result.merge(left.join());
+    }
+
+    private SimulationTally simulate() {
+        int n = model.teamCount;
+        SimulationTally tally = new SimulationTally(n);
+        int[] points = new int[n];
+        int[] goalDifference = new int[n];
+        int[] goalsFor = new int[n];
+        int[] order = new int[n];
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            for (int t = 0; t < n; t++) {
+                points[t] = model.points[t];
+                goalsFor[t] = model.goalsFor[t];
+                goalDifference[t] = model.goalsFor[t] - model.goalsAgainst[t];
+                order[t] = t;
+            }
+            for (int f = 0; f < model.fixtureCount; f++) {
+                int home = model.homeTeam[f];
+                int away = model.awayTeam[f];
+                int homeGoals = model.homeBaseGoals[f] + sampleGoals(model.homeGoalsCdf, f * SeasonModel.GOAL_TABLE_SIZE);
+                int awayGoals = model.awayBaseGoals[f] + sampleGoals(model.awayGoalsCdf, f * SeasonModel.GOAL_TABLE_SIZE);
+                goalsFor[home] += homeGoals;
+                goalsFor[away] += awayGoals;
+                goalDifference[home] += homeGoals - awayGoals;
+                goalDifference[away] += awayGoals - homeGoals;
+                if (homeGoals > awayGoals) {
+                    points[home] += 3;
+                } else if (homeGoals < awayGoals) {
+                    points[away] += 3;
+                } else {
+                    points[home]++;
+                    points[away]++;
+                }
+            }
+            // Classificação: pontos, saldo de gols, gols marcados (inserção: n pequeno e sem alocação)
+            for (int i = 1; i < n; i++) {
+                int team = order[i];
+                int j = i - 1;
+                while (j >= 0 && ranksAbove(team, order[j], points, goalDifference, goalsFor)) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = team;
+            }
+            for (int position = 0; position < n; position++) {
+                int team = order[position];
+                tally.positionCounts[team * n + position]++;
+                tally.pointsSum[team] += points[team];
+            }
+        }
+        tally.iterations = iterations;
+        return tally;
+    }
+
+    private static boolean ranksAbove(int a, int b, int[] points, int[] goalDifference, int[] goalsFor) {
+        if (points[a] != points[b]) {
+            return points[a] > points[b];
+        }
+        if (goalDifference[a] != goalDifference[b]) {
+            return goalDifference[a] > goalDifference[b];
+        }
+        return goalsFor[a] > goalsFor[b];
+    }
+
+    // Sorteio pela distribuição acumulada pré-calculada (médias de gols baixas: poucos passos)
+    private int sampleGoals(double[] cdf, int offset) {
+        double u = random.nextDouble();
+        int goals = 0;
+        while (u > cdf[offset + goals]) {
+            goals++;
+        }
+        return goals;
+    }
+}
@@ -0,0 +1,27 @@
+package com.variavel.sportsdataservice.simulation;
+
+// Resultado agregado de um conjunto de temporadas simuladas
+public final class SimulationTally {
+
+    public final int teamCount;
+    public final long[] positionCounts; // [time * teamCount + posição]: vezes em que o time terminou na posição
+    public final long[] pointsSum; // Soma dos pontos finais de cada time
+    public long iterations;
+
+    public SimulationTally(int teamCount) {
+        this.teamCount = teamCount;
+        this.positionCounts = new long[teamCount * teamCount];
+        this.pointsSum = new long[teamCount];
+    }
+
+    public SimulationTally merge(SimulationTally other) {
+        for (int i = 0; i < positionCounts.length; i++) {
+            positionCounts[i] += other.positionCounts[i];
+        }
+        for (int i = 0; i < pointsSum.length; i++) {
+            pointsSum[i] += other.pointsSum[i];
+        }
+        iterations += other.iterations;
+        return this;
+    }
+}
@@ -0,0 +1,7 @@
+package com.variavel.sportsdataservice.standings;
+
+// Estado de uma partida relevante para a classificação. 'counts' = encerrada com placar definido.
+// A partida é identificada pelo ID da API-Football, o mesmo na tabela quente e no arquivo.
+public record FixtureResult(long apiId, long homeTeamId, long awayTeamId, long date,
+                            boolean counts, int homeGoals, int awayGoals) {
+}
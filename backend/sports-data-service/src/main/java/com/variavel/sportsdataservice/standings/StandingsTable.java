@@ -0,0 +1,125 @@
+package com.variavel.sportsdataservice.standings;
+
+import com.variavel.sportsdataservice.dto.StandingDto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Classificação de uma liga/temporada mantida de forma incremental: cada partida encerrada (ou corrigida)
+// altera apenas as linhas dos dois times envolvidos. O placar aplicado de cada partida fica guardado, então
+// uma correção desfaz o resultado antigo antes de aplicar o novo, e reprocessar o mesmo evento não muda nada.
+//
+// Enquanto a tabela é montada a partir do banco (carga inicial ou reconstrução), os eventos recebidos ficam
+// guardados e são reaplicados ao final, para que uma mudança gravada durante a leitura não se perca.
+public class StandingsTable {
+
+    private static final Comparator<TeamStanding> ORDER = Comparator
+            .comparingInt((TeamStanding row) -> row.points).reversed()
+            .thenComparing(Comparator.comparingInt(TeamStanding::goalDifference).reversed())
+            .thenComparing(Comparator.comparingInt((TeamStanding row) -> row.goalsFor).reversed())
+            .thenComparing(row -> row.teamName != null ? row.teamName : "");
+
+    private record AppliedResult(long homeTeamId, long awayTeamId, long date, int homeGoals, int awayGoals) {
+    }
+
+    private final Map<Long, TeamStanding> rows = new HashMap<>();
+    private final Map<Long, AppliedResult> appliedByApiId = new HashMap<>();
+    private List<FixtureResult> deferred = new ArrayList<>();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Fim da carga: aplica os eventos recebidos durante a leitura do banco
+    public synchronized void markReady() {
+        for (FixtureResult result : deferred) {
+            applyResult(result);
+        }
+        deferred = null;
+        ready = true;
+    }
+
+    public synchronized void addTeam(long teamId, String teamName, String logoUrl) {
+        TeamStanding row = rows.computeIfAbsent(teamId, id -> new TeamStanding(id, teamName, logoUrl));
+        if (teamName != null) {
+            row.teamName = teamName;
+            row.logoUrl = logoUrl;
+        }
+    }
+
+    public synchronized boolean hasTeam(long teamId) {
+        return rows.containsKey(teamId);
+    }
+
+    // Estado lido do banco durante a carga
+    public synchronized void load(FixtureResult result) {
+        applyResult(result);
+    }
+
+    // Estado recebido de um evento de partida (adiado enquanto a carga não termina)
+    public synchronized void apply(FixtureResult result) {
+        if (!ready) {
+            deferred.add(result);
+            return;
+        }
+        applyResult(result);
+    }
+
+    // Partida não encerrada (ou anulada) retira o resultado aplicado antes, se houver.
+    private void applyResult(FixtureResult result) {
+        long apiId = result.apiId();
+        long homeTeamId = result.homeTeamId();
+        long awayTeamId = result.awayTeamId();
+        long date = result.date();
+        int homeGoals = result.homeGoals();
+        int awayGoals = result.awayGoals();
+        AppliedResult previous = appliedByApiId.get(apiId);
+        AppliedResult current = result.counts() ? new AppliedResult(homeTeamId, awayTeamId, date, homeGoals, awayGoals) : null;
+        if (previous == null ? current == null : previous.equals(current)) {
+            return; // Mesmo estado já aplicado (evento repetido)
+        }
+        if (previous != null) {
+            row(previous.homeTeamId()).apply(apiId, previous.date(), previous.homeGoals(), previous.awayGoals(), -1);
+            row(previous.awayTeamId()).apply(apiId, previous.date(), previous.awayGoals(), previous.homeGoals(), -1);
+            appliedByApiId.remove(apiId);
+        }
+        if (current != null) {
+            row(homeTeamId).apply(apiId, date, homeGoals, awayGoals, 1);
+            row(awayTeamId).apply(apiId, date, awayGoals, homeGoals, 1);
+            appliedByApiId.put(apiId, current);
+        }
+    }
+
+    public synchronized List<StandingDto> snapshot() {
+        List<TeamStanding> ordered = new ArrayList<>(rows.values());
+        ordered.sort(ORDER);
+        List<StandingDto> standings = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            TeamStanding row = ordered.get(i);
+            standings.add(StandingDto.builder()
+                    .position(i + 1)
+                    .teamId(row.teamId)
+                    .teamName(row.teamName)
+                    .teamLogoUrl(row.logoUrl)
+                    .played(row.played)
+                    .won(row.won)
+                    .drawn(row.drawn)
+                    .lost(row.lost)
+                    .goalsFor(row.goalsFor)
+                    .goalsAgainst(row.goalsAgainst)
+                    .goalDifference(row.goalDifference())
+                    .points(row.points)
+                    .form(row.form())
+                    .build());
+        }
+        return standings;
+    }
+
+    private TeamStanding row(long teamId) {
+        return rows.computeIfAbsent(teamId, id -> new TeamStanding(id, null, null));
+    }
+}
@@ -0,0 +1,103 @@
+package com.variavel.sportsdataservice.standings;
+
+import java.util.Arrays;
+
+// Linha da classificação de um time. Guarda os resultados aplicados em ordem de data para a forma recente;
+// uma correção de placar antigo só reordena/atualiza esse histórico, sem recalcular a tabela.
+final class TeamStanding {
+
+    static final int FORM_LENGTH = 5;
+
+    final long teamId;
+    String teamName;
+    String logoUrl;
+    int played;
+    int won;
+    int drawn;
+    int lost;
+    int goalsFor;
+    int goalsAgainst;
+    int points;
+
+    // Resultados aplicados, ordenados por (data, partida)
+    private long[] resultFixtureIds = new long[8];
+    private long[] resultDates = new long[8];
+    private char[] results = new char[8];
+    private int resultCount;
+
+    TeamStanding(long teamId, String teamName, String logoUrl) {
+        this.teamId = teamId;
+        this.teamName = teamName;
+        this.logoUrl = logoUrl;
+    }
+
+    int goalDifference() {
+        return goalsFor - goalsAgainst;
+    }
+
+    // sign > 0 aplica o resultado; sign < 0 desfaz um resultado aplicado antes
+    void apply(long fixtureId, long date, int scored, int conceded, int sign) {
+        played += sign;
+        goalsFor += sign * scored;
+        goalsAgainst += sign * conceded;
+        char result;
+        if (scored > conceded) {
+            won += sign;
+            points += sign * 3;
+            result = 'W';
+        } else if (scored < conceded) {
+            lost += sign;
+            result = 'L';
+        } else {
+            drawn += sign;
+            points += sign;
+            result = 'D';
+        }
+        if (sign > 0) {
+            addResult(fixtureId, date, result);
+        } else {
+            removeResult(fixtureId);
+        }
+    }
+
+    // Últimos resultados, do mais recente para o mais antigo (ex: "WWDLW")
+    String form() {
+        StringBuilder form = new StringBuilder(FORM_LENGTH);
+        for (int i = resultCount - 1; i >= 0 && form.length() < FORM_LENGTH; i--) {
+            form.append(results[i]);
+        }
+        return form.toString();
+    }
+
+    private void addResult(long fixtureId, long date, char result) {
+        if (resultCount == results.length) {
+            resultFixtureIds = Arrays.copyOf(resultFixtureIds, resultCount << 1);
+            resultDates = Arrays.copyOf(resultDates, resultCount << 1);
+            results = Arrays.copyOf(results, resultCount << 1);
+        }
+        int i = resultCount - 1;
+        while (i >= 0 && (resultDates[i] > date || (resultDates[i] == date && resultFixtureIds[i] > fixtureId))) {
+            resultFixtureIds[i + 1] = resultFixtureIds[i];
+            resultDates[i + 1] = resultDates[i];
+            results[i + 1] = results[i];
+            i--;
+        }
+        resultFixtureIds[i + 1] = fixtureId;
+        resultDates[i + 1] = date;
+        results[i + 1] = result;
+        resultCount++;
+    }
+
+    private void removeResult(long fixtureId) {
+        for (int i = 0; i < resultCount; i++) {
+            if (resultFixtureIds[i] == fixtureId) {
+                int moved = resultCount - i - 1;
+                System.arraycopy(resultFixtureIds, i + 1, resultFixtureIds, i, moved);
+                System.arraycopy(resultDates, i + 1, resultDates, i, moved);
+                System.arraycopy(results, i + 1, results, i, moved);
+                resultCount--;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.variavel.sportsdataservice.timeline;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+// Formato binário da linha do tempo (coluna fixture_timelines.events): um byte de versão seguido de registros de
+// tamanho fixo, em ordem cronológica. Como cada registro tem o mesmo tamanho, acrescentar eventos é só concatenar
+// bytes no fim (CONCAT no banco), sem ler nem reescrever o que já está gravado.
+//
+// Registro (13 bytes): minuto (short), acréscimo (byte), tipo (byte), time (byte: 1 mandante, 0 visitante),
+// jogador (int), assistência/jogador que sai (int).
+public final class TimelineCodec {
+
+    public static final byte VERSION = 1;
+    public static final int HEADER_SIZE = 1;
+    public static final int RECORD_SIZE = 13;
+
+    private TimelineCodec() {
+    }
+
+    // Blob completo (com cabeçalho)
+    public static byte[] encode(List<TimelineEvent> events) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + events.size() * RECORD_SIZE);
+        buffer.put(VERSION);
+        writeRecords(buffer, events, 0, events.size());
+        return buffer.array();
+    }
+
+    // Só os registros de events[from..], para acrescentar a um blob existente
+    public static byte[] encodeTail(List<TimelineEvent> events, int from) {
+        ByteBuffer buffer = ByteBuffer.allocate((events.size() - from) * RECORD_SIZE);
+        writeRecords(buffer, events, from, events.size());
+        return buffer.array();
+    }
+
+    public static List<TimelineEvent> decode(byte[] blob) {
+        if (blob == null || blob.length < HEADER_SIZE) {
+            return List.of();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(blob);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalStateException("Versão de linha do tempo desconhecida: " + version);
+        }
+        int count = (blob.length - HEADER_SIZE) / RECORD_SIZE;
+        List<TimelineEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int minute = buffer.getShort();
+            int extra = buffer.get() & 0xFF;
+            TimelineEventType type = TimelineEventType.fromCode(buffer.get() & 0xFF);
+            boolean home = buffer.get() != 0;
+            events.add(new TimelineEvent(minute, extra, type, home, buffer.getInt(), buffer.getInt()));
+        }
+        return events;
+    }
+
+    private static void writeRecords(ByteBuffer buffer, List<TimelineEvent> events, int from, int to) {
+        for (int i = from; i < to; i++) {
+            TimelineEvent event = events.get(i);
+            buffer.putShort((short) event.minute());
+            buffer.put((byte) Math.max(0, Math.min(event.extraMinute(), 255)));
+            buffer.put((byte) event.type().code);
+            buffer.put((byte) (event.home() ? 1 : 0));
+            buffer.putInt(event.playerApiId());
+            buffer.putInt(event.assistApiId());
+        }
+    }
+}
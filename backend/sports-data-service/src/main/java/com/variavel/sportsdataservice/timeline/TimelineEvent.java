@@ -0,0 +1,6 @@
+package com.variavel.sportsdataservice.timeline;
+
+// Um evento da partida. 'home' indica o time do evento (mandante ou visitante); os jogadores usam o ID da API-Football
+// (0 quando ausente). Em substituições, 'playerApiId' é quem entra e 'assistApiId' quem sai, como na API.
+public record TimelineEvent(int minute, int extraMinute, TimelineEventType type, boolean home, int playerApiId, int assistApiId) {
+}
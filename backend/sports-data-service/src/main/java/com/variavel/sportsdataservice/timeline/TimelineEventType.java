@@ -0,0 +1,59 @@
+package com.variavel.sportsdataservice.timeline;
+
+// Tipos de evento da linha do tempo. O código é o que vai gravado no BLOB: não reutilizar nem renumerar.
+public enum TimelineEventType {
+    OTHER(0),
+    GOAL(1),
+    OWN_GOAL(2),
+    PENALTY_GOAL(3),
+    MISSED_PENALTY(4),
+    YELLOW_CARD(5),
+    SECOND_YELLOW_CARD(6),
+    RED_CARD(7),
+    SUBSTITUTION(8),
+    VAR(9);
+
+    private static final TimelineEventType[] BY_CODE = new TimelineEventType[16];
+
+    static {
+        for (TimelineEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    public final int code;
+
+    TimelineEventType(int code) {
+        this.code = code;
+    }
+
+    public static TimelineEventType fromCode(int code) {
+        TimelineEventType type = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        return type != null ? type : OTHER;
+    }
+
+    // A API-Football informa 'type' (Goal, Card, subst, Var) e 'detail' (Normal Goal, Own Goal, Penalty, Missed Penalty,
+    // Yellow Card, Red Card, Second Yellow card, Substitution N, Goal cancelled, ...)
+    public static TimelineEventType fromApi(String type, String detail) {
+        String d = detail != null ? detail.toLowerCase() : "";
+        if ("Goal".equalsIgnoreCase(type)) {
+            if (d.contains("own")) {
+                return OWN_GOAL;
+            }
+            if (d.contains("missed")) {
+                return MISSED_PENALTY;
+            }
+            return d.contains("penalty") ? PENALTY_GOAL : GOAL;
+        }
+        if ("Card".equalsIgnoreCase(type)) {
+            if (d.contains("second")) {
+                return SECOND_YELLOW_CARD;
+            }
+            return d.contains("red") ? RED_CARD : YELLOW_CARD;
+        }
+        if ("subst".equalsIgnoreCase(type)) {
+            return SUBSTITUTION;
+        }
+        return "Var".equalsIgnoreCase(type) ? VAR : OTHER;
+    }
+}
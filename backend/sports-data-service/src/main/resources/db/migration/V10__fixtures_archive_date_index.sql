@@ -0,0 +1,2 @@
+-- Partidas do dia também são buscadas no arquivo (FixtureRepository.findArchivedByDateRange).
+CREATE INDEX idx_fixtures_archive_date ON fixtures_archive (date);
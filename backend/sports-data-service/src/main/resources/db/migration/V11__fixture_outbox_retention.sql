@@ -0,0 +1,2 @@
+-- Limpeza dos eventos publicados mais antigos que a retenção (FixtureOutboxRelay.purgePublishedEvents).
+CREATE INDEX idx_fixture_outbox_created_at ON fixture_outbox (created_at);
@@ -0,0 +1,57 @@
+-- Esquema inicial, equivalente ao que o ddl-auto=update gerava a partir das entidades.
+-- IF NOT EXISTS mantém intactos os bancos que já tinham sido criados pelo Hibernate.
+
+CREATE TABLE IF NOT EXISTS leagues (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    api_id   INT          NOT NULL,
+    name     VARCHAR(255) NOT NULL,
+    type     VARCHAR(255),
+    country  VARCHAR(255),
+    logo_url VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_leagues_api_id UNIQUE (api_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS teams (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    api_id   INT          NOT NULL,
+    name     VARCHAR(255) NOT NULL,
+    code     VARCHAR(255),
+    country  VARCHAR(255),
+    founded  INT,
+    national BIT(1),
+    logo_url VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_teams_api_id UNIQUE (api_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS fixtures (
+    id                    BIGINT       NOT NULL AUTO_INCREMENT,
+    api_id                INT          NOT NULL,
+    date                  DATETIME(6),
+    timezone              VARCHAR(255),
+    timestamp             BIGINT,
+    status                VARCHAR(255),
+    elapsed               INT,
+    league_id             BIGINT       NOT NULL,
+    season                INT,
+    home_team_id          BIGINT       NOT NULL,
+    away_team_id          BIGINT       NOT NULL,
+    home_goals            INT,
+    away_goals            INT,
+    home_half_time_goals  INT,
+    away_half_time_goals  INT,
+    home_extra_time_goals INT,
+    away_extra_time_goals INT,
+    home_penalty_goals    INT,
+    away_penalty_goals    INT,
+    venue_api_id          INT,
+    venue_name            VARCHAR(255),
+    venue_city            VARCHAR(255),
+    referee               VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_fixtures_api_id UNIQUE (api_id),
+    CONSTRAINT fk_fixtures_league FOREIGN KEY (league_id) REFERENCES leagues (id),
+    CONSTRAINT fk_fixtures_home_team FOREIGN KEY (home_team_id) REFERENCES teams (id),
+    CONSTRAINT fk_fixtures_away_team FOREIGN KEY (away_team_id) REFERENCES teams (id)
+) ENGINE = InnoDB;
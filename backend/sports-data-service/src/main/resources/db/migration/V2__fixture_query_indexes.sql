@@ -0,0 +1,13 @@
+-- Índices alinhados com os padrões de consulta do FixtureRepository.
+
+-- findByLeagueIdAndSeason (tabela de classificação, simulações). A FK em league_id passa a usar este índice.
+CREATE INDEX idx_fixtures_league_season ON fixtures (league_id, season);
+
+-- findByStatus (partidas ao vivo), já ordenado por data para o feed.
+CREATE INDEX idx_fixtures_status_date ON fixtures (status, date);
+
+-- findByDateBetween (partidas do dia).
+CREATE INDEX idx_fixtures_date ON fixtures (date);
+
+-- Varredura do arquivamento por temporada encerrada.
+CREATE INDEX idx_fixtures_season_status ON fixtures (season, status);
@@ -0,0 +1,35 @@
+-- Tabela fria para partidas encerradas de temporadas antigas (ver FixtureArchiveService).
+-- Mesmas colunas de fixtures, sem FKs: os dados são imutáveis e só consultados para histórico.
+-- Optamos por tabela de arquivo em vez de particionamento por data porque o MySQL não suporta
+-- FKs em tabelas particionadas e exigiria incluir a data na chave única de api_id.
+
+CREATE TABLE fixtures_archive (
+    id                    BIGINT       NOT NULL,
+    api_id                INT          NOT NULL,
+    date                  DATETIME(6),
+    timezone              VARCHAR(255),
+    timestamp             BIGINT,
+    status                VARCHAR(255),
+    elapsed               INT,
+    league_id             BIGINT       NOT NULL,
+    season                INT,
+    home_team_id          BIGINT       NOT NULL,
+    away_team_id          BIGINT       NOT NULL,
+    home_goals            INT,
+    away_goals            INT,
+    home_half_time_goals  INT,
+    away_half_time_goals  INT,
+    home_extra_time_goals INT,
+    away_extra_time_goals INT,
+    home_penalty_goals    INT,
+    away_penalty_goals    INT,
+    venue_api_id          INT,
+    venue_name            VARCHAR(255),
+    venue_city            VARCHAR(255),
+    referee               VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_fixtures_archive_api_id UNIQUE (api_id),
+    INDEX idx_fixtures_archive_league_season (league_id, season),
+    INDEX idx_fixtures_archive_home_team (home_team_id),
+    INDEX idx_fixtures_archive_away_team (away_team_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,15 @@
+-- Outbox transacional de mudanças de partidas: gravado na mesma transação da partida e publicado pelo
+-- FixtureOutboxRelay como um feed ordenado por sequence_no.
+CREATE TABLE fixture_outbox (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    sequence_no BIGINT      NULL,
+    fixture_id  BIGINT      NOT NULL,
+    event_type  VARCHAR(32) NOT NULL,
+    payload     TEXT        NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    -- Leitura do feed a partir de um offset
+    CONSTRAINT uk_fixture_outbox_sequence_no UNIQUE (sequence_no),
+    -- Busca das linhas ainda não publicadas (sequence_no IS NULL), em ordem de id
+    INDEX idx_fixture_outbox_pending (sequence_no, id)
+) ENGINE = InnoDB;
@@ -0,0 +1,30 @@
+-- Coordenação entre réplicas do sports-data-service (ver ClusterCoordinator).
+-- Todos os prazos usam o relógio do banco (NOW(6)), não o das instâncias.
+
+-- Instâncias vivas: cada uma renova heartbeat_at periodicamente; as que param de renovar saem do anel de ligas
+CREATE TABLE IF NOT EXISTS cluster_members (
+    instance_id  VARCHAR(64) NOT NULL,
+    started_at   DATETIME(6) NOT NULL,
+    heartbeat_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (instance_id)
+) ENGINE = InnoDB;
+
+-- Leases nomeados (ex: 'leader'). fencing_token aumenta a cada troca de dono.
+CREATE TABLE IF NOT EXISTS cluster_leases (
+    name          VARCHAR(64) NOT NULL,
+    owner_id      VARCHAR(64) NOT NULL,
+    expires_at    DATETIME(6) NOT NULL,
+    fencing_token BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+-- Tarefas de ingestão por liga e período (ex: 'daily-fixtures:2024-10-19:39'): a réplica dona da liga reserva a
+-- tarefa por um prazo e marca a conclusão; se ela cair no meio, a reserva expira e o novo dono refaz a tarefa.
+CREATE TABLE IF NOT EXISTS ingestion_tasks (
+    task_key      VARCHAR(128) NOT NULL,
+    owner_id      VARCHAR(64)  NOT NULL,
+    claimed_until DATETIME(6)  NOT NULL,
+    completed_at  DATETIME(6)  NULL,
+    PRIMARY KEY (task_key),
+    INDEX idx_ingestion_tasks_completed_at (completed_at)
+) ENGINE = InnoDB;
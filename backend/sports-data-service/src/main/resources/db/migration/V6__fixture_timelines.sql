@@ -0,0 +1,9 @@
+-- Linha do tempo de eventos por partida (gols, cartões, substituições, VAR) em uma única linha: 'events' guarda
+-- registros binários de tamanho fixo (ver TimelineCodec), acrescentados com CONCAT condicionado a event_count.
+CREATE TABLE IF NOT EXISTS fixture_timelines (
+    fixture_id  BIGINT      NOT NULL,
+    event_count INT         NOT NULL,
+    events      BLOB        NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (fixture_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,6 @@
+-- Heartbeat de replicação: gravado no primário e lido nas réplicas para medir a defasagem (ver ReplicaLagMonitor)
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id      TINYINT     NOT NULL,
+    beat_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,13 @@
+-- Cache local de logos: hash SHA-256 do arquivo baixado de logo_url e sua extensão (ver LogoCacheService).
+-- Nulos enquanto o logo não foi baixado; a API continua devolvendo logo_url nesse caso.
+ALTER TABLE leagues
+    ADD COLUMN logo_hash VARCHAR(64) NULL,
+    ADD COLUMN logo_ext  VARCHAR(8)  NULL;
+
+ALTER TABLE teams
+    ADD COLUMN logo_hash VARCHAR(64) NULL,
+    ADD COLUMN logo_ext  VARCHAR(8)  NULL;
+
+-- Réplica sem o arquivo em disco procura pelo hash a URL de origem para baixá-lo de novo.
+CREATE INDEX idx_leagues_logo_hash ON leagues (logo_hash);
+CREATE INDEX idx_teams_logo_hash ON teams (logo_hash);
@@ -0,0 +1,14 @@
+-- Progressão das partidas (minuto, placar e status a cada mudança durante o jogo), gravada ao fim da partida a
+-- partir dos anéis em memória do LiveStateHistoryService. 'states' guarda longs empacotados (ver LiveStateCodec);
+-- dropped_count conta os estados mais antigos descartados quando o anel encheu.
+CREATE TABLE IF NOT EXISTS fixture_state_histories (
+    fixture_id    BIGINT      NOT NULL,
+    state_count   INT         NOT NULL,
+    dropped_count INT         NOT NULL,
+    states        BLOB        NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (fixture_id)
+) ENGINE = InnoDB;
+
+-- Histórico de uma partida já em andamento remontado do outbox (instância reiniciada ou que entrou no meio do jogo)
+CREATE INDEX idx_fixture_outbox_fixture ON fixture_outbox (fixture_id, sequence_no);
@@ -0,0 +1,85 @@
+package com.variavel.sportsdataservice.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+
+    private static final int VIRTUAL_NODES = 128;
+    private static final int KEYS = 20_000;
+
+    @Test
+    void emptyRingHasNoOwner() {
+        assertNull(new ConsistentHashRing(List.of(), VIRTUAL_NODES).ownerOf(39L));
+    }
+
+    @Test
+    void singleMemberOwnsEverything() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a"), VIRTUAL_NODES);
+        for (long key = 0; key < 1_000; key++) {
+            assertEquals("a", ring.ownerOf(key));
+        }
+    }
+
+    @Test
+    void memberOrderDoesNotChangeOwners() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("sports-1", "sports-2", "sports-3"), VIRTUAL_NODES);
+        ConsistentHashRing shuffled = new ConsistentHashRing(List.of("sports-3", "sports-1", "sports-2"), VIRTUAL_NODES);
+        for (long key = 0; key < KEYS; key++) {
+            assertEquals(ring.ownerOf(key), shuffled.ownerOf(key));
+        }
+    }
+
+    @Test
+    void keysAreSpreadAcrossMembers() {
+        List<String> members = List.of("sports-1", "sports-2", "sports-3", "sports-4");
+        ConsistentHashRing ring = new ConsistentHashRing(members, VIRTUAL_NODES);
+        Map<String, Integer> counts = new HashMap<>();
+        for (long key = 0; key < KEYS; key++) {
+            counts.merge(ring.ownerOf(key), 1, Integer::sum);
+        }
+        for (String member : members) {
+            int share = counts.getOrDefault(member, 0);
+            // Com 128 nós virtuais cada réplica fica perto de 1/4 das chaves
+            assertTrue(share > KEYS / 4 * 0.7 && share < KEYS / 4 * 1.3, member + " ficou com " + share);
+        }
+    }
+
+    @Test
+    void joiningMemberOnlyTakesKeysFromOthers() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("sports-1", "sports-2", "sports-3"), VIRTUAL_NODES);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("sports-1", "sports-2", "sports-3", "sports-4"), VIRTUAL_NODES);
+        int moved = 0;
+        for (long key = 0; key < KEYS; key++) {
+            String owner = after.ownerOf(key);
+            if (!owner.equals(before.ownerOf(key))) {
+                assertEquals("sports-4", owner); // Nenhuma chave troca entre as réplicas que já estavam
+                moved++;
+            }
+        }
+        // Cerca de 1/4 das chaves vai para a réplica nova
+        assertTrue(moved > KEYS / 4 * 0.7 && moved < KEYS / 4 * 1.3, "chaves movidas: " + moved);
+    }
+
+    @Test
+    void leavingMemberOnlyGivesAwayItsOwnKeys() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("sports-1", "sports-2", "sports-3"), VIRTUAL_NODES);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("sports-1", "sports-3"), VIRTUAL_NODES);
+        for (long key = 0; key < KEYS; key++) {
+            String owner = before.ownerOf(key);
+            if (!owner.equals("sports-2")) {
+                assertEquals(owner, after.ownerOf(key));
+            } else {
+                String newOwner = after.ownerOf(key);
+                assertTrue(newOwner.equals("sports-1") || newOwner.equals("sports-3"));
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.variavel.sportsdataservice.progression;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LiveStateCodecTest {
+
+    private static final long AT = 1_792_400_000L; // 2026
+
+    @Test
+    void packAndUnpackEveryField() {
+        long state = LiveStateCodec.pack(AT, 67, 2, 1, MatchPhase.SECOND_HALF);
+
+        assertEquals(AT, LiveStateCodec.epochSecond(state));
+        assertEquals(67, LiveStateCodec.minute(state));
+        assertEquals(2, LiveStateCodec.homeGoals(state));
+        assertEquals(1, LiveStateCodec.awayGoals(state));
+        assertEquals(MatchPhase.SECOND_HALF, LiveStateCodec.phase(state));
+    }
+
+    @Test
+    void clampsFieldsToOneByte() {
+        long state = LiveStateCodec.pack(AT, 300, -1, 256, MatchPhase.EXTRA_TIME);
+
+        assertEquals(255, LiveStateCodec.minute(state));
+        assertEquals(0, LiveStateCodec.homeGoals(state));
+        assertEquals(255, LiveStateCodec.awayGoals(state));
+        assertEquals(AT, LiveStateCodec.epochSecond(state)); // O clamp não invade os campos vizinhos
+        assertEquals(MatchPhase.EXTRA_TIME, LiveStateCodec.phase(state));
+    }
+
+    @Test
+    void contentMaskIgnoresOnlyTheInstant() {
+        long state = LiveStateCodec.pack(AT, 10, 0, 0, MatchPhase.FIRST_HALF);
+        long sameLater = LiveStateCodec.pack(AT + 60, 10, 0, 0, MatchPhase.FIRST_HALF);
+        long goal = LiveStateCodec.pack(AT, 10, 1, 0, MatchPhase.FIRST_HALF);
+
+        assertEquals(state & LiveStateCodec.CONTENT_MASK, sameLater & LiveStateCodec.CONTENT_MASK);
+        assertNotEquals(state & LiveStateCodec.CONTENT_MASK, goal & LiveStateCodec.CONTENT_MASK);
+    }
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        long[] states = {
+                LiveStateCodec.pack(AT, 1, 0, 0, MatchPhase.FIRST_HALF),
+                LiveStateCodec.pack(AT + 2_700, 45, 1, 0, MatchPhase.HALFTIME),
+                LiveStateCodec.pack(AT + 6_000, 90, 2, 1, MatchPhase.FINISHED)};
+
+        byte[] blob = LiveStateCodec.encode(states);
+
+        assertEquals(LiveStateCodec.HEADER_SIZE + states.length * LiveStateCodec.RECORD_SIZE, blob.length);
+        assertArrayEquals(states, LiveStateCodec.decode(blob));
+        assertEquals(0, LiveStateCodec.decode(null).length);
+        assertEquals(0, LiveStateCodec.decode(LiveStateCodec.encode(new long[0])).length);
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        byte[] blob = LiveStateCodec.encode(new long[]{LiveStateCodec.pack(AT, 1, 0, 0, MatchPhase.FIRST_HALF)});
+        blob[0] = 9;
+
+        assertThrows(IllegalStateException.class, () -> LiveStateCodec.decode(blob));
+    }
+
+    @Test
+    void everyPhaseSurvivesTheSixBitCode() {
+        for (MatchPhase phase : MatchPhase.values()) {
+            assertEquals(phase, LiveStateCodec.phase(LiveStateCodec.pack(AT, 0, 0, 0, phase)));
+            if (phase.status != null) {
+                assertEquals(phase, MatchPhase.fromStatus(phase.status));
+            }
+        }
+        assertEquals(MatchPhase.OTHER, MatchPhase.fromStatus("Unknown"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.variavel.sportsdataservice.progression;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveStateRingsTest {
+
+    private static final long AT = 1_792_400_000L;
+
+    @Test
+    void appendsOnlyWhenTheContentChanges() {
+        LiveStateRings rings = new LiveStateRings(2, 8);
+        assertNull(rings.track(1L));
+
+        assertTrue(rings.append(1L, state(0, 1, 0, 0)));
+        assertFalse(rings.append(1L, state(30, 1, 0, 0))); // Mesmo conteúdo, só o instante mudou
+        assertTrue(rings.append(1L, state(60, 2, 0, 0)));
+        assertTrue(rings.append(1L, state(90, 2, 1, 0)));
+        assertFalse(rings.append(2L, state(0, 1, 0, 0))); // Partida sem anel
+
+        assertArrayEquals(new long[]{state(0, 1, 0, 0), state(60, 2, 0, 0), state(90, 2, 1, 0)}, rings.get(1L).states());
+        assertEquals(0, rings.get(1L).dropped());
+    }
+
+    @Test
+    void fullRingOverwritesTheOldestAndCountsDrops() {
+        LiveStateRings rings = new LiveStateRings(1, 3);
+        rings.track(1L);
+        for (int minute = 1; minute <= 5; minute++) {
+            rings.append(1L, state(minute * 60, minute, 0, 0));
+        }
+
+        LiveStateRings.History history = rings.get(1L);
+        assertArrayEquals(new long[]{state(180, 3, 0, 0), state(240, 4, 0, 0), state(300, 5, 0, 0)}, history.states());
+        assertEquals(2, history.dropped());
+    }
+
+    @Test
+    void releaseReturnsTheHistoryAndFreesTheRing() {
+        LiveStateRings rings = new LiveStateRings(1, 4);
+        rings.track(1L);
+        rings.append(1L, state(0, 1, 0, 0));
+
+        LiveStateRings.History released = rings.release(1L);
+        assertEquals(1L, released.fixtureId());
+        assertEquals(1, released.states().length);
+        assertFalse(rings.isTracked(1L));
+        assertNull(rings.release(1L));
+
+        // O anel volta limpo para a próxima partida
+        assertNull(rings.track(2L));
+        assertEquals(0, rings.get(2L).states().length);
+        assertEquals(0, rings.get(2L).dropped());
+    }
+
+    @Test
+    void trackingWithoutAFreeRingEvictsTheStalestFixture() {
+        LiveStateRings rings = new LiveStateRings(2, 4);
+        rings.track(1L);
+        rings.track(2L);
+        rings.append(2L, state(0, 1, 0, 0));
+        rings.append(1L, state(0, 1, 0, 0)); // A partida 1 mudou por último
+
+        LiveStateRings.History evicted = rings.track(3L);
+
+        assertEquals(2L, evicted.fixtureId());
+        assertEquals(1, evicted.states().length);
+        assertTrue(rings.isTracked(1L));
+        assertTrue(rings.isTracked(3L));
+        assertEquals(2, rings.trackedCount());
+        assertNull(rings.track(1L)); // Já acompanhada: nada muda
+    }
+
+    private static long state(long secondsAfterStart, int minute, int homeGoals, int awayGoals) {
+        return LiveStateCodec.pack(AT + secondsAfterStart, minute, homeGoals, awayGoals, MatchPhase.FIRST_HALF);
+    }
+}
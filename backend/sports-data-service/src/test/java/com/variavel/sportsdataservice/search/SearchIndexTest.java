@@ -0,0 +1,87 @@
+package com.variavel.sportsdataservice.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchIndexTest {
+
+    private final SearchIndex index = SearchIndex.build(List.of(
+            team(1L, "São Paulo", 300),
+            team(2L, "Paulista", 20),
+            team(3L, "Santos", 250),
+            team(4L, "Paris Saint-Germain", 280),
+            team(5L, "Atlético Paranaense", 120),
+            league(10L, "Campeonato Paulista", 90),
+            league(11L, "Série A", 400),
+            new SearchEntry(SearchEntryType.TEAM, 99L, " - ", null, null, 1_000)));
+
+    @Test
+    void ignoresEntriesWithoutSearchableName() {
+        assertEquals(7, index.size());
+    }
+
+    @Test
+    void matchesWithoutAccentsOrCase() {
+        assertEquals(List.of(1L), ids(index.search("sao paulo", null, 1)));
+        assertEquals(List.of(1L), ids(index.search("SÃO PAULO", null, 1)));
+    }
+
+    @Test
+    void ranksExactThenNamePrefixThenWordPrefix() {
+        // "paulista": exato (2) antes da liga que só tem a palavra (10), apesar de menos popular
+        assertEquals(List.of(2L, 10L), ids(index.search("paulista", null, 10)));
+        // "pa": prefixo do nome, por popularidade, depois prefixo de palavra
+        assertEquals(List.of(4L, 2L, 1L, 5L, 10L), ids(index.search("pa", null, 5)));
+    }
+
+    @Test
+    void everyQueryWordMustPrefixAWord() {
+        assertEquals(List.of(1L), ids(index.search("pau sao", null, 10)));
+        assertEquals(List.of(4L), ids(index.search("saint par", null, 10)));
+    }
+
+    @Test
+    void filtersByType() {
+        assertEquals(List.of(10L), ids(index.search("paulista", SearchEntryType.LEAGUE, 10)));
+        assertEquals(List.of(2L), ids(index.search("paulista", SearchEntryType.TEAM, 10)));
+    }
+
+    @Test
+    void fallsBackToTrigramsForTypos() {
+        List<Long> result = ids(index.search("sao paolo", null, 1));
+        assertEquals(List.of(1L), result);
+        assertTrue(ids(index.search("santso", null, 5)).contains(3L));
+    }
+
+    @Test
+    void fuzzyResultsOnlyFillTheRemainingSlots() {
+        List<Long> result = ids(index.search("paulo", null, 3));
+        assertEquals(List.of(1L), result.subList(0, 1)); // Prefixo primeiro
+        assertEquals(result.size(), result.stream().distinct().count());
+    }
+
+    @Test
+    void emptyOrTooShortQueries() {
+        assertTrue(index.search("", null, 10).isEmpty());
+        assertTrue(index.search("??", null, 10).isEmpty());
+        assertTrue(index.search("sao", null, 0).isEmpty());
+        assertTrue(index.search("xz", null, 10).isEmpty()); // Curta demais para a busca por trigramas
+        assertTrue(SearchIndex.EMPTY.search("sao", null, 10).isEmpty());
+    }
+
+    private static SearchEntry team(long id, String name, int popularity) {
+        return new SearchEntry(SearchEntryType.TEAM, id, name, "Brazil", null, popularity);
+    }
+
+    private static SearchEntry league(long id, String name, int popularity) {
+        return new SearchEntry(SearchEntryType.LEAGUE, id, name, "Brazil", null, popularity);
+    }
+
+    private static List<Long> ids(List<SearchEntry> entries) {
+        return entries.stream().map(SearchEntry::id).toList();
+    }
+}
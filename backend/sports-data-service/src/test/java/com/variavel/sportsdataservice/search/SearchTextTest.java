@@ -0,0 +1,39 @@
+package com.variavel.sportsdataservice.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchTextTest {
+
+    @Test
+    void removesAccentsAndLowercases() {
+        assertEquals("sao paulo", SearchText.fold("São Paulo"));
+        assertEquals("gremio", SearchText.fold("GRÊMIO"));
+        assertEquals("atletico mineiro", SearchText.fold("Atlético Mineiro"));
+    }
+
+    @Test
+    void collapsesSeparatorsIntoSingleSpaces() {
+        assertEquals("sao paulo", SearchText.fold("  sao--paulo  "));
+        assertEquals("paris saint germain", SearchText.fold("Paris Saint-Germain"));
+        assertEquals("1 fc koln", SearchText.fold("1. FC Köln"));
+        assertEquals("", SearchText.fold(" - "));
+        assertEquals("", SearchText.fold(null));
+    }
+
+    @Test
+    void foldsLettersWithoutDecomposition() {
+        assertEquals("borussia monchengladbach", SearchText.fold("Borussia Mönchengladbach"));
+        assertEquals("bodo glimt", SearchText.fold("Bodø/Glimt"));
+        assertEquals("lodz", SearchText.fold("Łódź"));
+        assertEquals("strasse", SearchText.fold("Straße"));
+    }
+
+    @Test
+    void splitsFoldedTextIntoWords() {
+        assertArrayEquals(new String[]{"sao", "paulo"}, SearchText.tokens("sao paulo"));
+        assertEquals(0, SearchText.tokens("").length);
+    }
+}
@@ -0,0 +1,87 @@
+package com.variavel.sportsdataservice.simulation;
+
+import com.variavel.sportsdataservice.domain.Fixture;
+import com.variavel.sportsdataservice.domain.FixtureStatus;
+import com.variavel.sportsdataservice.domain.Team;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SeasonModelTest {
+
+    private final Team home = team(1L, "Home");
+    private final Team away = team(2L, "Away");
+
+    @Test
+    void finishedFixturesCountInTheCurrentTable() {
+        SeasonModel model = SeasonModel.from(List.of(fixture(10L, home, away, FixtureStatus.FINISHED, 90, 3, 1)));
+
+        assertEquals(0, model.fixtureCount);
+        assertEquals(3, model.points[0]);
+        assertEquals(0, model.points[1]);
+        assertEquals(3, model.goalsFor[0]);
+        assertEquals(1, model.goalsAgainst[0]);
+    }
+
+    @Test
+    void liveFixtureStartsFromItsCurrentScore() {
+        SeasonModel model = SeasonModel.from(List.of(fixture(10L, home, away, "Second Half", 70, 2, 1)));
+
+        assertEquals(1, model.fixtureCount);
+        assertEquals(2, model.homeBaseGoals[0]);
+        assertEquals(1, model.awayBaseGoals[0]);
+    }
+
+    @Test
+    void liveFixtureWithoutElapsedStillKeepsItsScore() {
+        SeasonModel model = SeasonModel.from(List.of(fixture(10L, home, away, "Halftime", null, 0, 2)));
+
+        assertEquals(0, model.homeBaseGoals[0]);
+        assertEquals(2, model.awayBaseGoals[0]);
+    }
+
+    @Test
+    void liveFixtureAtFullTimeKeepsTheLeaderWinningEverySimulation() {
+        // Aos 90 minutos não sobra tempo a simular: o placar atual (2 x 1) decide a partida em todas as temporadas
+        SeasonModel model = SeasonModel.from(List.of(fixture(10L, home, away, "Second Half", 90, 2, 1)));
+
+        SimulationTally tally = new SeasonSimulationTask(model, 1_000, new SplittableRandom(42)).invoke();
+
+        assertEquals(1_000, tally.iterations);
+        assertEquals(3_000, tally.pointsSum[0]);
+        assertEquals(0, tally.pointsSum[1]);
+        assertEquals(1_000, tally.positionCounts[0]); // Mandante em 1º em todas
+    }
+
+    @Test
+    void notStartedFixtureHasNoBaseGoals() {
+        SeasonModel model = SeasonModel.from(List.of(fixture(10L, home, away, FixtureStatus.NOT_STARTED, null, null, null)));
+
+        assertEquals(1, model.fixtureCount);
+        assertEquals(0, model.homeBaseGoals[0]);
+        assertEquals(0, model.awayBaseGoals[0]);
+    }
+
+    private static Team team(long id, String name) {
+        Team team = new Team();
+        team.setId(id);
+        team.setName(name);
+        return team;
+    }
+
+    private static Fixture fixture(long id, Team homeTeam, Team awayTeam, String status, Integer elapsed,
+                                   Integer homeGoals, Integer awayGoals) {
+        Fixture fixture = new Fixture();
+        fixture.setId(id);
+        fixture.setHomeTeam(homeTeam);
+        fixture.setAwayTeam(awayTeam);
+        fixture.setStatus(status);
+        fixture.setElapsed(elapsed);
+        fixture.setHomeGoals(homeGoals);
+        fixture.setAwayGoals(awayGoals);
+        return fixture;
+    }
+}
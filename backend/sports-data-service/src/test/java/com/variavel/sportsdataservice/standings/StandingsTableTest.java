@@ -0,0 +1,142 @@
+package com.variavel.sportsdataservice.standings;
+
+import com.variavel.sportsdataservice.dto.StandingDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StandingsTableTest {
+
+    private static final long HOME = 1L;
+    private static final long AWAY = 2L;
+    private static final long THIRD = 3L;
+
+    private StandingsTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new StandingsTable();
+        table.addTeam(HOME, "Home", null);
+        table.addTeam(AWAY, "Away", null);
+        table.markReady();
+    }
+
+    @Test
+    void finishedResultUpdatesBothTeams() {
+        table.apply(finished(100L, HOME, AWAY, 1, 3, 1));
+
+        StandingDto home = row(table.snapshot(), HOME);
+        StandingDto away = row(table.snapshot(), AWAY);
+        assertEquals(1, home.getPosition());
+        assertEquals(3, home.getPoints());
+        assertEquals(1, home.getWon());
+        assertEquals(2, home.getGoalDifference());
+        assertEquals("W", home.getForm());
+        assertEquals(0, away.getPoints());
+        assertEquals(1, away.getLost());
+        assertEquals("L", away.getForm());
+    }
+
+    @Test
+    void correctionReplacesThePreviousResult() {
+        table.apply(finished(100L, HOME, AWAY, 1, 3, 1));
+        table.apply(finished(100L, HOME, AWAY, 1, 1, 1)); // Placar corrigido para empate
+
+        StandingDto home = row(table.snapshot(), HOME);
+        assertEquals(1, home.getPlayed());
+        assertEquals(1, home.getPoints());
+        assertEquals(0, home.getWon());
+        assertEquals(1, home.getDrawn());
+        assertEquals(1, home.getGoalsFor());
+        assertEquals("D", home.getForm());
+        assertEquals(1, row(table.snapshot(), AWAY).getPoints());
+    }
+
+    @Test
+    void notFinishedAgainRevertsTheResult() {
+        table.apply(finished(100L, HOME, AWAY, 1, 3, 1));
+        table.apply(new FixtureResult(100L, HOME, AWAY, 1, false, 3, 1));
+
+        StandingDto home = row(table.snapshot(), HOME);
+        assertEquals(0, home.getPlayed());
+        assertEquals(0, home.getPoints());
+        assertEquals(0, home.getGoalsFor());
+        assertEquals("", home.getForm());
+    }
+
+    @Test
+    void repeatedEventIsIgnored() {
+        table.apply(finished(100L, HOME, AWAY, 1, 2, 0));
+        table.apply(finished(100L, HOME, AWAY, 1, 2, 0));
+
+        assertEquals(1, row(table.snapshot(), HOME).getPlayed());
+        assertEquals(3, row(table.snapshot(), HOME).getPoints());
+    }
+
+    @Test
+    void eventsDuringLoadAreAppliedAfterTheLoadedState() {
+        StandingsTable loading = new StandingsTable();
+        loading.addTeam(HOME, "Home", null);
+        loading.addTeam(AWAY, "Away", null);
+        // Evento chega durante a leitura do banco, que ainda traz o placar antigo
+        loading.apply(finished(100L, HOME, AWAY, 1, 0, 1));
+        loading.load(finished(100L, HOME, AWAY, 1, 2, 0));
+        loading.markReady();
+
+        assertEquals(1, row(loading.snapshot(), HOME).getPlayed());
+        assertEquals(0, row(loading.snapshot(), HOME).getPoints());
+        assertEquals(3, row(loading.snapshot(), AWAY).getPoints());
+    }
+
+    @Test
+    void tieBreakOrderIsPointsThenGoalDifferenceThenGoalsForThenName() {
+        table.addTeam(THIRD, "Third", null);
+        table.addTeam(4L, "Alpha", null);
+        // Home e Away com 3 pontos e saldo +2; Home marcou mais gols
+        table.apply(finished(100L, HOME, THIRD, 1, 4, 2));
+        table.apply(finished(101L, AWAY, 4L, 1, 2, 0));
+        // Third vence e empata em pontos com os dois, mas com saldo menor
+        table.apply(finished(102L, THIRD, 4L, 2, 1, 0));
+
+        List<StandingDto> standings = table.snapshot();
+        assertEquals(HOME, standings.get(0).getTeamId());
+        assertEquals(AWAY, standings.get(1).getTeamId());
+        assertEquals(THIRD, standings.get(2).getTeamId());
+        assertEquals(4L, standings.get(3).getTeamId());
+    }
+
+    @Test
+    void teamsWithIdenticalRecordsAreOrderedByName() {
+        table.addTeam(THIRD, "Alpha", null);
+
+        List<StandingDto> standings = table.snapshot();
+        assertEquals("Alpha", standings.get(0).getTeamName());
+        assertEquals("Away", standings.get(1).getTeamName());
+        assertEquals("Home", standings.get(2).getTeamName());
+    }
+
+    @Test
+    void formListsTheMostRecentResultFirst() {
+        table.apply(finished(100L, HOME, AWAY, 1, 1, 0));
+        table.apply(finished(102L, HOME, AWAY, 3, 0, 1));
+        // Chega por último, mas foi disputada entre as duas
+        table.apply(finished(101L, AWAY, HOME, 2, 1, 1));
+
+        assertEquals("LDW", row(table.snapshot(), HOME).getForm());
+    }
+
+    private static FixtureResult finished(long apiId, long homeTeamId, long awayTeamId, long date,
+                                          int homeGoals, int awayGoals) {
+        return new FixtureResult(apiId, homeTeamId, awayTeamId, date, true, homeGoals, awayGoals);
+    }
+
+    private static StandingDto row(List<StandingDto> standings, long teamId) {
+        return standings.stream()
+                .filter(standing -> standing.getTeamId() == teamId)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,84 @@
+package com.variavel.sportsdataservice.timeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimelineCodecTest {
+
+    private static final List<TimelineEvent> EVENTS = List.of(
+            new TimelineEvent(12, 0, TimelineEventType.GOAL, true, 10_001, 10_002),
+            new TimelineEvent(45, 3, TimelineEventType.YELLOW_CARD, false, 20_001, 0),
+            new TimelineEvent(61, 0, TimelineEventType.SUBSTITUTION, false, 20_012, 20_007),
+            new TimelineEvent(90, 7, TimelineEventType.PENALTY_GOAL, true, 10_009, 0));
+
+    @Test
+    void roundTrip() {
+        byte[] blob = TimelineCodec.encode(EVENTS);
+
+        assertEquals(TimelineCodec.HEADER_SIZE + EVENTS.size() * TimelineCodec.RECORD_SIZE, blob.length);
+        assertEquals(TimelineCodec.VERSION, blob[0]);
+        assertEquals(EVENTS, TimelineCodec.decode(blob));
+    }
+
+    @Test
+    void tailAppendedToAPrefixEqualsTheFullBlob() {
+        // Como o CONCAT no banco: blob já gravado com os 2 primeiros + registros novos
+        byte[] stored = TimelineCodec.encode(EVENTS.subList(0, 2));
+        byte[] tail = TimelineCodec.encodeTail(EVENTS, 2);
+        byte[] concatenated = Arrays.copyOf(stored, stored.length + tail.length);
+        System.arraycopy(tail, 0, concatenated, stored.length, tail.length);
+
+        assertEquals(2 * TimelineCodec.RECORD_SIZE, tail.length);
+        assertArrayEquals(TimelineCodec.encode(EVENTS), concatenated);
+        assertEquals(EVENTS, TimelineCodec.decode(concatenated));
+        assertEquals(0, TimelineCodec.encodeTail(EVENTS, EVENTS.size()).length);
+    }
+
+    @Test
+    void emptyTimelines() {
+        assertTrue(TimelineCodec.decode(null).isEmpty());
+        assertTrue(TimelineCodec.decode(new byte[0]).isEmpty());
+        assertTrue(TimelineCodec.decode(TimelineCodec.encode(List.of())).isEmpty());
+    }
+
+    @Test
+    void ignoresAnIncompleteTrailingRecord() {
+        byte[] blob = TimelineCodec.encode(EVENTS);
+        byte[] truncated = Arrays.copyOf(blob, blob.length - 5);
+
+        assertEquals(EVENTS.subList(0, 3), TimelineCodec.decode(truncated));
+    }
+
+    @Test
+    void clampsExtraMinuteToOneByte() {
+        List<TimelineEvent> decoded = TimelineCodec.decode(TimelineCodec.encode(List.of(
+                new TimelineEvent(120, 300, TimelineEventType.GOAL, true, 1, 0),
+                new TimelineEvent(5, -1, TimelineEventType.VAR, false, 0, 0))));
+
+        assertEquals(255, decoded.get(0).extraMinute());
+        assertEquals(0, decoded.get(1).extraMinute());
+    }
+
+    @Test
+    void unknownTypeCodeDecodesAsOther() {
+        byte[] blob = TimelineCodec.encode(EVENTS.subList(0, 1));
+        blob[TimelineCodec.HEADER_SIZE + 3] = 15; // Byte do tipo
+
+        assertEquals(TimelineEventType.OTHER, TimelineCodec.decode(blob).get(0).type());
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        byte[] blob = TimelineCodec.encode(EVENTS);
+        blob[0] = 2;
+
+        assertThrows(IllegalStateException.class, () -> TimelineCodec.decode(blob));
+    }
+}
@@ -0,0 +1,61 @@
+package com.variavel.user_service.controller;
+
+import com.variavel.user_service.dto.FeedFixtureDto;
+import com.variavel.user_service.dto.FollowsDto;
+import com.variavel.user_service.feed.FollowTarget;
+import com.variavel.user_service.service.PersonalFeedService;
+import com.variavel.user_service.service.PersonalFeedService.FollowResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/users/{id}")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final PersonalFeedService personalFeedService;
+
+    // Partidas ao vivo e por jogar dos times e ligas seguidos (ao vivo primeiro, depois por data)
+    @GetMapping("/feed")
+    public ResponseEntity<List<FeedFixtureDto>> getFeed(@PathVariable Long id) {
+        return ResponseEntity.ok(personalFeedService.getFeed(id));
+    }
+
+    @GetMapping("/follows")
+    public ResponseEntity<FollowsDto> getFollows(@PathVariable Long id) {
+        return ResponseEntity.ok(personalFeedService.getFollows(id));
+    }
+
+    @PutMapping("/follows/teams/{teamId}")
+    public ResponseEntity<Void> followTeam(@PathVariable Long id, @PathVariable Long teamId) {
+        return toResponse(personalFeedService.follow(id, FollowTarget.TEAM, teamId));
+    }
+
+    @DeleteMapping("/follows/teams/{teamId}")
+    public ResponseEntity<Void> unfollowTeam(@PathVariable Long id, @PathVariable Long teamId) {
+        return toResponse(personalFeedService.unfollow(id, FollowTarget.TEAM, teamId));
+    }
+
+    @PutMapping("/follows/leagues/{leagueId}")
+    public ResponseEntity<Void> followLeague(@PathVariable Long id, @PathVariable Long leagueId) {
+        return toResponse(personalFeedService.follow(id, FollowTarget.LEAGUE, leagueId));
+    }
+
+    @DeleteMapping("/follows/leagues/{leagueId}")
+    public ResponseEntity<Void> unfollowLeague(@PathVariable Long id, @PathVariable Long leagueId) {
+        return toResponse(personalFeedService.unfollow(id, FollowTarget.LEAGUE, leagueId));
+    }
+
+    private static ResponseEntity<Void> toResponse(FollowResult result) {
+        return switch (result) {
+            case FOLLOWED -> ResponseEntity.status(HttpStatus.CREATED).build();
+            case ALREADY_FOLLOWING, UNFOLLOWED -> ResponseEntity.noContent().build();
+            case USER_NOT_FOUND, NOT_FOLLOWING -> ResponseEntity.notFound().build();
+            case LIMIT_REACHED -> ResponseEntity.status(HttpStatus.CONFLICT).build();
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.variavel.user_service.controller;
+
+import com.variavel.user_service.dto.CreateUserDto;
+import com.variavel.user_service.dto.UserDto;
+import com.variavel.user_service.service.FriendGraphService;
+import com.variavel.user_service.service.FriendGraphService.FriendshipResult;
+import com.variavel.user_service.service.UserService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final UserService userService;
+    private final FriendGraphService friendGraphService;
+
+    @PostMapping
+    public ResponseEntity<UserDto> createUser(@Valid @RequestBody CreateUserDto request) {
+        return userService.createUser(request)
+                .map(user -> ResponseEntity.status(HttpStatus.CREATED).body(user))
+                .orElse(ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<UserDto> getUser(@PathVariable Long id) {
+        return userService.getUser(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // IDs de todos os amigos do usuário (em memória, ordenados), numa única chamada
+    @GetMapping("/{id}/friends")
+    public ResponseEntity<long[]> getFriendIds(@PathVariable Long id) {
+        return ResponseEntity.ok(friendGraphService.getFriendIds(id));
+    }
+
+    @PutMapping("/{id}/friends/{friendId}")
+    public ResponseEntity<Void> addFriend(@PathVariable Long id, @PathVariable Long friendId) {
+        FriendshipResult result = friendGraphService.addFriend(id, friendId);
+        return switch (result) {
+            case CREATED -> ResponseEntity.status(HttpStatus.CREATED).build();
+            case ALREADY_FRIENDS -> ResponseEntity.noContent().build();
+            case USER_NOT_FOUND -> ResponseEntity.notFound().build();
+            case SELF -> ResponseEntity.badRequest().build();
+            case LIMIT_REACHED -> ResponseEntity.status(HttpStatus.CONFLICT).build();
+            default -> ResponseEntity.internalServerError().build();
+        };
+    }
+
+    @DeleteMapping("/{id}/friends/{friendId}")
+    public ResponseEntity<Void> removeFriend(@PathVariable Long id, @PathVariable Long friendId) {
+        FriendshipResult result = friendGraphService.removeFriend(id, friendId);
+        return result == FriendshipResult.REMOVED ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+}
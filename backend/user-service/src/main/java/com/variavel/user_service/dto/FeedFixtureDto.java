@@ -0,0 +1,22 @@
+package com.variavel.user_service.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+// Partida no feed "meus jogos". Os objetos ficam compartilhados entre os feeds em memória: não alterar depois de criados.
+@Data
+@Builder
+public class FeedFixtureDto {
+    private Long fixtureId;
+    private Long leagueId;
+    private Long homeTeamId;
+    private Long awayTeamId;
+    private Instant date;
+    private String status;
+    private Integer elapsed;
+    private Integer homeGoals;
+    private Integer awayGoals;
+    private boolean live;
+}
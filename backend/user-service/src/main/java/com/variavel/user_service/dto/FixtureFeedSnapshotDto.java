@@ -0,0 +1,16 @@
+package com.variavel.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Partidas de um intervalo no formato do feed e o offset de onde continuar o stream (sports-data-service)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureFeedSnapshotDto {
+    private Long sequence;
+    private List<FixtureEventDto> fixtures;
+}
@@ -0,0 +1,11 @@
+package com.variavel.user_service.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class FollowsDto {
+    private long[] teamIds; // Ordenados
+    private long[] leagueIds; // Ordenados
+}
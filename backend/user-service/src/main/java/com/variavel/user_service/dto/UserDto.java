@@ -0,0 +1,17 @@
+package com.variavel.user_service.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class UserDto {
+    private Long id;
+    private String username;
+    private String displayName;
+    private String avatarUrl;
+    private Integer friendCount;
+    private Instant createdAt;
+}
@@ -0,0 +1,154 @@
+package com.variavel.user_service.feed;
+
+import com.variavel.user_service.dto.FeedFixtureDto;
+import com.variavel.user_service.dto.FixtureEventDto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Partidas ainda por jogar ou em andamento dentro do horizonte do feed, indexadas por time e por liga.
+// Cada partida guarda o offset do feed que produziu o seu estado: um snapshot mais antigo que um evento já
+// aplicado não desfaz o evento. Partida encerrada ou anulada sai da janela.
+// Não é thread-safe: quem usa deve sincronizar o acesso.
+public class FixtureWindow {
+
+    // Ao vivo primeiro, depois pela data de início
+    public static final Comparator<FeedFixtureDto> FEED_ORDER = Comparator
+            .comparing((FeedFixtureDto fixture) -> !fixture.isLive())
+            .thenComparing(FeedFixtureDto::getDate)
+            .thenComparing(FeedFixtureDto::getFixtureId);
+
+    // fixture == null: partida que saiu da janela, mantida só pelo offset até o próximo snapshot
+    private record Entry(long fixtureId, FeedFixtureDto fixture, long sequence) {
+    }
+
+    private final Map<Long, Entry> fixtures = new HashMap<>();
+    private final Map<Long, Set<Long>> fixturesByTeam = new HashMap<>();
+    private final Map<Long, Set<Long>> fixturesByLeague = new HashMap<>();
+
+    public int size() {
+        return (int) fixtures.values().stream().filter(entry -> entry.fixture() != null).count();
+    }
+
+    public FeedFixtureDto get(long fixtureId) {
+        Entry entry = fixtures.get(fixtureId);
+        return entry != null ? entry.fixture() : null;
+    }
+
+    // Estado de uma partida vindo do stream. Retorna false se o evento é mais antigo que o estado já aplicado.
+    public boolean apply(FixtureEventDto event, Instant horizon) {
+        long sequence = event.getSequence() != null ? event.getSequence() : 0L;
+        Entry current = fixtures.get(event.getFixtureId());
+        if (current != null && current.sequence() >= sequence) {
+            return false;
+        }
+        put(event, sequence, horizon);
+        return true;
+    }
+
+    // Substitui a janela pelo snapshot, preservando as partidas com eventos posteriores a ele
+    public void reset(List<FixtureEventDto> snapshot, long sequence, Instant horizon) {
+        List<Entry> newer = new ArrayList<>();
+        for (Entry entry : fixtures.values()) {
+            if (entry.sequence() > sequence) {
+                newer.add(entry);
+            }
+        }
+        fixtures.clear();
+        fixturesByTeam.clear();
+        fixturesByLeague.clear();
+        for (FixtureEventDto fixture : snapshot) {
+            put(fixture, sequence, horizon);
+        }
+        for (Entry entry : newer) {
+            remove(entry.fixtureId());
+            index(entry);
+        }
+    }
+
+    // Partidas dos times e ligas seguidos, na ordem do feed. Partidas que já deveriam ter começado há mais de
+    // 'notBefore' sem nunca ficar ao vivo (adiadas sem atualização) não entram.
+    public List<FeedFixtureDto> select(long[] teamIds, long[] leagueIds, Instant notBefore, int limit) {
+        Set<Long> ids = new HashSet<>();
+        for (long teamId : teamIds) {
+            ids.addAll(fixturesByTeam.getOrDefault(teamId, Set.of()));
+        }
+        for (long leagueId : leagueIds) {
+            ids.addAll(fixturesByLeague.getOrDefault(leagueId, Set.of()));
+        }
+        List<FeedFixtureDto> selected = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            FeedFixtureDto fixture = fixtures.get(id).fixture();
+            if (fixture.isLive() || !fixture.getDate().isBefore(notBefore)) {
+                selected.add(fixture);
+            }
+        }
+        selected.sort(FEED_ORDER);
+        return selected.size() > limit ? List.copyOf(selected.subList(0, limit)) : List.copyOf(selected);
+    }
+
+    private void put(FixtureEventDto event, long sequence, Instant horizon) {
+        remove(event.getFixtureId());
+        if (event.isFinished() || event.getDate() == null || !event.getDate().isBefore(horizon)) {
+            // Fora da janela; o offset fica guardado para que um snapshot antigo não traga a partida de volta
+            fixtures.put(event.getFixtureId(), new Entry(event.getFixtureId(), null, sequence));
+            return;
+        }
+        index(new Entry(event.getFixtureId(), FeedFixtureDto.builder()
+                .fixtureId(event.getFixtureId())
+                .leagueId(event.getLeagueId())
+                .homeTeamId(event.getHomeTeamId())
+                .awayTeamId(event.getAwayTeamId())
+                .date(event.getDate())
+                .status(event.getStatus())
+                .elapsed(event.getElapsed())
+                .homeGoals(event.getHomeGoals())
+                .awayGoals(event.getAwayGoals())
+                .live(event.isLive())
+                .build(), sequence));
+    }
+
+    private void index(Entry entry) {
+        fixtures.put(entry.fixtureId(), entry);
+        FeedFixtureDto fixture = entry.fixture();
+        if (fixture == null) {
+            return;
+        }
+        addTo(fixturesByTeam, fixture.getHomeTeamId(), fixture.getFixtureId());
+        addTo(fixturesByTeam, fixture.getAwayTeamId(), fixture.getFixtureId());
+        addTo(fixturesByLeague, fixture.getLeagueId(), fixture.getFixtureId());
+    }
+
+    private void remove(long fixtureId) {
+        Entry entry = fixtures.remove(fixtureId);
+        if (entry == null || entry.fixture() == null) {
+            return;
+        }
+        FeedFixtureDto fixture = entry.fixture();
+        removeFrom(fixturesByTeam, fixture.getHomeTeamId(), fixtureId);
+        removeFrom(fixturesByTeam, fixture.getAwayTeamId(), fixtureId);
+        removeFrom(fixturesByLeague, fixture.getLeagueId(), fixtureId);
+    }
+
+    private static void addTo(Map<Long, Set<Long>> index, Long key, long fixtureId) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new HashSet<>()).add(fixtureId);
+        }
+    }
+
+    private static void removeFrom(Map<Long, Set<Long>> index, Long key, long fixtureId) {
+        if (key == null) {
+            return;
+        }
+        Set<Long> ids = index.get(key);
+        if (ids != null && ids.remove(fixtureId) && ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
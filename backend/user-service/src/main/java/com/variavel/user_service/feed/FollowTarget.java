@@ -0,0 +1,7 @@
+package com.variavel.user_service.feed;
+
+// O que um usuário pode seguir (coluna target_type de user_follows)
+public enum FollowTarget {
+    TEAM,
+    LEAGUE
+}
@@ -0,0 +1,86 @@
+package com.variavel.user_service.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Grafo de amizades em memória: para cada usuário, um long[] ordenado com os IDs dos amigos.
+// Os arrays são imutáveis depois de publicados (cópia na escrita), então a leitura não trava nem copia;
+// alterações são raras perto das leituras e custam O(grau) por usuário.
+public class FriendGraph {
+
+    private static final long[] NO_FRIENDS = new long[0];
+
+    private final ConcurrentHashMap<Long, long[]> adjacency;
+
+    public FriendGraph(int expectedUsers) {
+        this.adjacency = new ConcurrentHashMap<>(expectedUsers);
+    }
+
+    // Array compartilhado: quem recebe não deve alterá-lo
+    public long[] friendsOf(long userId) {
+        return adjacency.getOrDefault(userId, NO_FRIENDS);
+    }
+
+    public int degree(long userId) {
+        return friendsOf(userId).length;
+    }
+
+    public boolean areFriends(long userId, long friendId) {
+        return Arrays.binarySearch(friendsOf(userId), friendId) >= 0;
+    }
+
+    // Amizade é simétrica: atualiza os dois lados
+    public void add(long userId, long friendId) {
+        adjacency.compute(userId, (id, friends) -> insert(friends, friendId));
+        adjacency.compute(friendId, (id, friends) -> insert(friends, userId));
+    }
+
+    public void remove(long userId, long friendId) {
+        adjacency.computeIfPresent(userId, (id, friends) -> delete(friends, friendId));
+        adjacency.computeIfPresent(friendId, (id, friends) -> delete(friends, userId));
+    }
+
+    // Carga inicial: 'friends' precisa estar ordenado e sem repetições
+    public void load(long userId, long[] friends) {
+        adjacency.put(userId, friends);
+    }
+
+    public void clear() {
+        adjacency.clear();
+    }
+
+    public int userCount() {
+        return adjacency.size();
+    }
+
+    private static long[] insert(long[] friends, long friendId) {
+        if (friends == null) {
+            return new long[]{friendId};
+        }
+        int index = Arrays.binarySearch(friends, friendId);
+        if (index >= 0) {
+            return friends;
+        }
+        int at = -index - 1;
+        long[] updated = new long[friends.length + 1];
+        System.arraycopy(friends, 0, updated, 0, at);
+        updated[at] = friendId;
+        System.arraycopy(friends, at, updated, at + 1, friends.length - at);
+        return updated;
+    }
+
+    // Retorna null quando o usuário fica sem amigos (remove a entrada do mapa)
+    private static long[] delete(long[] friends, long friendId) {
+        int index = Arrays.binarySearch(friends, friendId);
+        if (index < 0) {
+            return friends;
+        }
+        if (friends.length == 1) {
+            return null;
+        }
+        long[] updated = new long[friends.length - 1];
+        System.arraycopy(friends, 0, updated, 0, index);
+        System.arraycopy(friends, index + 1, updated, index, friends.length - index - 1);
+        return updated;
+    }
+}
@@ -0,0 +1,10 @@
+package com.variavel.user_service.repository;
+
+import com.variavel.user_service.domain.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, Long> {
+    boolean existsByUsername(String username);
+}
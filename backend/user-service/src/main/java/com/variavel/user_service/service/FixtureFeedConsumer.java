@@ -0,0 +1,123 @@
+package com.variavel.user_service.service;
+
+import com.variavel.user_service.dto.FixtureEventDto;
+import com.variavel.user_service.dto.FixtureFeedSnapshotDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+// Mantém a janela de partidas do PersonalFeedService a partir do sports-data-service: a cada (re)conexão lê um
+// snapshot das partidas do horizonte do feed e segue o stream SSE de eventos a partir do offset do snapshot.
+// O estado fica só em memória, então não há offset gravado: depois de uma queda, o snapshot novo repõe tudo.
+@Service
+public class FixtureFeedConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(FixtureFeedConsumer.class);
+
+    private static final ParameterizedTypeReference<ServerSentEvent<FixtureEventDto>> EVENT_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    private final WebClient webClient;
+    private final PersonalFeedService personalFeedService;
+    private final boolean enabled;
+    private volatile boolean connected;
+    private Disposable subscription;
+
+    public FixtureFeedConsumer(WebClient.Builder webClientBuilder,
+                               PersonalFeedService personalFeedService,
+                               @Value("${services.sports-data.base-url}") String sportsDataBaseUrl,
+                               @Value("${feed.consumer.enabled:true}") boolean enabled) {
+        this.webClient = webClientBuilder.baseUrl(sportsDataBaseUrl).build();
+        this.personalFeedService = personalFeedService;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Consumo do feed de partidas desabilitado; o feed \"meus jogos\" fica vazio.");
+            return;
+        }
+        subscription = Flux.defer(() -> loadSnapshot().flatMapMany(this::connect))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> {
+                            connected = false;
+                            log.warn("Feed de partidas indisponível, reconectando: {}", signal.failure().getMessage());
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    // Renova a janela: partidas que entraram no horizonte e limpeza das que saíram.
+    // Sem conexão não faz nada; a reconexão já começa por um snapshot.
+    @Scheduled(fixedDelayString = "${feed.window-refresh-ms:900000}", initialDelayString = "${feed.window-refresh-ms:900000}")
+    public void refreshWindow() {
+        if (!connected) {
+            return;
+        }
+        try {
+            loadSnapshot().block(Duration.ofMinutes(1));
+        } catch (Exception e) {
+            log.warn("Erro ao renovar a janela do feed de partidas: {}", e.getMessage());
+        }
+    }
+
+    // Offset do snapshot aplicado
+    private Mono<Long> loadSnapshot() {
+        Instant from = personalFeedService.windowStart();
+        Instant to = personalFeedService.windowEnd();
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/sports/fixture-events/snapshot")
+                        .queryParam("from", from)
+                        .queryParam("to", to)
+                        .build())
+                .retrieve()
+                .bodyToMono(FixtureFeedSnapshotDto.class)
+                .publishOn(Schedulers.boundedElastic())
+                .map(snapshot -> {
+                    long sequence = snapshot.getSequence() != null ? snapshot.getSequence() : 0L;
+                    personalFeedService.onSnapshot(snapshot.getFixtures() != null ? snapshot.getFixtures() : List.of(), sequence);
+                    return sequence;
+                });
+    }
+
+    private Flux<Void> connect(long offset) {
+        log.info("Conectando ao feed de eventos de partidas a partir do offset {}...", offset);
+        connected = true;
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/sports/fixture-events").queryParam("after", offset).build())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(EVENT_TYPE)
+                .filter(sse -> sse.data() != null) // Ignora os comentários de keep-alive
+                // Em ordem e fora do event loop (a distribuição aos feeds disputa o lock com as leituras que ativam usuários)
+                .concatMap(sse -> Mono.fromRunnable(() -> personalFeedService.onFixtureEvent(sse.data())).subscribeOn(Schedulers.boundedElastic()).then())
+                // O servidor não encerra o stream; se encerrar, tratamos como queda para reconectar
+                .concatWith(Mono.<Void>error(new IllegalStateException("Fixture event stream completed")));
+    }
+}
@@ -0,0 +1,145 @@
+package com.variavel.user_service.service;
+
+import com.variavel.user_service.graph.FriendGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+
+// Amizades: a tabela friendships é a fonte da verdade e o FriendGraph, carregado inteiro na inicialização,
+// atende todas as leituras (lista de amigos para o ranking entre amigos) sem consultar o banco.
+@Service
+public class FriendGraphService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(FriendGraphService.class);
+
+    // Trava as linhas dos dois usuários (na ordem do índice): pedidos simultâneos envolvendo um deles passam um de
+    // cada vez pela contagem abaixo
+    private static final String LOCK_USERS_SQL = "SELECT id FROM users WHERE id IN (?, ?) FOR UPDATE";
+    // O limite dos dois lados é conferido na própria inserção (nada é inserido se um deles já está no máximo)
+    private static final String ADD_FRIEND_SQL = "INSERT IGNORE INTO friendships (user_id, friend_id, created_at) "
+            + "SELECT ?, ?, ? FROM DUAL WHERE (SELECT COUNT(*) FROM friendships WHERE user_id = ?) < ? "
+            + "AND (SELECT COUNT(*) FROM friendships WHERE user_id = ?) < ?";
+    private static final String ADD_REVERSE_SQL = "INSERT IGNORE INTO friendships (user_id, friend_id, created_at) VALUES (?, ?, ?)";
+    private static final String ARE_FRIENDS_SQL = "SELECT COUNT(*) FROM friendships WHERE user_id = ? AND friend_id = ?";
+
+    public enum FriendshipResult {
+        CREATED,
+        ALREADY_FRIENDS,
+        REMOVED,
+        NOT_FRIENDS,
+        USER_NOT_FOUND,
+        SELF, // Usuário tentando se adicionar
+        LIMIT_REACHED
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FriendGraph graph;
+    private final int maxFriendsPerUser;
+
+    public FriendGraphService(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${friends.expected-users:100000}") int expectedUsers,
+                              @Value("${friends.max-per-user:5000}") int maxFriendsPerUser) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.graph = new FriendGraph(expectedUsers);
+        this.maxFriendsPerUser = maxFriendsPerUser;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    public long[] getFriendIds(long userId) {
+        return graph.friendsOf(userId);
+    }
+
+    public int getFriendCount(long userId) {
+        return graph.degree(userId);
+    }
+
+    public FriendshipResult addFriend(long userId, long friendId) {
+        if (userId == friendId) {
+            return FriendshipResult.SELF;
+        }
+        if (graph.areFriends(userId, friendId)) {
+            return FriendshipResult.ALREADY_FRIENDS;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        FriendshipResult result = transactionTemplate.execute(status -> {
+            if (jdbcTemplate.queryForList(LOCK_USERS_SQL, Long.class, userId, friendId).size() < 2) {
+                return FriendshipResult.USER_NOT_FOUND;
+            }
+            if (jdbcTemplate.update(ADD_FRIEND_SQL, userId, friendId, now,
+                    userId, maxFriendsPerUser, friendId, maxFriendsPerUser) == 0) {
+                Integer friends = jdbcTemplate.queryForObject(ARE_FRIENDS_SQL, Integer.class, userId, friendId);
+                return friends != null && friends > 0 ? FriendshipResult.ALREADY_FRIENDS : FriendshipResult.LIMIT_REACHED;
+            }
+            jdbcTemplate.update(ADD_REVERSE_SQL, friendId, userId, now);
+            return FriendshipResult.CREATED;
+        });
+        // Depois do commit: o grafo nunca mostra uma amizade que não está no banco
+        if (result == FriendshipResult.CREATED || result == FriendshipResult.ALREADY_FRIENDS) {
+            graph.add(userId, friendId);
+        }
+        return result;
+    }
+
+    public FriendshipResult removeFriend(long userId, long friendId) {
+        if (!graph.areFriends(userId, friendId)) {
+            return FriendshipResult.NOT_FRIENDS;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("DELETE FROM friendships WHERE (user_id = ? AND friend_id = ?) OR (user_id = ? AND friend_id = ?)",
+                        userId, friendId, friendId, userId));
+        graph.remove(userId, friendId);
+        return FriendshipResult.REMOVED;
+    }
+
+    public void reload() {
+        long start = System.nanoTime();
+        long[] currentUser = {Long.MIN_VALUE};
+        long[][] friends = {new long[16]};
+        int[] count = {0};
+        long[] edges = {0};
+        graph.clear();
+        // A ordem da chave primária (user_id, friend_id) entrega cada lista já agrupada e ordenada;
+        // fetchSize MIN_VALUE faz o driver do MySQL trazer o resultado em streaming
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT user_id, friend_id FROM friendships ORDER BY user_id, friend_id");
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, rs -> {
+            long userId = rs.getLong(1);
+            if (userId != currentUser[0]) {
+                if (count[0] > 0) {
+                    graph.load(currentUser[0], Arrays.copyOf(friends[0], count[0]));
+                }
+                currentUser[0] = userId;
+                count[0] = 0;
+            }
+            if (count[0] == friends[0].length) {
+                friends[0] = Arrays.copyOf(friends[0], count[0] << 1);
+            }
+            friends[0][count[0]++] = rs.getLong(2);
+            edges[0]++;
+        });
+        if (count[0] > 0) {
+            graph.load(currentUser[0], Arrays.copyOf(friends[0], count[0]));
+        }
+        log.info("Grafo de amizades carregado: {} usuários, {} amizades em {} ms.",
+                graph.userCount(), edges[0] / 2, (System.nanoTime() - start) / 1_000_000);
+    }
+}
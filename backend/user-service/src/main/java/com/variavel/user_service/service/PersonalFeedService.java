@@ -0,0 +1,372 @@
+package com.variavel.user_service.service;
+
+import com.variavel.user_service.dto.FeedFixtureDto;
+import com.variavel.user_service.dto.FixtureEventDto;
+import com.variavel.user_service.dto.FollowsDto;
+import com.variavel.user_service.feed.FixtureWindow;
+import com.variavel.user_service.feed.FollowTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Feed "meus jogos": partidas por jogar e ao vivo dos times e ligas que o usuário segue.
+// Para os usuários ativos (que abriram o feed nos últimos minutos) a lista fica pronta em memória e a leitura é uma
+// consulta por chave. Cada mudança de partida recebida do sports-data-service (FixtureFeedConsumer) é distribuída só
+// aos usuários ativos que seguem um dos times ou a liga da partida. Usuário inativo tem o feed calculado na leitura
+// a partir da janela de partidas (sem ir ao sports-data-service) e passa a ser ativo.
+//
+// Concorrência: a janela tem um lock de leitura/escrita (só o evento ou snapshot escreve; as seleções dos feeds
+// leem em paralelo) e os índices de seguidores um monitor próprio, usado só para registrar e consultar quem segue.
+// A seleção de cada feed roda fora desses dois; cada feed guarda a versão da janela de que saiu, para que uma
+// seleção atrasada não sobrescreva uma mais nova.
+@Service
+public class PersonalFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(PersonalFeedService.class);
+
+    private static final String FOLLOWS_SQL = "SELECT target_type, target_id FROM user_follows WHERE user_id = ?";
+    // Trava a linha do usuário: os follows simultâneos do mesmo usuário passam um de cada vez pela contagem abaixo
+    private static final String LOCK_USER_SQL = "SELECT id FROM users WHERE id = ? FOR UPDATE";
+    // O limite é conferido na própria inserção (nada é inserido se o usuário já segue o máximo)
+    private static final String FOLLOW_SQL = "INSERT IGNORE INTO user_follows (user_id, target_type, target_id, created_at) "
+            + "SELECT ?, ?, ?, ? FROM DUAL WHERE (SELECT COUNT(*) FROM user_follows WHERE user_id = ?) < ?";
+    private static final String IS_FOLLOWING_SQL = "SELECT COUNT(*) FROM user_follows WHERE user_id = ? AND target_type = ? AND target_id = ?";
+    private static final String UNFOLLOW_SQL = "DELETE FROM user_follows WHERE user_id = ? AND target_type = ? AND target_id = ?";
+
+    public enum FollowResult {
+        FOLLOWED,
+        ALREADY_FOLLOWING,
+        UNFOLLOWED,
+        NOT_FOLLOWING,
+        USER_NOT_FOUND,
+        LIMIT_REACHED
+    }
+
+    // Feed materializado de um usuário ativo. Os seguidos não mudam: seguir/deixar de seguir desativa o usuário
+    // e a próxima leitura monta tudo de novo a partir do banco.
+    private static final class ActiveUser {
+        final long userId;
+        final long[] teamIds;
+        final long[] leagueIds;
+        volatile List<FeedFixtureDto> feed;
+        long feedVersion = -1; // Versão da janela de que 'feed' saiu (com o monitor do próprio usuário)
+        volatile long lastReadMillis;
+
+        ActiveUser(long userId, FollowsDto follows) {
+            this.userId = userId;
+            this.teamIds = follows.getTeamIds();
+            this.leagueIds = follows.getLeagueIds();
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FixtureWindow window = new FixtureWindow();
+    private final ReentrantReadWriteLock windowLock = new ReentrantReadWriteLock();
+    private volatile long windowVersion; // Incrementado com o lock de escrita a cada mudança na janela
+    private final Map<Long, ActiveUser> activeUsers = new ConcurrentHashMap<>();
+    // Índices reversos, só dos usuários ativos: time/liga -> quem segue (com indexLock)
+    private final Object indexLock = new Object();
+    private final Map<Long, Set<Long>> teamFollowers = new HashMap<>();
+    private final Map<Long, Set<Long>> leagueFollowers = new HashMap<>();
+    // Versão dos seguidos por faixa de usuários, incrementada a cada follow/unfollow: uma ativação que leu os
+    // seguidos antes da mudança não é guardada. Usuários na mesma faixa só perdem, raramente, uma ativação.
+    private final AtomicLongArray followsVersions;
+    private final int followsVersionMask;
+    private final Duration horizon;
+    private final Duration startedGrace;
+    private final long activeTtlMillis;
+    private final int maxActiveUsers;
+    private final int maxItems;
+    private final int maxFollowsPerUser;
+
+    public PersonalFeedService(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${feed.window-days:7}") int windowDays,
+                               @Value("${feed.started-grace-hours:6}") int startedGraceHours,
+                               @Value("${feed.active-ttl-minutes:30}") int activeTtlMinutes,
+                               @Value("${feed.max-active-users:200000}") int maxActiveUsers,
+                               @Value("${feed.max-items:50}") int maxItems,
+                               @Value("${feed.max-follows-per-user:200}") int maxFollowsPerUser,
+                               @Value("${feed.follows-version-stripes:4096}") int followsVersionStripes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.horizon = Duration.ofDays(windowDays);
+        this.startedGrace = Duration.ofHours(startedGraceHours);
+        this.activeTtlMillis = Duration.ofMinutes(activeTtlMinutes).toMillis();
+        this.maxActiveUsers = maxActiveUsers;
+        this.maxItems = maxItems;
+        this.maxFollowsPerUser = maxFollowsPerUser;
+        int size = Integer.highestOneBit(Math.max(1, followsVersionStripes - 1)) << 1;
+        this.followsVersions = new AtomicLongArray(size);
+        this.followsVersionMask = size - 1;
+    }
+
+    // Intervalo de datas que o FixtureFeedConsumer pede no snapshot
+    public Instant windowStart() {
+        return Instant.now().minus(startedGrace);
+    }
+
+    public Instant windowEnd() {
+        return Instant.now().plus(horizon);
+    }
+
+    // --- Leitura ---
+    public List<FeedFixtureDto> getFeed(long userId) {
+        ActiveUser user = activeUsers.get(userId);
+        if (user != null) {
+            user.lastReadMillis = System.currentTimeMillis();
+            return user.feed;
+        }
+        return activate(userId);
+    }
+
+    public FollowsDto getFollows(long userId) {
+        ActiveUser user = activeUsers.get(userId);
+        if (user != null) {
+            return FollowsDto.builder().teamIds(user.teamIds.clone()).leagueIds(user.leagueIds.clone()).build();
+        }
+        return loadFollows(userId);
+    }
+
+    // Caminho de leitura para quem não está ativo: seguidos do banco, partidas da janela em memória
+    private List<FeedFixtureDto> activate(long userId) {
+        int stripe = followsStripe(userId);
+        long version = followsVersions.get(stripe);
+        FollowsDto follows = loadFollows(userId);
+        if (follows.getTeamIds().length == 0 && follows.getLeagueIds().length == 0) {
+            return List.of(); // Nada a acompanhar (ou usuário inexistente): não ocupa memória
+        }
+        ActiveUser user = new ActiveUser(userId, follows);
+        user.lastReadMillis = System.currentTimeMillis();
+        refresh(user);
+        synchronized (indexLock) {
+            ActiveUser existing = activeUsers.get(userId);
+            if (existing != null) {
+                return existing.feed;
+            }
+            if (followsVersions.get(stripe) != version || activeUsers.size() >= maxActiveUsers) {
+                return user.feed;
+            }
+            activeUsers.put(userId, user);
+            index(user);
+        }
+        // Uma mudança aplicada entre a seleção e o registro não chegou a este usuário: seleciona de novo
+        if (user.feedVersion != windowVersion) {
+            refresh(user);
+        }
+        return user.feed;
+    }
+
+    private FollowsDto loadFollows(long userId) {
+        List<Long> teams = new ArrayList<>();
+        List<Long> leagues = new ArrayList<>();
+        jdbcTemplate.query(FOLLOWS_SQL, rs -> {
+            String type = rs.getString(1);
+            if (FollowTarget.TEAM.name().equals(type)) {
+                teams.add(rs.getLong(2));
+            } else if (FollowTarget.LEAGUE.name().equals(type)) {
+                leagues.add(rs.getLong(2));
+            }
+        }, userId);
+        return FollowsDto.builder().teamIds(toSortedArray(teams)).leagueIds(toSortedArray(leagues)).build();
+    }
+
+    // --- Seguir / deixar de seguir ---
+    public FollowResult follow(long userId, FollowTarget target, long targetId) {
+        FollowResult result = transactionTemplate.execute(status -> {
+            if (jdbcTemplate.queryForList(LOCK_USER_SQL, Long.class, userId).isEmpty()) {
+                return FollowResult.USER_NOT_FOUND;
+            }
+            if (jdbcTemplate.update(FOLLOW_SQL, userId, target.name(), targetId, Timestamp.from(Instant.now()), userId, maxFollowsPerUser) == 1) {
+                return FollowResult.FOLLOWED;
+            }
+            Integer following = jdbcTemplate.queryForObject(IS_FOLLOWING_SQL, Integer.class, userId, target.name(), targetId);
+            return following != null && following > 0 ? FollowResult.ALREADY_FOLLOWING : FollowResult.LIMIT_REACHED;
+        });
+        if (result == FollowResult.FOLLOWED) {
+            deactivate(userId);
+        }
+        return result;
+    }
+
+    public FollowResult unfollow(long userId, FollowTarget target, long targetId) {
+        if (jdbcTemplate.update(UNFOLLOW_SQL, userId, target.name(), targetId) == 0) {
+            return FollowResult.NOT_FOLLOWING;
+        }
+        deactivate(userId);
+        return FollowResult.UNFOLLOWED;
+    }
+
+    // Depois do commit: a próxima leitura remonta o feed com os seguidos novos
+    private void deactivate(long userId) {
+        followsVersions.incrementAndGet(followsStripe(userId));
+        synchronized (indexLock) {
+            ActiveUser user = activeUsers.remove(userId);
+            if (user != null) {
+                unindex(user);
+            }
+        }
+    }
+
+    // --- Mudanças de partidas ---
+    public void onFixtureEvent(FixtureEventDto event) {
+        if (event.getFixtureId() == null) {
+            return;
+        }
+        FeedFixtureDto before;
+        FeedFixtureDto after;
+        windowLock.writeLock().lock();
+        try {
+            before = window.get(event.getFixtureId());
+            if (!window.apply(event, windowEnd())) {
+                return;
+            }
+            after = window.get(event.getFixtureId());
+            windowVersion++;
+        } finally {
+            windowLock.writeLock().unlock();
+        }
+        if (before == null && after == null) {
+            return; // Partida fora da janela antes e depois
+        }
+        Set<Long> affected = new HashSet<>();
+        synchronized (indexLock) {
+            collectFollowers(before, affected);
+            collectFollowers(after, affected);
+        }
+        for (Long userId : affected) {
+            ActiveUser user = activeUsers.get(userId);
+            if (user != null) {
+                refresh(user);
+            }
+        }
+    }
+
+    // Snapshot do sports-data-service (conexão ao feed e renovação periódica da janela): remonta todos os feeds ativos
+    public void onSnapshot(List<FixtureEventDto> fixtures, long sequence) {
+        long start = System.nanoTime();
+        int size;
+        windowLock.writeLock().lock();
+        try {
+            window.reset(fixtures, sequence, windowEnd());
+            size = window.size();
+            windowVersion++;
+        } finally {
+            windowLock.writeLock().unlock();
+        }
+        for (ActiveUser user : activeUsers.values()) {
+            refresh(user);
+        }
+        log.info("Janela do feed de partidas carregada: {} partidas, {} feeds ativos remontados em {} ms.",
+                size, activeUsers.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Usuários que não leem o feed há mais de feed.active-ttl-minutes deixam de receber as mudanças
+    @Scheduled(fixedDelayString = "${feed.eviction-interval-ms:60000}")
+    public void evictInactive() {
+        long cutoff = System.currentTimeMillis() - activeTtlMillis;
+        int evicted = 0;
+        synchronized (indexLock) {
+            for (Iterator<ActiveUser> it = activeUsers.values().iterator(); it.hasNext(); ) {
+                ActiveUser user = it.next();
+                if (user.lastReadMillis < cutoff) {
+                    it.remove();
+                    unindex(user);
+                    evicted++;
+                }
+            }
+        }
+        if (evicted > 0) {
+            log.debug("{} feeds inativos descartados; {} ativos.", evicted, activeUsers.size());
+        }
+    }
+
+    // Seleciona o feed com o lock de leitura da janela (em paralelo com outras seleções) e só o publica se
+    // saiu de uma versão da janela mais nova que a do feed atual
+    private void refresh(ActiveUser user) {
+        List<FeedFixtureDto> feed;
+        long version;
+        windowLock.readLock().lock();
+        try {
+            version = windowVersion;
+            feed = window.select(user.teamIds, user.leagueIds, windowStart(), maxItems);
+        } finally {
+            windowLock.readLock().unlock();
+        }
+        synchronized (user) {
+            if (version > user.feedVersion) {
+                user.feedVersion = version;
+                user.feed = feed;
+            }
+        }
+    }
+
+    private int followsStripe(long userId) {
+        int h = Long.hashCode(userId) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & followsVersionMask;
+    }
+
+    private void collectFollowers(FeedFixtureDto fixture, Set<Long> into) {
+        if (fixture == null) {
+            return;
+        }
+        into.addAll(followersOf(teamFollowers, fixture.getHomeTeamId()));
+        into.addAll(followersOf(teamFollowers, fixture.getAwayTeamId()));
+        into.addAll(followersOf(leagueFollowers, fixture.getLeagueId()));
+    }
+
+    private static Set<Long> followersOf(Map<Long, Set<Long>> index, Long targetId) {
+        return targetId == null ? Set.of() : index.getOrDefault(targetId, Set.of());
+    }
+
+    private void index(ActiveUser user) {
+        for (long teamId : user.teamIds) {
+            teamFollowers.computeIfAbsent(teamId, id -> new HashSet<>()).add(user.userId);
+        }
+        for (long leagueId : user.leagueIds) {
+            leagueFollowers.computeIfAbsent(leagueId, id -> new HashSet<>()).add(user.userId);
+        }
+    }
+
+    private void unindex(ActiveUser user) {
+        for (long teamId : user.teamIds) {
+            removeFollower(teamFollowers, teamId, user.userId);
+        }
+        for (long leagueId : user.leagueIds) {
+            removeFollower(leagueFollowers, leagueId, user.userId);
+        }
+    }
+
+    private static void removeFollower(Map<Long, Set<Long>> index, long targetId, long userId) {
+        Set<Long> followers = index.get(targetId);
+        if (followers != null && followers.remove(userId) && followers.isEmpty()) {
+            index.remove(targetId);
+        }
+    }
+
+    private static long[] toSortedArray(List<Long> ids) {
+        long[] array = ids.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(array);
+        return array;
+    }
+}
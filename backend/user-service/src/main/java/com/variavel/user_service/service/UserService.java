@@ -0,0 +1,49 @@
+package com.variavel.user_service.service;
+
+import com.variavel.user_service.domain.User;
+import com.variavel.user_service.dto.CreateUserDto;
+import com.variavel.user_service.dto.UserDto;
+import com.variavel.user_service.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final FriendGraphService friendGraphService;
+
+    public Optional<UserDto> getUser(long id) {
+        return userRepository.findById(id).map(this::mapToDto);
+    }
+
+    // Vazio se o nome de usuário já existe
+    @Transactional
+    public Optional<UserDto> createUser(CreateUserDto request) {
+        if (userRepository.existsByUsername(request.getUsername())) {
+            return Optional.empty();
+        }
+        User user = new User();
+        user.setUsername(request.getUsername());
+        user.setDisplayName(request.getDisplayName());
+        user.setAvatarUrl(request.getAvatarUrl());
+        user.setCreatedAt(Instant.now());
+        return Optional.of(mapToDto(userRepository.save(user)));
+    }
+
+    private UserDto mapToDto(User user) {
+        return UserDto.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .displayName(user.getDisplayName())
+                .avatarUrl(user.getAvatarUrl())
+                .friendCount(friendGraphService.getFriendCount(user.getId()))
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+}
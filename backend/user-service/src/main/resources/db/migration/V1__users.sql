@@ -0,0 +1,21 @@
+-- Usuários da plataforma
+CREATE TABLE users (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    username     VARCHAR(50)  NOT NULL,
+    display_name VARCHAR(100) NOT NULL,
+    avatar_url   VARCHAR(255) NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
+
+-- Amizades (relação simétrica): cada amizade é gravada nas duas direções, então os amigos de um usuário
+-- são lidos pela chave primária, sem OR nem UNION. Carregada inteira em memória pelo FriendGraphService.
+CREATE TABLE friendships (
+    user_id    BIGINT      NOT NULL,
+    friend_id  BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id, friend_id),
+    CONSTRAINT fk_friendships_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_friendships_friend FOREIGN KEY (friend_id) REFERENCES users (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- Times e ligas seguidos por cada usuário (feed "meus jogos"). target_type: TEAM ou LEAGUE; target_id é o ID interno
+-- do sports-data-service. Lida pela chave primária quando o feed do usuário é montado (PersonalFeedService).
+CREATE TABLE user_follows (
+    user_id     BIGINT      NOT NULL,
+    target_type VARCHAR(10) NOT NULL,
+    target_id   BIGINT      NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id, target_type, target_id),
+    CONSTRAINT fk_user_follows_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
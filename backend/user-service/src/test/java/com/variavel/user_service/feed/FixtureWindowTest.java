@@ -0,0 +1,129 @@
+package com.variavel.user_service.feed;
+
+import com.variavel.user_service.dto.FeedFixtureDto;
+import com.variavel.user_service.dto.FixtureEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FixtureWindowTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T12:00:00Z");
+    private static final Instant HORIZON = NOW.plus(Duration.ofDays(7));
+    private static final long LEAGUE = 71L;
+
+    private FixtureWindow window;
+
+    @BeforeEach
+    void setUp() {
+        window = new FixtureWindow();
+    }
+
+    @Test
+    void staleSnapshotDoesNotUndoANewerEvent() {
+        assertTrue(window.apply(event(1L, 10L, "Second Half", true, false, 2, 1), HORIZON));
+
+        // Snapshot lido antes do evento (offset 5): ainda mostra a partida sem placar
+        window.reset(List.of(event(1L, 0L, "Not Started", false, false, null, null)), 5L, HORIZON);
+
+        FeedFixtureDto fixture = window.get(1L);
+        assertTrue(fixture.isLive());
+        assertEquals(2, fixture.getHomeGoals());
+    }
+
+    @Test
+    void snapshotNewerThanTheEventReplacesIt() {
+        window.apply(event(1L, 10L, "First Half", true, false, 0, 0), HORIZON);
+
+        window.reset(List.of(event(1L, 0L, "Second Half", true, false, 1, 0)), 12L, HORIZON);
+
+        assertEquals(1, window.get(1L).getHomeGoals());
+        assertEquals(1, window.size());
+    }
+
+    @Test
+    void olderOrRepeatedEventsAreIgnored() {
+        assertTrue(window.apply(event(1L, 10L, "Second Half", true, false, 1, 0), HORIZON));
+
+        assertFalse(window.apply(event(1L, 10L, "Second Half", true, false, 1, 1), HORIZON));
+        assertFalse(window.apply(event(1L, 9L, "First Half", true, false, 0, 0), HORIZON));
+        assertEquals(0, window.get(1L).getAwayGoals());
+    }
+
+    @Test
+    void finishedFixtureLeavesTheWindowAndStaysOutAfterAStaleSnapshot() {
+        window.apply(event(1L, 10L, "Second Half", true, false, 1, 0), HORIZON);
+        window.apply(event(1L, 11L, "Match Finished", false, true, 1, 0), HORIZON);
+
+        assertNull(window.get(1L));
+        assertTrue(select().isEmpty());
+
+        window.reset(List.of(event(1L, 0L, "Second Half", true, false, 1, 0)), 10L, HORIZON);
+        assertNull(window.get(1L));
+    }
+
+    @Test
+    void usesTheLiveAndFinishedFlagsInsteadOfTheStatusText() {
+        // Status que o user-service não conhece: vale o que o sports-data-service informou
+        window.apply(event(1L, 1L, "Some New Live Status", true, false, 0, 0), HORIZON);
+        window.apply(event(2L, 2L, "Match Abandoned", false, true, null, null), HORIZON);
+
+        assertTrue(window.get(1L).isLive());
+        assertNull(window.get(2L));
+    }
+
+    @Test
+    void fixturesBeyondTheHorizonAreNotKept() {
+        FixtureEventDto later = event(1L, 1L, "Not Started", false, false, null, null);
+        later.setDate(HORIZON.plusSeconds(1));
+
+        window.apply(later, HORIZON);
+
+        assertNull(window.get(1L));
+        assertEquals(0, window.size());
+    }
+
+    @Test
+    void selectPutsLiveFixturesFirstAndSkipsOverdueOnes() {
+        FixtureEventDto upcoming = event(1L, 1L, "Not Started", false, false, null, null);
+        upcoming.setDate(NOW.plus(Duration.ofHours(2)));
+        FixtureEventDto live = event(2L, 2L, "First Half", true, false, 0, 0);
+        live.setDate(NOW.minus(Duration.ofMinutes(30)));
+        FixtureEventDto overdue = event(3L, 3L, "Not Started", false, false, null, null);
+        overdue.setDate(NOW.minus(Duration.ofHours(8)));
+        window.reset(List.of(upcoming, live, overdue), 3L, HORIZON);
+
+        List<Long> selected = select().stream().map(FeedFixtureDto::getFixtureId).toList();
+
+        assertEquals(List.of(2L, 1L), selected);
+    }
+
+    private List<FeedFixtureDto> select() {
+        return window.select(new long[0], new long[]{LEAGUE}, NOW.minus(Duration.ofHours(6)), 10);
+    }
+
+    private static FixtureEventDto event(long fixtureId, long sequence, String status, boolean live, boolean finished,
+                                         Integer homeGoals, Integer awayGoals) {
+        FixtureEventDto event = new FixtureEventDto();
+        event.setSequence(sequence);
+        event.setFixtureId(fixtureId);
+        event.setLeagueId(LEAGUE);
+        event.setHomeTeamId(fixtureId * 10);
+        event.setAwayTeamId(fixtureId * 10 + 1);
+        event.setDate(NOW);
+        event.setStatus(status);
+        event.setHomeGoals(homeGoals);
+        event.setAwayGoals(awayGoals);
+        event.setLive(live);
+        event.setFinished(finished);
+        return event;
+    }
+}
@@ -0,0 +1,101 @@
+package com.variavel.user_service.graph;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FriendGraphTest {
+
+    private FriendGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        graph = new FriendGraph(16);
+    }
+
+    @Test
+    void addIsSymmetricAndKeepsListsSorted() {
+        graph.add(1L, 30L);
+        graph.add(1L, 10L);
+        graph.add(20L, 1L);
+
+        assertArrayEquals(new long[]{10L, 20L, 30L}, graph.friendsOf(1L));
+        assertArrayEquals(new long[]{1L}, graph.friendsOf(20L));
+        assertTrue(graph.areFriends(30L, 1L));
+    }
+
+    @Test
+    void addingTheSameFriendshipTwiceKeepsTheDegree() {
+        graph.add(1L, 2L);
+        long[] friends = graph.friendsOf(1L);
+        graph.add(2L, 1L);
+
+        assertEquals(1, graph.degree(1L));
+        assertEquals(1, graph.degree(2L));
+        assertSame(friends, graph.friendsOf(1L)); // Nada mudou: o array publicado é o mesmo
+    }
+
+    @Test
+    void removeUpdatesBothSidesAndDropsUsersWithoutFriends() {
+        graph.add(1L, 2L);
+        graph.add(1L, 3L);
+
+        graph.remove(2L, 1L);
+
+        assertArrayEquals(new long[]{3L}, graph.friendsOf(1L));
+        assertEquals(0, graph.degree(2L));
+        assertFalse(graph.areFriends(1L, 2L));
+        assertEquals(2, graph.userCount()); // 1 e 3; o usuário 2 saiu do mapa
+    }
+
+    @Test
+    void removingAnUnknownFriendshipChangesNothing() {
+        graph.add(1L, 2L);
+
+        graph.remove(1L, 3L);
+
+        assertArrayEquals(new long[]{2L}, graph.friendsOf(1L));
+        assertEquals(0, graph.degree(3L));
+    }
+
+    @Test
+    void degreeCountsEachFriendOnce() {
+        for (long friendId = 2L; friendId <= 6L; friendId++) {
+            graph.add(1L, friendId);
+        }
+        graph.add(1L, 4L);
+
+        assertEquals(5, graph.degree(1L));
+        assertEquals(1, graph.degree(4L));
+        assertEquals(0, graph.degree(99L));
+    }
+
+    @Test
+    void friendsOfFriendsAreNotFriends() {
+        graph.add(1L, 2L);
+        graph.add(2L, 3L);
+
+        // 3 aparece para 1 só através da lista do amigo em comum
+        assertFalse(graph.areFriends(1L, 3L));
+        assertArrayEquals(new long[]{2L}, graph.friendsOf(1L));
+        assertArrayEquals(new long[]{1L, 3L}, graph.friendsOf(graph.friendsOf(1L)[0]));
+    }
+
+    @Test
+    void loadReplacesTheListAndClearEmptiesTheGraph() {
+        graph.add(1L, 2L);
+        graph.load(1L, new long[]{5L, 7L});
+
+        assertArrayEquals(new long[]{5L, 7L}, graph.friendsOf(1L));
+        assertTrue(graph.areFriends(1L, 7L));
+
+        graph.clear();
+        assertEquals(0, graph.userCount());
+        assertEquals(0, graph.degree(1L));
+    }
+}
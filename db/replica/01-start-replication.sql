@@ -0,0 +1,10 @@
+-- Executado uma única vez, na criação do volume da réplica (docker compose --profile replica up).
+-- Usa o root do primário para replicar; em produção, crie um usuário só com REPLICATION SLAVE.
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql_db',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'root_password',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;